@@ -0,0 +1,40 @@
+#!/bin/bash
+
+# Build a class-data-sharing (CDS) archive for the packaged application
+# Usage: ./build-cds.sh [extra spring args]
+# Produces target/cds/ (exploded app) and target/cds/app.jsa; run the result with:
+#   java -XX:SharedArchiveFile=target/cds/app.jsa -cp "target/cds/classes:target/cds/lib/*" \
+#        com.employee.management.EmployeeManagementApplication --spring.profiles.active=prod
+# Add -Dspring.aot.enabled=true when the jar was built with -Paot
+
+set -e
+
+JAR=$(ls target/employee-backend-*.jar 2>/dev/null | grep -v original | head -1)
+CDS_DIR=target/cds
+MAIN_CLASS=com.employee.management.EmployeeManagementApplication
+
+if [ -z "$JAR" ]; then
+    echo "No jar found in target/. Build it first with: mvn -B package -DskipTests [-Paot]"
+    exit 1
+fi
+
+# CDS needs plain jars on the classpath, so explode the fat jar
+rm -rf "$CDS_DIR"
+mkdir -p "$CDS_DIR/unpacked"
+(cd "$CDS_DIR/unpacked" && jar -xf "../../../$JAR")
+mv "$CDS_DIR/unpacked/BOOT-INF/classes" "$CDS_DIR/classes"
+mv "$CDS_DIR/unpacked/BOOT-INF/lib" "$CDS_DIR/lib"
+rm -rf "$CDS_DIR/unpacked"
+
+AOT_FLAG=""
+if ls "$CDS_DIR/classes"/com/employee/management/*__BeanFactoryRegistrations.class > /dev/null 2>&1; then
+    AOT_FLAG="-Dspring.aot.enabled=true"
+fi
+
+# Training run: start the context, then exit right after refresh and dump the archive
+java -XX:ArchiveClassesAtExit="$CDS_DIR/app.jsa" \
+    -Dspring.context.exit=onRefresh $AOT_FLAG \
+    -cp "$CDS_DIR/classes:$CDS_DIR/lib/*" "$MAIN_CLASS" \
+    --spring.profiles.active=prod "$@"
+
+echo "CDS archive written to $CDS_DIR/app.jsa"
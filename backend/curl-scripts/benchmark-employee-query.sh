@@ -0,0 +1,40 @@
+#!/bin/bash
+
+# Measure latency of the in-memory employee query endpoint
+# Seed a large table first with database/sql-scripts/seed-synthetic-employees.sql
+# Usage: ./benchmark-employee-query.sh [iterations]
+
+API_BASE_URL="http://localhost:8081/api/v1/employees/query"
+
+ITERATIONS=${1:-50}
+
+measure() {
+    local label=$1
+    local body=$2
+    local total_time=0
+
+    # Warm up so JIT compilation is not counted
+    for ((i = 1; i <= 5; i++)); do
+        curl -s -o /dev/null -X POST -H "Content-Type: application/json" -d "$body" "$API_BASE_URL"
+    done
+
+    local engine_micros=0
+    for ((i = 1; i <= ITERATIONS; i++)); do
+        response=$(curl -s -X POST -H "Content-Type: application/json" -d "$body" \
+            -w "\n%{time_total}" "$API_BASE_URL")
+        time=$(echo "$response" | tail -n 1)
+        took=$(echo "$response" | head -n -1 | grep -o '"tookMicros":[0-9]*' | cut -d: -f2)
+        total_time=$(echo "$total_time + $time" | bc -l)
+        engine_micros=$((engine_micros + ${took:-0}))
+    done
+
+    printf "%-28s avg_http=%.4fs avg_engine=%dus\n" "$label" \
+        "$(echo "$total_time / $ITERATIONS" | bc -l)" "$((engine_micros / ITERATIONS))"
+}
+
+echo "Iterations: $ITERATIONS"
+
+measure "no filter, sort lastName" '{"limit": 50}'
+measure "department + salary range" '{"departments": ["Engineering"], "minSalary": 80000, "maxSalary": 120000, "sortBy": "salary", "sortDirection": "DESC"}'
+measure "hire window + position" '{"positions": ["Engineer", "Senior Engineer"], "hiredFrom": "2015-01-01", "hiredTo": "2018-12-31", "sortBy": "hireDate"}'
+measure "all filters, deep page" '{"departments": ["Sales", "Support"], "minSalary": 50000, "hiredFrom": "2010-01-01", "sortBy": "id", "offset": 900, "limit": 100}'
@@ -0,0 +1,53 @@
+#!/bin/bash
+
+# Compare perceived latency of browsing pages forward with and without next-page prefetch
+# Start one instance with APP_EMPLOYEE_PREFETCH_ENABLED=false and one with =true (e.g. SERVER_PORT=8082),
+# seed a large table first with database/sql-scripts/seed-synthetic-employees.sql
+# Usage: ./benchmark-page-prefetch.sh [pages] [think-time-seconds] [baseline-url] [prefetch-url]
+
+PAGES=${1:-20}
+THINK_TIME=${2:-0.3}
+BASELINE_URL=${3:-"http://localhost:8081/api"}
+PREFETCH_URL=${4:-"http://localhost:8082/api"}
+PAGE_SIZE=50
+
+browse() {
+    local label=$1
+    local base=$2
+    local total_time=0
+    local max_time=0
+
+    for ((page = 0; page < PAGES; page++)); do
+        time=$(curl -s -o /dev/null -w "%{time_total}" \
+            "$base/v1/employees/paginated?page=$page&size=$PAGE_SIZE&sortBy=lastName&sortDirection=asc")
+        total_time=$(echo "$total_time + $time" | bc -l)
+        if (( $(echo "$time > $max_time" | bc -l) )); then
+            max_time=$time
+        fi
+        # Time spent reading the page is what gives the prefetch a head start
+        sleep "$THINK_TIME"
+    done
+
+    for ((page = 0; page < PAGES; page++)); do
+        time=$(curl -s -o /dev/null -w "%{time_total}" -X POST -H "Content-Type: application/json" \
+            -d "{\"department\": \"Engineering\", \"page\": $page, \"size\": $PAGE_SIZE}" \
+            "$base/v1/employees/search")
+        total_time=$(echo "$total_time + $time" | bc -l)
+        if (( $(echo "$time > $max_time" | bc -l) )); then
+            max_time=$time
+        fi
+        sleep "$THINK_TIME"
+    done
+
+    printf "%-10s avg=%.4fs max=%.4fs\n" "$label" \
+        "$(echo "$total_time / ($PAGES * 2)" | bc -l)" "$max_time"
+}
+
+echo "Pages per query: $PAGES, think time: ${THINK_TIME}s"
+
+browse "baseline" "$BASELINE_URL"
+browse "prefetch" "$PREFETCH_URL"
+
+echo
+echo "Prefetch hit ratio:"
+curl -s "$PREFETCH_URL/actuator/metrics/page_prefetch.hit_ratio" | jq '.measurements[0].value'
@@ -0,0 +1,65 @@
+#!/bin/bash
+
+# Sweep Hikari pool size and Hibernate batch size against write and search workloads
+# Starts the packaged jar once per combination with the perf profile, then drives load with curl
+# Usage: ./benchmark-pool-sweep.sh [requests] [concurrency]
+# Run from the backend directory after: mvn -B package -DskipTests
+
+JAR=$(ls target/employee-backend-*.jar 2>/dev/null | head -1)
+API_BASE_URL="http://localhost:8081/api/v1/employees"
+
+REQUESTS=${1:-2000}
+CONCURRENCY=${2:-32}
+POOL_SIZES=${POOL_SIZES:-"8 16 24 32"}
+BATCH_SIZES=${BATCH_SIZES:-"1 25 50 100"}
+
+if [ -z "$JAR" ]; then
+    echo "No jar found in target/. Build it first with: mvn -B package -DskipTests"
+    exit 1
+fi
+
+wait_for_startup() {
+    for _ in $(seq 1 60); do
+        curl -s -o /dev/null "$API_BASE_URL/health" && return 0
+        sleep 1
+    done
+    return 1
+}
+
+# Runs REQUESTS calls with CONCURRENCY parallel curls and prints requests/second
+run_load() {
+    local label=$1
+    local command=$2
+    local start end
+    start=$(date +%s.%N)
+    seq 1 "$REQUESTS" | xargs -P "$CONCURRENCY" -I{} sh -c "$command" > /dev/null
+    end=$(date +%s.%N)
+    printf "%-8s %8.1f req/s\n" "$label" "$(echo "$REQUESTS / ($end - $start)" | bc -l)"
+}
+
+RUN_ID=$(date +%s)
+
+for pool in $POOL_SIZES; do
+    for batch in $BATCH_SIZES; do
+        echo "=== pool=$pool batch=$batch ==="
+        java -jar "$JAR" --spring.profiles.active=perf \
+            --spring.datasource.hikari.maximum-pool-size="$pool" \
+            --spring.datasource.hikari.minimum-idle="$pool" \
+            --spring.jpa.properties.hibernate.jdbc.batch_size="$batch" > /dev/null 2>&1 &
+        APP_PID=$!
+
+        if ! wait_for_startup; then
+            echo "Application failed to start"
+            kill $APP_PID 2>/dev/null
+            exit 1
+        fi
+
+        run_load "write" "curl -s -X POST '$API_BASE_URL' -H 'Content-Type: application/json' \
+            -d '{\"firstName\":\"Bench\",\"lastName\":\"User{}\",\"email\":\"bench.$RUN_ID.$pool.$batch.{}@example.com\",\"department\":\"Engineering\",\"position\":\"Engineer\",\"salary\":50000}'"
+        run_load "search" "curl -s -X POST '$API_BASE_URL/search' -H 'Content-Type: application/json' \
+            -d '{\"searchTerm\":\"user\",\"page\":0,\"size\":20}'"
+
+        kill $APP_PID
+        wait $APP_PID 2>/dev/null
+    done
+done
@@ -0,0 +1,34 @@
+#!/bin/bash
+
+# Measure monthly report generation time as parallelism grows from 1 to 16
+# To pin the server to N cores, start it with: taskset -c 0-$((N-1)) java -XX:ActiveProcessorCount=N -jar ...
+# Seed a large table first with database/sql-scripts/seed-synthetic-employees.sql
+# Usage: ./benchmark-report-scaling.sh [partitionBy] [iterations]
+
+API_BASE_URL="http://localhost:8081/api/v1/reports/monthly"
+
+PARTITION_BY=${1:-id-range}
+ITERATIONS=${2:-3}
+
+echo "Partitioning: $PARTITION_BY, iterations: $ITERATIONS"
+
+# Warm up once so JIT compilation and pool start-up are not counted
+curl -s -o /dev/null "$API_BASE_URL?partitionBy=$PARTITION_BY&parallelism=4"
+
+baseline=""
+for parallelism in 1 2 4 8 16; do
+    total_time=0
+    bytes=0
+    for ((i = 1; i <= ITERATIONS; i++)); do
+        read -r size time < <(curl -s -o /dev/null -w "%{size_download} %{time_total}\n" \
+            "$API_BASE_URL?partitionBy=$PARTITION_BY&parallelism=$parallelism")
+        bytes=$size
+        total_time=$(echo "$total_time + $time" | bc -l)
+    done
+    avg=$(echo "$total_time / $ITERATIONS" | bc -l)
+    if [ -z "$baseline" ]; then
+        baseline=$avg
+    fi
+    printf "parallelism=%-3s bytes=%-11s avg_time=%.3fs speedup=%.2fx\n" \
+        "$parallelism" "$bytes" "$avg" "$(echo "$baseline / $avg" | bc -l)"
+done
@@ -0,0 +1,35 @@
+#!/bin/bash
+
+# Measure time-to-warm of the employee query snapshot after a restart, cold versus from a persisted snapshot
+# Seed a large table first with database/sql-scripts/seed-synthetic-employees.sql and run the backend with
+# APP_EMPLOYEE_QUERY_SNAPSHOT_ENABLED=true.
+#   Cold: stop the app, rm backend/data/employee-query.snapshot, start it and run this script immediately
+#   Warm: stop the app (a snapshot is written on shutdown), start it and run this script immediately
+# Usage: ./benchmark-warm-restart.sh [timeout-seconds]
+
+API_BASE_URL="http://localhost:8081/api"
+TIMEOUT=${1:-300}
+
+start=$(date +%s.%N)
+
+# Until the snapshot is loaded the query endpoint answers 500 ("still loading")
+while true; do
+    status=$(curl -s -o /dev/null -w "%{http_code}" -X POST -H "Content-Type: application/json" \
+        -d '{"limit": 1}' "$API_BASE_URL/v1/employees/query")
+    if [ "$status" = "200" ]; then
+        break
+    fi
+    if (( $(echo "$(date +%s.%N) - $start > $TIMEOUT" | bc -l) )); then
+        echo "Query endpoint not ready after ${TIMEOUT}s (last status $status)"
+        exit 1
+    fi
+    sleep 0.1
+done
+
+printf "Query endpoint ready after %.2fs\n" "$(echo "$(date +%s.%N) - $start" | bc -l)"
+
+for source in snapshot database; do
+    seconds=$(curl -s "$API_BASE_URL/actuator/metrics/employee_query.warmup?tag=source:$source" \
+        | jq -r '.measurements[] | select(.statistic == "MAX") | .value' 2>/dev/null)
+    printf "Load from %-8s %s\n" "$source:" "${seconds:-n/a}s"
+done
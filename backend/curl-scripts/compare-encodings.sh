@@ -0,0 +1,37 @@
+#!/bin/bash
+
+# Compare bytes on the wire and response time per encoding for a large page
+# Usage: ./compare-encodings.sh [page_size] [iterations]
+
+API_BASE_URL="http://localhost:8081/api/v1/employees"
+
+PAGE_SIZE=${1:-1000}
+ITERATIONS=${2:-20}
+URL="$API_BASE_URL/paginated?page=0&size=$PAGE_SIZE"
+
+measure() {
+    local label=$1
+    shift
+    local total_time=0
+    local bytes=0
+
+    # Warm up once so the first-request cost is not counted
+    curl -s -o /dev/null "$@" "$URL"
+
+    for ((i = 1; i <= ITERATIONS; i++)); do
+        read -r size time < <(curl -s -o /dev/null -w "%{size_download} %{time_total}\n" "$@" "$URL")
+        bytes=$size
+        total_time=$(echo "$total_time + $time" | bc -l)
+    done
+
+    printf "%-12s bytes=%-10s avg_time=%.4fs\n" "$label" "$bytes" "$(echo "$total_time / $ITERATIONS" | bc -l)"
+}
+
+echo "Page size: $PAGE_SIZE, iterations: $ITERATIONS"
+
+measure "json" -H "Accept: application/json"
+measure "json+gzip" -H "Accept: application/json" -H "Accept-Encoding: gzip"
+measure "cbor" -H "Accept: application/cbor"
+measure "cbor+gzip" -H "Accept: application/cbor" -H "Accept-Encoding: gzip"
+measure "smile" -H "Accept: application/x-jackson-smile"
+measure "smile+gzip" -H "Accept: application/x-jackson-smile" -H "Accept-Encoding: gzip"
@@ -0,0 +1,33 @@
+#!/bin/bash
+
+# Compare payload size and latency of full vs sparse fieldset pages
+# Usage: ./compare-sparse-fieldsets.sh [page_size] [fields] [iterations]
+
+API_BASE_URL="http://localhost:8081/api/v1/employees"
+
+PAGE_SIZE=${1:-1000}
+FIELDS=${2:-id,fullName,department}
+ITERATIONS=${3:-20}
+
+measure() {
+    local label=$1
+    local url=$2
+    local total_time=0
+    local bytes=0
+
+    # Warm up once so the first-request cost is not counted
+    curl -s -o /dev/null "$url"
+
+    for ((i = 1; i <= ITERATIONS; i++)); do
+        read -r size time < <(curl -s -o /dev/null -w "%{size_download} %{time_total}\n" "$url")
+        bytes=$size
+        total_time=$(echo "$total_time + $time" | bc -l)
+    done
+
+    printf "%-8s bytes=%-10s avg_time=%.4fs\n" "$label" "$bytes" "$(echo "$total_time / $ITERATIONS" | bc -l)"
+}
+
+echo "Page size: $PAGE_SIZE, fields: $FIELDS, iterations: $ITERATIONS"
+
+measure "full" "$API_BASE_URL/paginated?page=0&size=$PAGE_SIZE"
+measure "sparse" "$API_BASE_URL/paginated?page=0&size=$PAGE_SIZE&fields=$FIELDS"
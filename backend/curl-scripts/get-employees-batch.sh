@@ -0,0 +1,20 @@
+#!/bin/bash
+
+# Get Employees by IDs - GET /api/v1/employees/batch?ids=...
+# Usage: ./get-employees-batch.sh <id> [id ...]
+
+API_BASE_URL="http://localhost:8081/api/v1/employees"
+
+# Check if at least one employee ID is provided
+if [ $# -eq 0 ]; then
+    echo "Usage: $0 <employee_id> [employee_id ...]"
+    echo "Example: $0 1 2 3"
+    exit 1
+fi
+
+IDS=$(IFS=,; echo "$*")
+
+echo "Fetching employees with IDs: $IDS..."
+
+curl -X GET "$API_BASE_URL/batch?ids=$IDS" \
+  -H "Content-Type: application/json" | jq .
@@ -1,7 +1,8 @@
 #!/bin/bash
 
 # Get Employees by Department - GET /api/v1/employees/department/{department}
-# Usage: ./get-employees-by-department.sh [department_name]
+# Usage: ./get-employees-by-department.sh [department_name] [asOf]
+# asOf (ISO date or date-time) reads the department as it stood then, from the employee history
 
 API_BASE_URL="http://localhost:8081/api/v1/employees"
 
@@ -10,15 +11,17 @@ if [ $# -eq 0 ]; then
     echo "Usage: $0 <department_name>"
     echo "Example: $0 Engineering"
     echo "Example: $0 'Human Resources'"
+    echo "Example: $0 Engineering 2023-06-30"
     exit 1
 fi
 
 DEPARTMENT=$1
+AS_OF=$2
 
-echo "Fetching employees in department: $DEPARTMENT..."
+echo "Fetching employees in department: $DEPARTMENT${AS_OF:+ as of $AS_OF}..."
 
 # URL encode the department name
 ENCODED_DEPARTMENT=$(echo "$DEPARTMENT" | sed 's/ /%20/g')
 
-curl -X GET "$API_BASE_URL/department/$ENCODED_DEPARTMENT" \
+curl -X GET "$API_BASE_URL/department/$ENCODED_DEPARTMENT${AS_OF:+?asOf=$AS_OF}" \
   -H "Content-Type: application/json" | jq .
\ No newline at end of file
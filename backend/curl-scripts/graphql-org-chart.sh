@@ -0,0 +1,32 @@
+#!/bin/bash
+
+# Query an employee with manager chain and direct reports - POST /api/graphql
+# Usage: ./graphql-org-chart.sh <employee_id> [asOf]
+# asOf (ISO date or date-time) returns the org chart as it stood then, from the employee history
+
+API_BASE_URL="http://localhost:8081/api/graphql"
+
+# Check if employee ID is provided
+if [ $# -eq 0 ]; then
+    echo "Usage: $0 <employee_id>"
+    echo "Example: $0 1"
+    echo "Example: $0 1 2023-06-30"
+    exit 1
+fi
+
+EMPLOYEE_ID=$1
+AS_OF=$2
+
+QUERY='query OrgChart($id: ID!, $asOf: String) { employee(id: $id, asOf: $asOf) { id fullName department manager { id fullName manager { id fullName } } directReports { id fullName position directReports { id fullName } } } }'
+
+if [ -n "$AS_OF" ]; then
+    VARIABLES="{\"id\": \"$EMPLOYEE_ID\", \"asOf\": \"$AS_OF\"}"
+else
+    VARIABLES="{\"id\": \"$EMPLOYEE_ID\"}"
+fi
+
+echo "Fetching org chart for employee ID: $EMPLOYEE_ID${AS_OF:+ as of $AS_OF}..."
+
+curl -X POST "$API_BASE_URL" \
+  -H "Content-Type: application/json" \
+  -d "{\"query\": \"$QUERY\", \"variables\": $VARIABLES}" | jq .
@@ -0,0 +1,33 @@
+#!/bin/bash
+
+# Record a Flight Recorder session around some traffic, download it and print the offline summary
+# Run the backend with --spring.profiles.active=jfr and build it first (mvn compile) for the analyzer
+# Usage: ./jfr-record-and-analyze.sh [requests] [settings]
+
+API_BASE_URL="http://localhost:8081/api"
+# The jfr profile serves actuator on a loopback-only management port
+MANAGEMENT_URL="http://127.0.0.1:8082"
+REQUESTS=${1:-200}
+SETTINGS=${2:-profile}
+NAME="script-$(date +%s)"
+OUTPUT="/tmp/$NAME.jfr"
+CLASSES="$(dirname "$0")/../target/classes"
+
+echo "Starting recording $NAME ($SETTINGS settings)"
+curl -s -X POST -H "Content-Type: application/json" \
+    -d "{\"name\": \"$NAME\", \"maxAgeSeconds\": 600, \"settings\": \"$SETTINGS\"}" \
+    "$MANAGEMENT_URL/actuator/flightrecorder" | jq .
+
+echo "Sending $REQUESTS requests"
+for ((i = 1; i <= REQUESTS; i++)); do
+    curl -s -o /dev/null "$API_BASE_URL/v1/employees/paginated?page=$((i % 10))&size=20"
+    curl -s -o /dev/null "$API_BASE_URL/v1/employees/$(( (i % 50) + 1 ))"
+    curl -s -o /dev/null -X POST -H "Content-Type: application/json" \
+        -d '{"department": "Engineering", "size": 20}' "$API_BASE_URL/v1/employees/search"
+done
+
+echo "Dumping to $OUTPUT"
+curl -s -o "$OUTPUT" "$MANAGEMENT_URL/actuator/flightrecorder/$NAME"
+curl -s -o /dev/null -X DELETE "$MANAGEMENT_URL/actuator/flightrecorder/$NAME"
+
+java -cp "$CLASSES" com.employee.management.diagnostics.FlightRecordingAnalyzer "$OUTPUT" 15
@@ -0,0 +1,62 @@
+#!/bin/bash
+
+# Flood expensive endpoints and measure cheap-endpoint latency at the same time
+# Run once with throttling on and once with APP_THROTTLING_ENABLED=false to compare p99
+# Usage: ./load-test-overload.sh [flood_workers] [duration_seconds] [cheap_samples]
+
+API_BASE_URL="http://localhost:8081/api"
+
+FLOOD_WORKERS=${1:-64}
+DURATION=${2:-30}
+CHEAP_SAMPLES=${3:-300}
+STATUS_LOG=$(mktemp)
+
+flood() {
+    local worker=$1
+    local end=$((SECONDS + DURATION))
+    while [ $SECONDS -lt $end ]; do
+        # Each worker is a separate client so per-client buckets alone cannot absorb the flood
+        curl -s -o /dev/null -w "%{http_code}\n" -H "X-Client-Id: flood-$worker" "$API_BASE_URL/v1/employees"
+        curl -s -o /dev/null -w "%{http_code}\n" -H "X-Client-Id: flood-$worker" \
+            -X POST -H "Content-Type: application/json" -d '{"searchTerm": "", "size": 1000}' \
+            "$API_BASE_URL/v1/employees/search"
+    done >> "$STATUS_LOG"
+}
+
+percentiles() {
+    local label=$1
+    local file=$2
+    sort -n "$file" -o "$file"
+    local count
+    count=$(wc -l < "$file")
+    local p50 p99
+    p50=$(sed -n "$(( (count * 50 + 99) / 100 ))p" "$file")
+    p99=$(sed -n "$(( (count * 99 + 99) / 100 ))p" "$file")
+    printf "%-22s samples=%-5s p50=%.4fs p99=%.4fs\n" "$label" "$count" "$p50" "$p99"
+}
+
+echo "Flooding with $FLOOD_WORKERS workers for ${DURATION}s"
+for ((w = 1; w <= FLOOD_WORKERS; w++)); do
+    flood "$w" &
+done
+
+sleep 2
+BY_ID=$(mktemp)
+HEALTH=$(mktemp)
+for ((i = 1; i <= CHEAP_SAMPLES; i++)); do
+    curl -s -o /dev/null -w "%{time_total}\n" -H "X-Client-Id: cheap" "$API_BASE_URL/v1/employees/1" >> "$BY_ID"
+    curl -s -o /dev/null -w "%{time_total}\n" "$API_BASE_URL/actuator/health" >> "$HEALTH"
+done
+
+wait
+
+percentiles "GET /v1/employees/{id}" "$BY_ID"
+percentiles "GET /actuator/health" "$HEALTH"
+echo "Flood responses by status:"
+sort "$STATUS_LOG" | uniq -c
+
+echo "Server-side counters:"
+curl -s "$API_BASE_URL/actuator/metrics/throttling.requests.rejected"; echo
+curl -s "$API_BASE_URL/actuator/metrics/throttling.concurrency.limit"; echo
+
+rm -f "$STATUS_LOG" "$BY_ID" "$HEALTH"
@@ -0,0 +1,62 @@
+#!/bin/bash
+
+# Check that a write on one instance is visible in another instance's local caches
+# Start two instances against the same database first, e.g.:
+#   mvn spring-boot:run
+#   mvn spring-boot:run -Dspring-boot.run.arguments=--server.port=8082
+# Usage: ./test-cache-coherence.sh [node_a_url] [node_b_url]
+
+NODE_A=${1:-http://localhost:8081/api}
+NODE_B=${2:-http://localhost:8082/api}
+DEPARTMENT="Coherence-$(date +%s)"
+EMAIL="coherence.$(date +%s)@example.com"
+FAILURES=0
+
+check() {
+    local label=$1
+    local expected=$2
+    local actual=$3
+    if [ "$expected" == "$actual" ]; then
+        echo "PASS $label"
+    else
+        echo "FAIL $label: expected '$expected', got '$actual'"
+        FAILURES=$((FAILURES + 1))
+    fi
+}
+
+query_count() {
+    curl -s -X POST -H "Content-Type: application/json" \
+        -d "{\"departments\": [\"$DEPARTMENT\"]}" "$1/v1/employees/query" \
+        | grep -o '"totalMatches":[0-9]*' | cut -d: -f2
+}
+
+# Warm node B's caches so a stale entry would be served if invalidation failed
+curl -s -o /dev/null "$NODE_B/v1/employees/departments"
+check "node B starts without the department" "0" "$(query_count "$NODE_B")"
+
+echo "Creating employee in $DEPARTMENT on node A"
+ID=$(curl -s -X POST -H "Content-Type: application/json" \
+    -d "{\"firstName\": \"Cache\", \"lastName\": \"Coherence\", \"email\": \"$EMAIL\", \"department\": \"$DEPARTMENT\", \"position\": \"Tester\", \"salary\": 50000}" \
+    "$NODE_A/v1/employees" | grep -o '"id":[0-9]*' | head -1 | cut -d: -f2)
+sleep 1
+
+check "node B query snapshot sees the new employee" "1" "$(query_count "$NODE_B")"
+check "node B department cache was evicted" "1" \
+    "$(curl -s "$NODE_B/v1/employees/departments" | grep -c "$DEPARTMENT")"
+check "node B analytics include the department" "200" \
+    "$(curl -s -o /dev/null -w "%{http_code}" "$NODE_B/v1/analytics/departments/$DEPARTMENT")"
+check "node B rejects the duplicate email" "409" \
+    "$(curl -s -o /dev/null -w "%{http_code}" -X POST -H "Content-Type: application/json" \
+        -d "{\"firstName\": \"Dup\", \"lastName\": \"Email\", \"email\": \"$EMAIL\", \"department\": \"$DEPARTMENT\", \"position\": \"Tester\", \"salary\": 50000}" \
+        "$NODE_B/v1/employees")"
+
+echo "Deleting employee $ID on node B"
+curl -s -o /dev/null -X DELETE "$NODE_B/v1/employees/$ID"
+sleep 1
+
+check "node A query snapshot drops the employee" "0" "$(query_count "$NODE_A")"
+check "node A analytics drop the department" "404" \
+    "$(curl -s -o /dev/null -w "%{http_code}" "$NODE_A/v1/analytics/departments/$DEPARTMENT")"
+
+echo "$FAILURES failure(s)"
+exit $FAILURES
@@ -0,0 +1,58 @@
+#!/bin/bash
+
+# Check near-duplicate detection on create, bulk import and the batch report
+# Usage: ./test-duplicate-detection.sh [api_url]
+
+API=${1:-http://localhost:8081/api}
+RUN=$(date +%s)
+LAST_NAME="Dedupe$RUN"
+FAILURES=0
+
+check() {
+    local label=$1
+    local expected=$2
+    local actual=$3
+    if [ "$expected" == "$actual" ]; then
+        echo "PASS $label"
+    else
+        echo "FAIL $label: expected '$expected', got '$actual'"
+        FAILURES=$((FAILURES + 1))
+    fi
+}
+
+echo "Creating $LAST_NAME"
+ID=$(curl -s -X POST -H "Content-Type: application/json" \
+    -d "{\"firstName\": \"Jonathan\", \"lastName\": \"$LAST_NAME\", \"email\": \"jonathan.$RUN@example.com\", \"phone\": \"+1-555-0199\", \"department\": \"QA\", \"position\": \"Tester\", \"salary\": 50000}" \
+    "$API/v1/employees" | grep -o '"id":[0-9]*' | head -1 | cut -d: -f2)
+
+# Same person: accent, +tag on the email, different phone formatting
+check "check finds the same person with another email format" "$ID" \
+    "$(curl -s -X POST -H "Content-Type: application/json" \
+        -d "{\"firstName\": \"Jonathán\", \"lastName\": \"$LAST_NAME\", \"email\": \"Jonathan.$RUN+hr@example.org\", \"phone\": \"(555) 0199\"}" \
+        "$API/v1/employees/duplicates/check" | grep -o '"id":[0-9]*' | head -1 | cut -d: -f2)"
+check "check ignores a different person" "" \
+    "$(curl -s -X POST -H "Content-Type: application/json" \
+        -d "{\"firstName\": \"Priya\", \"lastName\": \"Unrelated$RUN\", \"email\": \"priya.$RUN@example.com\"}" \
+        "$API/v1/employees/duplicates/check" | grep -o '"id":[0-9]*' | head -1 | cut -d: -f2)"
+
+echo "Importing one duplicate, one new row and a repeat of the new row"
+IMPORT=$(curl -s -X POST -H "Content-Type: application/json" -d "[
+    {\"firstName\": \"Jonathan\", \"lastName\": \"$LAST_NAME\", \"email\": \"j.$RUN@example.net\", \"phone\": \"555-0199\", \"department\": \"QA\", \"position\": \"Tester\", \"salary\": 50000},
+    {\"firstName\": \"Maria\", \"lastName\": \"$LAST_NAME\", \"email\": \"maria.$RUN@example.com\", \"phone\": \"555-0177\", \"department\": \"QA\", \"position\": \"Tester\", \"salary\": 50000},
+    {\"firstName\": \"María\", \"lastName\": \"$LAST_NAME\", \"email\": \"maria.$RUN+2@example.com\", \"phone\": \"+1 555 0177\", \"department\": \"QA\", \"position\": \"Tester\", \"salary\": 50000}
+  ]" "$API/v1/employees/import")
+check "import creates only the new row" "1" "$(echo "$IMPORT" | grep -o '"created":[0-9]*' | cut -d: -f2)"
+check "import skips the existing and the in-file duplicate" "2" \
+    "$(echo "$IMPORT" | grep -o '"skippedDuplicates":[0-9]*' | cut -d: -f2)"
+
+# With app.employee.dedupe.on-create=warn a direct create is allowed, and the report must pair it up
+DUP_ID=$(curl -s -X POST -H "Content-Type: application/json" \
+    -d "{\"firstName\": \"Jonathan\", \"lastName\": \"$LAST_NAME\", \"email\": \"jonathan.$RUN@example.org\", \"phone\": \"5550199\", \"department\": \"QA\", \"position\": \"Tester\", \"salary\": 50000}" \
+    "$API/v1/employees" | grep -o '"id":[0-9]*' | head -1 | cut -d: -f2)
+REPORT=$(curl -s "$API/v1/employees/duplicates/report")
+check "report groups the original with the direct duplicate" "2" \
+    "$(echo "$REPORT" | grep -o "\"id\":\($ID\|$DUP_ID\)," | sort -u | wc -l | tr -d ' ')"
+echo "$REPORT" | grep -o '"employeesIndexed":[0-9]*\|"pairsCompared":[0-9]*\|"tookMillis":[0-9]*'
+
+echo "$FAILURES failure(s)"
+exit $FAILURES
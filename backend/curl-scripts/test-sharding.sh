@@ -0,0 +1,65 @@
+#!/bin/bash
+
+# Check tenant isolation and cross-shard scatter-gather
+# Start the API with two shards first, e.g. (in-memory, no database needed):
+#   mvn spring-boot:run -Dspring-boot.run.profiles=test,sharded-h2 -Dspring-boot.run.useTestClasspath=true
+# Usage: ./test-sharding.sh [api_url]
+
+API=${1:-http://localhost:8080/api}
+RUN=$(date +%s)
+DEPARTMENT="Sharding-$RUN"
+FAILURES=0
+
+check() {
+    local label=$1
+    local expected=$2
+    local actual=$3
+    if [ "$expected" == "$actual" ]; then
+        echo "PASS $label"
+    else
+        echo "FAIL $label: expected '$expected', got '$actual'"
+        FAILURES=$((FAILURES + 1))
+    fi
+}
+
+create() {
+    local tenant=$1
+    local last_name=$2
+    curl -s -X POST -H "Content-Type: application/json" -H "X-Tenant-Id: $tenant" \
+        -d "{\"firstName\": \"Shard\", \"lastName\": \"$last_name\", \"email\": \"$last_name.$RUN@example.com\", \"department\": \"$DEPARTMENT\", \"position\": \"Tester\", \"salary\": 50000}" \
+        "$API/v1/employees" | grep -o '"id":[0-9]*' | head -1 | cut -d: -f2
+}
+
+search_total() {
+    curl -s -X POST -H "Content-Type: application/json" -H "X-Tenant-Id: $1" \
+        -d "{\"department\": \"$DEPARTMENT\", \"page\": 0, \"size\": 2, \"sortBy\": \"lastName\", \"sortDirection\": \"asc\"}" \
+        "$API/v1/employees/search" | grep -o '"totalElements":[0-9]*' | cut -d: -f2
+}
+
+# acme-eu and globex live on shard-b, default on the default shard
+echo "Creating employees in tenants default, acme-eu and globex"
+ID_DEFAULT=$(create default "Alpha")
+ID_ACME=$(create acme-eu "Bravo")
+create globex "Charlie" > /dev/null
+create default "Delta" > /dev/null
+
+check "tenant default sees only its own rows" "2" "$(search_total default)"
+check "tenant acme-eu sees only its own rows" "1" "$(search_total acme-eu)"
+check "scatter-gather counts every shard" "4" "$(search_total '*')"
+check "shard-b allocates from its own ID range" "1" "$([ "$ID_ACME" -gt 100000000 ] && echo 1 || echo 0)"
+
+check "acme-eu cannot read a default-tenant employee" "404" \
+    "$(curl -s -o /dev/null -w "%{http_code}" -H "X-Tenant-Id: acme-eu" "$API/v1/employees/$ID_DEFAULT")"
+check "acme-eu cannot delete a default-tenant employee" "404" \
+    "$(curl -s -o /dev/null -w "%{http_code}" -X DELETE -H "X-Tenant-Id: acme-eu" "$API/v1/employees/$ID_DEFAULT")"
+check "writes reject the all-tenants marker" "400" \
+    "$(curl -s -o /dev/null -w "%{http_code}" -X DELETE -H "X-Tenant-Id: *" "$API/v1/employees/$ID_DEFAULT")"
+
+# Merge-sorted second page: lastName asc across both shards puts Charlie and Delta on page 1
+check "scatter-gather merge-sorts pages across shards" "Charlie Delta" \
+    "$(curl -s -X POST -H "Content-Type: application/json" -H "X-Tenant-Id: *" \
+        -d "{\"department\": \"$DEPARTMENT\", \"page\": 1, \"size\": 2, \"sortBy\": \"lastName\", \"sortDirection\": \"asc\"}" \
+        "$API/v1/employees/search" | grep -o '"lastName":"[A-Za-z]*"' | cut -d'"' -f4 | tr '\n' ' ' | sed 's/ $//')"
+
+echo "$FAILURES failure(s)"
+exit $FAILURES
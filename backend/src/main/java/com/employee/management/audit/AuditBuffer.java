@@ -0,0 +1,52 @@
+package com.employee.management.audit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded multi-producer queue of audit entries, lock-free on both sides
+ * The bound is a CAS-reserved counter in front of a ConcurrentLinkedQueue; producers that find it
+ * full get {@code false} and must write the entry themselves.
+ */
+class AuditBuffer {
+
+    private final ConcurrentLinkedQueue<AuditEntry> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final int capacity;
+
+    AuditBuffer(int capacity) {
+        this.capacity = capacity;
+    }
+
+    boolean offer(AuditEntry entry) {
+        while (true) {
+            int current = size.get();
+            if (current >= capacity) {
+                return false;
+            }
+            if (size.compareAndSet(current, current + 1)) {
+                queue.offer(entry);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Remove up to {@code max} entries in arrival order
+     */
+    List<AuditEntry> drain(int max) {
+        List<AuditEntry> batch = new ArrayList<>(Math.min(max, Math.max(size.get(), 1)));
+        AuditEntry entry;
+        while (batch.size() < max && (entry = queue.poll()) != null) {
+            batch.add(entry);
+        }
+        size.addAndGet(-batch.size());
+        return batch;
+    }
+
+    int size() {
+        return size.get();
+    }
+}
@@ -0,0 +1,16 @@
+package com.employee.management.audit;
+
+import java.time.LocalDateTime;
+
+/**
+ * One changed field waiting to be written to employee_audit on the employee's shard
+ */
+record AuditEntry(String shard,
+                  Integer employeeId,
+                  String changeType,
+                  String fieldName,
+                  String oldValue,
+                  String newValue,
+                  LocalDateTime changedAt,
+                  String changedBy) {
+}
@@ -0,0 +1,73 @@
+package com.employee.management.audit;
+
+import com.employee.management.dto.EmployeeDto;
+import com.employee.management.event.EmployeeChangedEvent;
+import com.employee.management.sharding.ShardTemplate;
+import com.employee.management.web.ClientContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Turns committed employee writes into per-field audit entries for the compliance fields
+ * Only the node that made the write records it; remote events are ignored.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuditRecorder {
+
+    private static final List<AuditedField> AUDITED_FIELDS = List.of(
+            new AuditedField("salary", EmployeeDto::getSalary),
+            new AuditedField("department", EmployeeDto::getDepartment),
+            new AuditedField("position", EmployeeDto::getPosition),
+            new AuditedField("managerId", EmployeeDto::getManagerId),
+            new AuditedField("isActive", EmployeeDto::getIsActive));
+
+    private final AuditWriter auditWriter;
+    private final ShardTemplate shardTemplate;
+
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (event.isRemote()) {
+            return;
+        }
+        LocalDateTime changedAt = LocalDateTime.now();
+        String changedBy = ClientContext.currentClientId();
+        // Runs after commit on the writing thread, which is still bound to the employee's shard
+        String shard = shardTemplate.currentShard();
+        EmployeeDto before = event.getBefore();
+        EmployeeDto after = event.getAfter();
+
+        List<AuditEntry> entries = new ArrayList<>();
+        for (AuditedField field : AUDITED_FIELDS) {
+            String oldValue = before == null ? null : format(field.accessor().apply(before));
+            String newValue = after == null ? null : format(field.accessor().apply(after));
+            if (event.getType() == EmployeeChangedEvent.Type.CREATED ? newValue != null : !Objects.equals(oldValue, newValue)) {
+                entries.add(new AuditEntry(shard, event.getEmployeeId(), event.getType().name(), field.name(),
+                        oldValue, newValue, changedAt, changedBy));
+            }
+        }
+        if (!entries.isEmpty()) {
+            auditWriter.enqueue(entries);
+        }
+    }
+
+    private static String format(Object value) {
+        if (value instanceof BigDecimal decimal) {
+            // Match the column scale so 85000 and 85000.00 are not recorded as a change
+            return decimal.setScale(2, RoundingMode.HALF_UP).toPlainString();
+        }
+        return value == null ? null : value.toString();
+    }
+
+    private record AuditedField(String name, Function<EmployeeDto, Object> accessor) {
+    }
+}
@@ -0,0 +1,177 @@
+package com.employee.management.audit;
+
+import com.employee.management.sharding.ShardTemplate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+/**
+ * Writes audit entries to employee_audit in JDBC batches on a background thread
+ * Entries are buffered in memory, so the request thread only pays for an enqueue. When the buffer
+ * is full the caller writes its own entries synchronously instead of dropping them. A failed batch
+ * is kept and retried (only the shards not yet written). On shutdown the flusher stops and everything still buffered is written
+ * before the DataSource is closed; entries still buffered when the process is killed are lost.
+ */
+@Component
+@Slf4j
+public class AuditWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO employee_audit "
+            + "(employee_id, change_type, field_name, old_value, new_value, changed_at, changed_by) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final long MAX_RETRY_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardTemplate shardTemplate;
+    private final TransactionTemplate newTransaction;
+    private final AuditBuffer buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    private final Counter written;
+    private final Counter callerWrites;
+    private final Counter failures;
+
+    public AuditWriter(JdbcTemplate jdbcTemplate,
+                       ShardTemplate shardTemplate,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${app.audit.buffer-capacity:10000}") int bufferCapacity,
+                       @Value("${app.audit.batch-size:200}") int batchSize,
+                       @Value("${app.audit.flush-interval-ms:200}") long flushIntervalMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardTemplate = shardTemplate;
+        // Callers may be in an after-commit callback, where the finished transaction is still bound
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.buffer = new AuditBuffer(bufferCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+
+        this.written = meterRegistry.counter("audit.entries.written");
+        this.callerWrites = meterRegistry.counter("audit.entries.caller_writes");
+        this.failures = meterRegistry.counter("audit.flush.failures");
+        Gauge.builder("audit.buffer.size", buffer, AuditBuffer::size)
+                .description("Audit entries waiting to be written")
+                .register(meterRegistry);
+
+        this.flusher = new Thread(this::flushLoop, "audit-writer");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * Queue entries for the next batch; writes them immediately when the buffer is full
+     */
+    void enqueue(List<AuditEntry> entries) {
+        List<AuditEntry> overflow = null;
+        for (AuditEntry entry : entries) {
+            if (!buffer.offer(entry)) {
+                if (overflow == null) {
+                    overflow = new ArrayList<>();
+                }
+                overflow.add(entry);
+            }
+        }
+        if (overflow != null) {
+            callerWrites.increment(overflow.size());
+            write(overflow);
+        }
+        if (buffer.size() >= batchSize) {
+            LockSupport.unpark(flusher);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(flusher);
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+
+        int remaining = buffer.size();
+        List<AuditEntry> batch;
+        while (!(batch = buffer.drain(batchSize)).isEmpty()) {
+            write(batch);
+        }
+        if (remaining > 0) {
+            log.info("Flushed {} buffered audit entries on shutdown", remaining);
+        }
+    }
+
+    private void flushLoop() {
+        long backoffNanos = flushIntervalNanos;
+        List<AuditEntry> pending = List.of();
+        while (running) {
+            if (pending.isEmpty()) {
+                pending = buffer.drain(batchSize);
+            }
+            if (pending.isEmpty()) {
+                LockSupport.parkNanos(flushIntervalNanos);
+                continue;
+            }
+            try {
+                write(pending);
+                backoffNanos = flushIntervalNanos;
+            } catch (RuntimeException ex) {
+                failures.increment();
+                log.error("Audit batch of {} entries failed, retrying in {} ms", pending.size(),
+                        TimeUnit.NANOSECONDS.toMillis(backoffNanos), ex);
+                LockSupport.parkNanos(backoffNanos);
+                backoffNanos = Math.min(MAX_RETRY_BACKOFF_NANOS, backoffNanos * 2);
+            }
+        }
+        // A batch from a failed attempt is retried once more; shutdown() drains the rest of the buffer
+        if (!pending.isEmpty()) {
+            try {
+                write(pending);
+            } catch (RuntimeException ex) {
+                log.error("Lost {} audit entries on shutdown", pending.size(), ex);
+            }
+        }
+    }
+
+    /**
+     * Write the entries one shard at a time, removing each shard's entries once they are committed
+     */
+    private void write(List<AuditEntry> entries) {
+        Map<String, List<AuditEntry>> byShard = entries.stream()
+                .collect(Collectors.groupingBy(AuditEntry::shard, LinkedHashMap::new, Collectors.toList()));
+        byShard.forEach((shard, shardEntries) -> {
+            shardTemplate.runOn(shard, () -> writeBatch(shardEntries));
+            entries.removeIf(entry -> entry.shard().equals(shard));
+        });
+    }
+
+    private void writeBatch(List<AuditEntry> entries) {
+        newTransaction.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(), (statement, entry) -> {
+                    statement.setInt(1, entry.employeeId());
+                    statement.setString(2, entry.changeType());
+                    statement.setString(3, entry.fieldName());
+                    statement.setString(4, entry.oldValue());
+                    statement.setString(5, entry.newValue());
+                    statement.setTimestamp(6, Timestamp.valueOf(entry.changedAt()));
+                    statement.setString(7, entry.changedBy());
+                }));
+        written.increment(entries.size());
+    }
+}
@@ -0,0 +1,213 @@
+package com.employee.management.cache;
+
+import com.employee.management.event.EmployeeCachesStaleEvent;
+import com.employee.management.event.EmployeeChangedEvent;
+import com.employee.management.sharding.ShardTemplate;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps local employee state coherent across nodes with PostgreSQL LISTEN/NOTIFY
+ * Each local write sends a NOTIFY with the before/after state inside its transaction, so it is
+ * delivered only on commit. Every node listens on a dedicated connection and republishes other
+ * nodes' writes as remote EmployeeChangedEvents, which local caches apply like their own.
+ * Each message carries a version from employee_change_seq; after a reconnect the node compares
+ * the sequence with the highest version it received and publishes EmployeeCachesStaleEvent if
+ * it missed any. A write that drew its version before the disconnect but committed during it is
+ * not detected; the periodic rebuilds of each cache cover that case. When sharded, a write notifies
+ * on its own shard, so every node listens to each shard and tracks each shard's version separately.
+ */
+@Component
+@ConditionalOnProperty(name = "app.cache.invalidation.enabled", havingValue = "true")
+@Slf4j
+public class CacheInvalidationBus {
+
+    private static final String CHANNEL = "employee_changes";
+    // PostgreSQL rejects NOTIFY payloads of 8000 bytes or more
+    private static final int MAX_PAYLOAD_BYTES = 7900;
+    private static final int POLL_TIMEOUT_MILLIS = 1000;
+    private static final String CURRENT_VERSION_SQL =
+            "SELECT CASE WHEN is_called THEN last_value ELSE 0 END FROM employee_change_seq";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ObjectMapper messageMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final Map<String, AtomicLong> lastSeenVersions = new ConcurrentHashMap<>();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardTemplate shardTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long reconnectDelayMillis;
+
+    private volatile boolean running;
+    private final List<Thread> listenerThreads = new ArrayList<>();
+
+    public CacheInvalidationBus(JdbcTemplate jdbcTemplate,
+                                ShardTemplate shardTemplate,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${app.cache.invalidation.reconnect-delay-ms:2000}") long reconnectDelayMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardTemplate = shardTemplate;
+        this.eventPublisher = eventPublisher;
+        this.reconnectDelayMillis = reconnectDelayMillis;
+    }
+
+    /**
+     * Record the version before local caches load on ApplicationReadyEvent, so changes made
+     * while they load are detected on the first connect
+     */
+    @PostConstruct
+    public void readInitialVersion() {
+        shardTemplate.forEachShard(shard -> lastSeenVersions.put(shard, new AtomicLong(currentVersion(shard))));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        for (String shard : shardTemplate.shards()) {
+            String name = shardTemplate.isSharded() ? "cache-invalidation-listener-" + shard : "cache-invalidation-listener";
+            Thread listenerThread = new Thread(() -> listen(shard), name);
+            listenerThread.setDaemon(true);
+            listenerThread.start();
+            listenerThreads.add(listenerThread);
+        }
+        log.info("Cache invalidation bus started on channel {} as node {}", CHANNEL, nodeId);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        for (Thread listenerThread : listenerThreads) {
+            listenerThread.join(POLL_TIMEOUT_MILLIS * 2L);
+        }
+    }
+
+    /**
+     * Broadcast a local write; runs inside the writing transaction so NOTIFY is sent on commit
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void broadcast(EmployeeChangedEvent event) {
+        if (event.isRemote()) {
+            return;
+        }
+        Long version = jdbcTemplate.queryForObject("SELECT nextval('employee_change_seq')", Long.class);
+        EmployeeChangeMessage message = new EmployeeChangeMessage(
+                nodeId, version, event.getType(), event.getEmployeeId(), event.getBefore(), event.getAfter());
+
+        String payload = serialize(message);
+        if (payload.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES) {
+            payload = serialize(new EmployeeChangeMessage(nodeId, version, event.getType(), event.getEmployeeId(), null, null));
+        }
+        jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", CHANNEL, payload);
+    }
+
+    private void listen(String shard) {
+        ShardTemplate.ConnectionDetails details = shardTemplate.connectionDetails(shard);
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(details.url(), details.username(), details.password())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                checkForMissedChanges(shard);
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            handle(shard, notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException ex) {
+                if (!running) {
+                    break;
+                }
+                log.warn("Cache invalidation listener for shard {} disconnected, reconnecting in {} ms: {}",
+                        shard, reconnectDelayMillis, ex.getMessage());
+                try {
+                    Thread.sleep(reconnectDelayMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void handle(String shard, String payload) {
+        EmployeeChangeMessage message;
+        try {
+            message = messageMapper.readValue(payload, EmployeeChangeMessage.class);
+        } catch (JsonProcessingException ex) {
+            log.error("Unreadable cache invalidation message, treating local caches as stale", ex);
+            eventPublisher.publishEvent(new EmployeeCachesStaleEvent());
+            return;
+        }
+
+        lastSeenVersions.get(shard).accumulateAndGet(message.version(), Math::max);
+        if (nodeId.equals(message.origin())) {
+            return;
+        }
+        log.debug("Remote {} of employee {} (version {})", message.type(), message.employeeId(), message.version());
+        if (message.isTruncated()) {
+            eventPublisher.publishEvent(new EmployeeCachesStaleEvent());
+            return;
+        }
+        eventPublisher.publishEvent(new EmployeeChangedEvent(message.type(), message.before(), message.after(), true));
+    }
+
+    /**
+     * Version polling: anything committed while we were not listening shows up as a newer sequence value
+     */
+    private void checkForMissedChanges(String shard) {
+        AtomicLong lastSeenVersion = lastSeenVersions.get(shard);
+        long current = currentVersion(shard);
+        long seen = lastSeenVersion.get();
+        if (current > seen) {
+            log.info("Missed employee changes on shard {} while disconnected (version {} > {}), refreshing local caches",
+                    shard, current, seen);
+            lastSeenVersion.accumulateAndGet(current, Math::max);
+            eventPublisher.publishEvent(new EmployeeCachesStaleEvent());
+        }
+    }
+
+    private long currentVersion(String shard) {
+        Long version = shardTemplate.callOn(shard, () -> jdbcTemplate.queryForObject(CURRENT_VERSION_SQL, Long.class));
+        return version == null ? 0 : version;
+    }
+
+    private String serialize(EmployeeChangeMessage message) {
+        try {
+            return messageMapper.writeValueAsString(message);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize employee change message", ex);
+        }
+    }
+}
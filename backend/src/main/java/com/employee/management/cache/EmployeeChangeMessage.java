@@ -0,0 +1,23 @@
+package com.employee.management.cache;
+
+import com.employee.management.dto.EmployeeDto;
+import com.employee.management.event.EmployeeChangedEvent;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * NOTIFY payload for one committed employee write
+ * before and after are both null when the full payload would exceed the NOTIFY size limit;
+ * receivers then treat their local state as stale
+ */
+record EmployeeChangeMessage(String origin,
+                             long version,
+                             EmployeeChangedEvent.Type type,
+                             Integer employeeId,
+                             EmployeeDto before,
+                             EmployeeDto after) {
+
+    @JsonIgnore
+    boolean isTruncated() {
+        return before == null && after == null;
+    }
+}
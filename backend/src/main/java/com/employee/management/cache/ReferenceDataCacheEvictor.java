@@ -0,0 +1,64 @@
+package com.employee.management.cache;
+
+import com.employee.management.config.CacheConfig;
+import com.employee.management.dto.EmployeeDto;
+import com.employee.management.event.EmployeeCachesStaleEvent;
+import com.employee.management.event.EmployeeChangedEvent;
+import com.employee.management.sharding.ShardContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Evicts the department and position caches when a write could change them
+ * A write evicts its tenant's entry plus the unscoped ("") and all-tenants ("*") entries that include it
+ */
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataCacheEvictor {
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (event.getBefore() == null || event.getAfter() == null
+                || !event.getBefore().getDepartment().equals(event.getAfter().getDepartment())
+                || !event.getBefore().getPosition().equals(event.getAfter().getPosition())
+                || !event.getBefore().getIsActive().equals(event.getAfter().getIsActive())) {
+            EmployeeDto employee = event.getAfter() != null ? event.getAfter() : event.getBefore();
+            evictTenant(employee.getTenantId());
+        }
+    }
+
+    private void evictTenant(String tenantId) {
+        for (String key : List.of(CacheConfig.tenantKey(tenantId), CacheConfig.tenantKey(null), ShardContext.ALL_TENANTS)) {
+            evict(CacheConfig.DEPARTMENTS_CACHE, key);
+            evict(CacheConfig.POSITIONS_CACHE, key);
+        }
+    }
+
+    @EventListener(EmployeeCachesStaleEvent.class)
+    public void evictAll() {
+        clear(CacheConfig.DEPARTMENTS_CACHE);
+        clear(CacheConfig.POSITIONS_CACHE);
+    }
+
+    private void evict(String name, String key) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    private void clear(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.employee.management.columnar;
+
+import java.util.Collection;
+
+/**
+ * Predicate over the column store; every condition is optional and they are ANDed together
+ * Salary bounds are in cents and hire-date bounds in epoch days, both inclusive; a null tenant
+ * matches every tenant.
+ */
+public record ColumnFilter(String tenantId,
+                           Collection<String> departments,
+                           Collection<String> positions,
+                           Integer managerId,
+                           Long salaryMinCents,
+                           Long salaryMaxCents,
+                           Integer hiredFromEpochDay,
+                           Integer hiredToEpochDay) {
+}
@@ -0,0 +1,181 @@
+package com.employee.management.columnar;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary snapshot of an EmployeeColumnStore, written and read through memory-mapped files
+ * Layout: a header (magic, version, write time, one database high-water mark per shard, body length,
+ * CRC32C of the body) followed by the store's columns. Loading maps the file read-only, checks the
+ * checksum against the mapped pages and bulk-copies the primitive columns, with no per-row parsing
+ * apart from the two free-text string columns. Files are written beside the target and renamed
+ * over it, so a reader never sees a partial snapshot.
+ */
+public final class ColumnStoreSnapshotFile {
+
+    private static final int MAGIC = 0x454d5153;
+    private static final int VERSION = 2;
+
+    private ColumnStoreSnapshotFile() {
+    }
+
+    /**
+     * A loaded snapshot
+     * @param watermarks per shard, the newest updated_at in the database when the snapshot was taken (null for an empty table)
+     */
+    public record Snapshot(EmployeeColumnStore store, Map<String, LocalDateTime> watermarks, Instant writtenAt) {
+    }
+
+    /**
+     * Write the store's live rows; the caller must keep the store unchanged until this returns
+     * @return the file size in bytes
+     */
+    public static long write(Path path, EmployeeColumnStore store, Map<String, LocalDateTime> watermarks) throws IOException {
+        int headerSize = 3 * Integer.BYTES + 3 * Long.BYTES;
+        for (String shard : watermarks.keySet()) {
+            headerSize += stringSize(shard) + Long.BYTES + Integer.BYTES;
+        }
+        long bodySize = store.encodedSize();
+        long fileSize = headerSize + bodySize;
+        if (fileSize > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Snapshot of " + fileSize + " bytes exceeds the 2 GB mapping limit");
+        }
+
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+            buffer.putInt(MAGIC);
+            buffer.putInt(VERSION);
+            buffer.putLong(System.currentTimeMillis());
+            buffer.putInt(watermarks.size());
+            watermarks.forEach((shard, watermark) -> {
+                putString(buffer, shard);
+                // Nanos of -1 mark an empty table
+                buffer.putLong(watermark == null ? 0 : watermark.toEpochSecond(ZoneOffset.UTC));
+                buffer.putInt(watermark == null ? -1 : watermark.getNano());
+            });
+            buffer.putLong(bodySize);
+            int checksumPosition = buffer.position();
+            buffer.putLong(0);
+
+            store.encode(buffer);
+            if (buffer.position() != fileSize) {
+                throw new IllegalStateException("Snapshot body is " + (buffer.position() - headerSize)
+                        + " bytes, expected " + bodySize);
+            }
+            buffer.putLong(checksumPosition, checksum(buffer, headerSize, bodySize));
+            buffer.force();
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return fileSize;
+    }
+
+    /**
+     * Map and decode a snapshot
+     * @throws IOException if the file is missing, truncated, of another version or fails its checksum
+     */
+    public static Snapshot read(Path path, int parallelThreshold) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot " + path + " is too large to map");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            if (fileSize < 2 * Integer.BYTES || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("Snapshot " + path + " has an unknown format");
+            }
+            Instant writtenAt = Instant.ofEpochMilli(buffer.getLong());
+            int shards = buffer.getInt();
+            Map<String, LocalDateTime> watermarks = new LinkedHashMap<>();
+            for (int i = 0; i < shards; i++) {
+                String shard = getString(buffer);
+                long epochSecond = buffer.getLong();
+                int nanos = buffer.getInt();
+                watermarks.put(shard, nanos < 0 ? null
+                        : LocalDateTime.ofEpochSecond(epochSecond, nanos, ZoneOffset.UTC));
+            }
+            long bodySize = buffer.getLong();
+            long expectedChecksum = buffer.getLong();
+            int bodyStart = buffer.position();
+            if (bodyStart + bodySize != fileSize) {
+                throw new IOException("Snapshot " + path + " is truncated");
+            }
+            if (checksum(buffer, bodyStart, bodySize) != expectedChecksum) {
+                throw new IOException("Snapshot " + path + " fails its checksum");
+            }
+            return new Snapshot(EmployeeColumnStore.decode(buffer, parallelThreshold), watermarks, writtenAt);
+        } catch (IndexOutOfBoundsException | BufferUnderflowException ex) {
+            throw new IOException("Snapshot " + path + " is corrupt", ex);
+        }
+    }
+
+    static long stringSize(String value) {
+        if (value == null) {
+            return Integer.BYTES;
+        }
+        long bytes = Integer.BYTES;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                bytes += 1;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                // The encoder replaces a lone surrogate with '?'
+                bytes += 1;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+
+    static void putString(ByteBuffer buffer, String value) {
+        if (value == null) {
+            buffer.putInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(bytes.length);
+        buffer.put(bytes);
+    }
+
+    static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        String value = StandardCharsets.UTF_8.decode(buffer.slice(buffer.position(), length)).toString();
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    private static long checksum(ByteBuffer buffer, int offset, long length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(offset, (int) length));
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,410 @@
+package com.employee.management.columnar;
+
+import com.employee.management.dto.EmployeeDto;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Column-oriented copy of the active employee set
+ * Each filterable attribute lives in its own primitive array and repeated strings are
+ * dictionary-encoded, so a scan touches only the columns a filter uses. Updates tombstone
+ * the old row and append a new one; compaction reclaims dead rows once they pile up.
+ * Not thread-safe: EmployeeQueryServiceImpl guards access with a read/write lock.
+ */
+public class EmployeeColumnStore {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int NO_MANAGER = Integer.MIN_VALUE;
+    private static final long NO_SALARY = Long.MIN_VALUE;
+    // Rows scanned per parallel task; a multiple of 64 so tasks never share a bitset word
+    private static final int CHUNK_ROWS = 16_384;
+    // Sort keys are packed as (key << ROW_BITS) | row so one long[] sort orders rows by key
+    private static final int ROW_BITS = 29;
+    private static final long MAX_KEY = (1L << (63 - ROW_BITS)) - 1;
+
+    private final int parallelThreshold;
+
+    private int size;
+    private int deadRows;
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private long[] salaryCents = new long[INITIAL_CAPACITY];
+    private int[] hireEpochDays = new int[INITIAL_CAPACITY];
+    private int[] managerIds = new int[INITIAL_CAPACITY];
+    private int[] departmentCodes = new int[INITIAL_CAPACITY];
+    private int[] positionCodes = new int[INITIAL_CAPACITY];
+    private int[] lastNameCodes = new int[INITIAL_CAPACITY];
+    private int[] tenantCodes = new int[INITIAL_CAPACITY];
+    private String[] firstNames = new String[INITIAL_CAPACITY];
+    private String[] emails = new String[INITIAL_CAPACITY];
+    private BitSet live = new BitSet(INITIAL_CAPACITY);
+    private final Map<Integer, Integer> rowById = new HashMap<>();
+    // tenant code -> live rows, so a tenant-scoped query can report its own snapshot size
+    private final Map<Integer, Integer> liveRowsByTenant = new HashMap<>();
+
+    private final StringDictionary departments = new StringDictionary();
+    private final StringDictionary positions = new StringDictionary();
+    private final StringDictionary lastNames = new StringDictionary();
+    private final StringDictionary tenants = new StringDictionary();
+
+    public EmployeeColumnStore(int parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    public int liveRows() {
+        return size - deadRows;
+    }
+
+    /**
+     * Live rows of one tenant, or of every tenant when null
+     */
+    public int liveRows(String tenantId) {
+        if (tenantId == null) {
+            return liveRows();
+        }
+        BitSet codes = tenants.matching(List.of(tenantId));
+        int rows = 0;
+        for (int code = codes.nextSetBit(0); code >= 0; code = codes.nextSetBit(code + 1)) {
+            rows += liveRowsByTenant.getOrDefault(code, 0);
+        }
+        return rows;
+    }
+
+    /**
+     * Insert an employee, replacing any existing row with the same ID
+     */
+    public void upsert(Integer id, String firstName, String lastName, String email, String department,
+                       String position, BigDecimal salary, LocalDate hireDate, Integer managerId,
+                       String tenantId) {
+        remove(id);
+        if (size == ids.length) {
+            grow();
+        }
+        if (size >= 1 << ROW_BITS) {
+            throw new IllegalStateException("Column store is limited to " + (1 << ROW_BITS) + " rows");
+        }
+
+        int row = size++;
+        ids[row] = id;
+        salaryCents[row] = salary == null ? NO_SALARY : salary.movePointRight(2).longValue();
+        hireEpochDays[row] = (int) hireDate.toEpochDay();
+        managerIds[row] = managerId == null ? NO_MANAGER : managerId;
+        departmentCodes[row] = departments.encode(department);
+        positionCodes[row] = positions.encode(position);
+        lastNameCodes[row] = lastNames.encode(lastName);
+        tenantCodes[row] = tenants.encode(tenantId);
+        liveRowsByTenant.merge(tenantCodes[row], 1, Integer::sum);
+        firstNames[row] = firstName;
+        emails[row] = email;
+        live.set(row);
+        rowById.put(id, row);
+    }
+
+    public void remove(Integer id) {
+        Integer row = rowById.remove(id);
+        if (row != null) {
+            live.clear(row);
+            liveRowsByTenant.merge(tenantCodes[row], -1, Integer::sum);
+            firstNames[row] = null;
+            emails[row] = null;
+            deadRows++;
+        }
+    }
+
+    /**
+     * Whether enough rows are tombstoned that compaction is worth a full copy
+     */
+    public boolean needsCompaction() {
+        return deadRows > 4096 && deadRows > size / 4;
+    }
+
+    /**
+     * Rewrite the columns without tombstoned rows
+     */
+    public void compact() {
+        int target = 0;
+        for (int row = live.nextSetBit(0); row >= 0; row = live.nextSetBit(row + 1)) {
+            ids[target] = ids[row];
+            salaryCents[target] = salaryCents[row];
+            hireEpochDays[target] = hireEpochDays[row];
+            managerIds[target] = managerIds[row];
+            departmentCodes[target] = departmentCodes[row];
+            positionCodes[target] = positionCodes[row];
+            lastNameCodes[target] = lastNameCodes[row];
+            tenantCodes[target] = tenantCodes[row];
+            firstNames[target] = firstNames[row];
+            emails[target] = emails[row];
+            rowById.put(ids[target], target);
+            target++;
+        }
+        Arrays.fill(firstNames, target, size, null);
+        Arrays.fill(emails, target, size, null);
+        live = new BitSet(ids.length);
+        live.set(0, target);
+        size = target;
+        deadRows = 0;
+    }
+
+    /**
+     * Rows matching the filter, in row order
+     * Large stores are scanned in parallel chunks; dictionary predicates are resolved to code bitsets first.
+     */
+    public int[] filter(ColumnFilter filter) {
+        BitSet departmentMatch = filter.departments() == null || filter.departments().isEmpty()
+                ? null : departments.matching(filter.departments());
+        BitSet positionMatch = filter.positions() == null || filter.positions().isEmpty()
+                ? null : positions.matching(filter.positions());
+        BitSet tenantMatch = filter.tenantId() == null ? null : tenants.matching(List.of(filter.tenantId()));
+        if ((departmentMatch != null && departmentMatch.isEmpty()) || (positionMatch != null && positionMatch.isEmpty())
+                || (tenantMatch != null && tenantMatch.isEmpty())) {
+            return new int[0];
+        }
+
+        long salaryMin = filter.salaryMinCents() == null ? NO_SALARY : filter.salaryMinCents();
+        long salaryMax = filter.salaryMaxCents() == null ? Long.MAX_VALUE : filter.salaryMaxCents();
+        boolean salaryFiltered = filter.salaryMinCents() != null || filter.salaryMaxCents() != null;
+        int hiredFrom = filter.hiredFromEpochDay() == null ? Integer.MIN_VALUE : filter.hiredFromEpochDay();
+        int hiredTo = filter.hiredToEpochDay() == null ? Integer.MAX_VALUE : filter.hiredToEpochDay();
+        int managerId = filter.managerId() == null ? NO_MANAGER : filter.managerId();
+        boolean managerFiltered = filter.managerId() != null;
+
+        int chunks = (size + CHUNK_ROWS - 1) / CHUNK_ROWS;
+        IntStream chunkIndexes = IntStream.range(0, chunks);
+        if (size >= parallelThreshold) {
+            chunkIndexes = chunkIndexes.parallel();
+        }
+
+        int[][] matchesPerChunk = chunkIndexes.mapToObj(chunk -> {
+            int from = chunk * CHUNK_ROWS;
+            int to = Math.min(size, from + CHUNK_ROWS);
+            int[] matches = new int[to - from];
+            int count = 0;
+            for (int row = live.nextSetBit(from); row >= 0 && row < to; row = live.nextSetBit(row + 1)) {
+                if (tenantMatch != null && !tenantMatch.get(tenantCodes[row])) {
+                    continue;
+                }
+                if (departmentMatch != null && !departmentMatch.get(departmentCodes[row])) {
+                    continue;
+                }
+                if (positionMatch != null && !positionMatch.get(positionCodes[row])) {
+                    continue;
+                }
+                if (salaryFiltered) {
+                    long salary = salaryCents[row];
+                    if (salary == NO_SALARY || salary < salaryMin || salary > salaryMax) {
+                        continue;
+                    }
+                }
+                int hired = hireEpochDays[row];
+                if (hired < hiredFrom || hired > hiredTo) {
+                    continue;
+                }
+                if (managerFiltered && managerIds[row] != managerId) {
+                    continue;
+                }
+                matches[count++] = row;
+            }
+            return Arrays.copyOf(matches, count);
+        }).toArray(int[][]::new);
+
+        int total = 0;
+        for (int[] matches : matchesPerChunk) {
+            total += matches.length;
+        }
+        int[] rows = new int[total];
+        int offset = 0;
+        for (int[] matches : matchesPerChunk) {
+            System.arraycopy(matches, 0, rows, offset, matches.length);
+            offset += matches.length;
+        }
+        return rows;
+    }
+
+    /**
+     * The first {@code limit} rows of {@code rows} ordered by the column
+     * Uses a bounded heap when only a small prefix is needed, otherwise a parallel sort.
+     */
+    public int[] sort(int[] rows, SortColumn column, boolean descending, int limit) {
+        int[] ranks = switch (column) {
+            case DEPARTMENT -> departments.ranks();
+            case POSITION -> positions.ranks();
+            case LAST_NAME -> lastNames.ranks();
+            default -> null;
+        };
+
+        int needed = Math.min(limit, rows.length);
+        long[] packed;
+        if (needed < rows.length / 8) {
+            LongTopK topK = new LongTopK(needed);
+            for (int row : rows) {
+                topK.offer(pack(row, column, ranks, descending));
+            }
+            packed = topK.sorted();
+        } else {
+            packed = new long[rows.length];
+            for (int i = 0; i < rows.length; i++) {
+                packed[i] = pack(rows[i], column, ranks, descending);
+            }
+            Arrays.parallelSort(packed);
+        }
+
+        int[] sorted = new int[needed];
+        long rowMask = (1L << ROW_BITS) - 1;
+        for (int i = 0; i < needed; i++) {
+            sorted[i] = (int) (packed[i] & rowMask);
+        }
+        return sorted;
+    }
+
+    public EmployeeDto toDto(int row) {
+        String lastName = lastNames.decode(lastNameCodes[row]);
+        EmployeeDto dto = new EmployeeDto();
+        dto.setId(ids[row]);
+        dto.setFirstName(firstNames[row]);
+        dto.setLastName(lastName);
+        dto.setFullName(firstNames[row] + " " + lastName);
+        dto.setEmail(emails[row]);
+        dto.setDepartment(departments.decode(departmentCodes[row]));
+        dto.setPosition(positions.decode(positionCodes[row]));
+        dto.setSalary(salaryCents[row] == NO_SALARY ? null : BigDecimal.valueOf(salaryCents[row], 2));
+        dto.setHireDate(LocalDate.ofEpochDay(hireEpochDays[row]));
+        dto.setManagerId(managerIds[row] == NO_MANAGER ? null : managerIds[row]);
+        dto.setIsActive(true);
+        dto.setTenantId(tenants.decode(tenantCodes[row]));
+        return dto;
+    }
+
+    /**
+     * Bytes {@link #encode} writes: the live rows column by column, then the dictionaries
+     */
+    long encodedSize() {
+        long rows = liveRows();
+        long bytes = Integer.BYTES + rows * (Integer.BYTES * 7 + Long.BYTES);
+        for (int row = live.nextSetBit(0); row >= 0; row = live.nextSetBit(row + 1)) {
+            bytes += ColumnStoreSnapshotFile.stringSize(firstNames[row]) + ColumnStoreSnapshotFile.stringSize(emails[row]);
+        }
+        for (StringDictionary dictionary : List.of(departments, positions, lastNames, tenants)) {
+            bytes += Integer.BYTES;
+            for (String value : dictionary.values()) {
+                bytes += ColumnStoreSnapshotFile.stringSize(value);
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Write the live rows compacted, so the decoded store has no tombstones
+     */
+    void encode(ByteBuffer buffer) {
+        buffer.putInt(liveRows());
+        for (int row = live.nextSetBit(0); row >= 0; row = live.nextSetBit(row + 1)) {
+            buffer.putInt(ids[row]);
+        }
+        for (int row = live.nextSetBit(0); row >= 0; row = live.nextSetBit(row + 1)) {
+            buffer.putLong(salaryCents[row]);
+        }
+        for (int[] column : List.of(hireEpochDays, managerIds, departmentCodes, positionCodes, lastNameCodes, tenantCodes)) {
+            for (int row = live.nextSetBit(0); row >= 0; row = live.nextSetBit(row + 1)) {
+                buffer.putInt(column[row]);
+            }
+        }
+        for (String[] column : List.of(firstNames, emails)) {
+            for (int row = live.nextSetBit(0); row >= 0; row = live.nextSetBit(row + 1)) {
+                ColumnStoreSnapshotFile.putString(buffer, column[row]);
+            }
+        }
+        for (StringDictionary dictionary : List.of(departments, positions, lastNames, tenants)) {
+            buffer.putInt(dictionary.values().size());
+            dictionary.values().forEach(value -> ColumnStoreSnapshotFile.putString(buffer, value));
+        }
+    }
+
+    /**
+     * Read a store written by {@link #encode}; primitive columns are bulk-copied straight from the buffer
+     */
+    static EmployeeColumnStore decode(ByteBuffer buffer, int parallelThreshold) {
+        EmployeeColumnStore store = new EmployeeColumnStore(parallelThreshold);
+        int rows = buffer.getInt();
+        int capacity = Math.max(INITIAL_CAPACITY, rows);
+
+        store.ids = readInts(buffer, rows, capacity);
+        store.salaryCents = new long[capacity];
+        buffer.asLongBuffer().get(store.salaryCents, 0, rows);
+        buffer.position(buffer.position() + rows * Long.BYTES);
+        store.hireEpochDays = readInts(buffer, rows, capacity);
+        store.managerIds = readInts(buffer, rows, capacity);
+        store.departmentCodes = readInts(buffer, rows, capacity);
+        store.positionCodes = readInts(buffer, rows, capacity);
+        store.lastNameCodes = readInts(buffer, rows, capacity);
+        store.tenantCodes = readInts(buffer, rows, capacity);
+        store.firstNames = readStrings(buffer, rows, capacity);
+        store.emails = readStrings(buffer, rows, capacity);
+        for (StringDictionary dictionary : List.of(store.departments, store.positions, store.lastNames, store.tenants)) {
+            int values = buffer.getInt();
+            for (int i = 0; i < values; i++) {
+                dictionary.encode(ColumnStoreSnapshotFile.getString(buffer));
+            }
+        }
+
+        store.size = rows;
+        store.live = new BitSet(capacity);
+        store.live.set(0, rows);
+        for (int row = 0; row < rows; row++) {
+            store.rowById.put(store.ids[row], row);
+            store.liveRowsByTenant.merge(store.tenantCodes[row], 1, Integer::sum);
+        }
+        return store;
+    }
+
+    private static int[] readInts(ByteBuffer buffer, int rows, int capacity) {
+        int[] column = new int[capacity];
+        buffer.asIntBuffer().get(column, 0, rows);
+        buffer.position(buffer.position() + rows * Integer.BYTES);
+        return column;
+    }
+
+    private static String[] readStrings(ByteBuffer buffer, int rows, int capacity) {
+        String[] column = new String[capacity];
+        for (int row = 0; row < rows; row++) {
+            column[row] = ColumnStoreSnapshotFile.getString(buffer);
+        }
+        return column;
+    }
+
+    private long pack(int row, SortColumn column, int[] ranks, boolean descending) {
+        // Every key is shifted to be non-negative and below MAX_KEY
+        long key = switch (column) {
+            case ID -> ids[row] & 0xFFFFFFFFL;
+            case SALARY -> salaryCents[row] == NO_SALARY ? 0 : Math.min(MAX_KEY, salaryCents[row] + 1);
+            case HIRE_DATE -> (long) hireEpochDays[row] - Integer.MIN_VALUE;
+            case DEPARTMENT -> ranks[departmentCodes[row]];
+            case POSITION -> ranks[positionCodes[row]];
+            case LAST_NAME -> ranks[lastNameCodes[row]];
+        };
+        if (descending) {
+            key = MAX_KEY - key;
+        }
+        return (key << ROW_BITS) | row;
+    }
+
+    private void grow() {
+        int capacity = ids.length + (ids.length >> 1);
+        ids = Arrays.copyOf(ids, capacity);
+        salaryCents = Arrays.copyOf(salaryCents, capacity);
+        hireEpochDays = Arrays.copyOf(hireEpochDays, capacity);
+        managerIds = Arrays.copyOf(managerIds, capacity);
+        departmentCodes = Arrays.copyOf(departmentCodes, capacity);
+        positionCodes = Arrays.copyOf(positionCodes, capacity);
+        lastNameCodes = Arrays.copyOf(lastNameCodes, capacity);
+        tenantCodes = Arrays.copyOf(tenantCodes, capacity);
+        firstNames = Arrays.copyOf(firstNames, capacity);
+        emails = Arrays.copyOf(emails, capacity);
+    }
+}
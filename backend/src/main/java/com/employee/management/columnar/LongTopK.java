@@ -0,0 +1,69 @@
+package com.employee.management.columnar;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the k smallest longs seen, using a bounded max-heap
+ * Cheaper than sorting every match when only the first page of a large result is needed.
+ */
+class LongTopK {
+
+    private final long[] heap;
+    private int size;
+
+    LongTopK(int k) {
+        this.heap = new long[k];
+    }
+
+    void offer(long value) {
+        if (heap.length == 0) {
+            return;
+        }
+        if (size < heap.length) {
+            heap[size] = value;
+            siftUp(size++);
+        } else if (value < heap[0]) {
+            heap[0] = value;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * The retained values in ascending order
+     */
+    long[] sorted() {
+        long[] result = Arrays.copyOf(heap, size);
+        Arrays.sort(result);
+        return result;
+    }
+
+    private void siftUp(int index) {
+        long value = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] >= value) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = value;
+    }
+
+    private void siftDown(int index) {
+        long value = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && heap[child + 1] > heap[child]) {
+                child++;
+            }
+            if (value >= heap[child]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = value;
+    }
+}
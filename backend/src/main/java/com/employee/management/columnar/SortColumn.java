@@ -0,0 +1,28 @@
+package com.employee.management.columnar;
+
+import java.util.Arrays;
+
+/**
+ * Columns the snapshot can sort by, addressed by their JSON property name
+ */
+public enum SortColumn {
+    ID("id"),
+    SALARY("salary"),
+    HIRE_DATE("hireDate"),
+    DEPARTMENT("department"),
+    POSITION("position"),
+    LAST_NAME("lastName");
+
+    private final String jsonName;
+
+    SortColumn(String jsonName) {
+        this.jsonName = jsonName;
+    }
+
+    public static SortColumn parse(String name) {
+        return Arrays.stream(values())
+                .filter(column -> column.jsonName.equalsIgnoreCase(name.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Cannot sort by: " + name));
+    }
+}
@@ -0,0 +1,70 @@
+package com.employee.management.columnar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dictionary encoding for a low-cardinality string column
+ * Rows store an int code; predicates are resolved once against the dictionary into a BitSet of codes.
+ */
+class StringDictionary {
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> values = new ArrayList<>();
+
+    int encode(String value) {
+        return codes.computeIfAbsent(value, key -> {
+            values.add(key);
+            return values.size() - 1;
+        });
+    }
+
+    String decode(int code) {
+        return values.get(code);
+    }
+
+    /**
+     * Values in code order; encoding them in this order into an empty dictionary reproduces the codes
+     */
+    List<String> values() {
+        return values;
+    }
+
+    /**
+     * Codes whose value equals one of the given names, ignoring case
+     */
+    BitSet matching(Collection<String> names) {
+        BitSet matches = new BitSet(values.size());
+        for (int code = 0; code < values.size(); code++) {
+            String value = values.get(code);
+            for (String name : names) {
+                if (value.equalsIgnoreCase(name)) {
+                    matches.set(code);
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Rank of each code in case-insensitive value order, for sorting by the column
+     */
+    int[] ranks() {
+        Integer[] order = new Integer[values.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> String.CASE_INSENSITIVE_ORDER.compare(values.get(a), values.get(b)));
+        int[] ranks = new int[order.length];
+        for (int rank = 0; rank < order.length; rank++) {
+            ranks[order[rank]] = rank;
+        }
+        return ranks;
+    }
+}
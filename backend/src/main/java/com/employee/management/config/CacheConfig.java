@@ -0,0 +1,27 @@
+package com.employee.management.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Local (per-node) caching of reference data
+ * Entries are keyed by the request's tenant (TENANT_KEY), since the queries behind them are
+ * tenant-filtered, and evicted by ReferenceDataCacheEvictor on local and remote employee writes
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String DEPARTMENTS_CACHE = "departments";
+    public static final String POSITIONS_CACHE = "positions";
+
+    /**
+     * Cache key of tenant-filtered reference data: the bound tenant, or "" when none is bound
+     */
+    public static final String TENANT_KEY = "T(com.employee.management.config.CacheConfig).tenantKey("
+            + "T(com.employee.management.sharding.ShardContext).currentTenantId())";
+
+    public static String tenantKey(String tenantId) {
+        return tenantId == null ? "" : tenantId;
+    }
+}
@@ -0,0 +1,103 @@
+package com.employee.management.config;
+
+import graphql.ExecutionInput;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.persisted.ApolloPersistedQuerySupport;
+import graphql.execution.preparsed.persisted.PersistedQueryCache;
+import graphql.execution.preparsed.persisted.PersistedQueryCacheMiss;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.graphql.GraphQlSourceBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * GraphQL configuration
+ * Guards the endpoint with depth/complexity limits and enables Apollo-style persisted queries
+ */
+@Configuration
+public class GraphQlConfig {
+
+    @Value("${app.graphql.max-depth:8}")
+    private int maxDepth;
+
+    @Value("${app.graphql.max-complexity:500}")
+    private int maxComplexity;
+
+    @Value("${app.graphql.persisted-query-cache-size:1000}")
+    private int persistedQueryCacheSize;
+
+    /**
+     * Reject queries nested deeper than the configured limit before execution
+     */
+    @Bean
+    public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation() {
+        return new MaxQueryDepthInstrumentation(maxDepth);
+    }
+
+    /**
+     * Reject queries whose field count exceeds the configured limit before execution
+     */
+    @Bean
+    public MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation() {
+        return new MaxQueryComplexityInstrumentation(maxComplexity);
+    }
+
+    /**
+     * Persisted queries: clients send a sha256 hash and hot operations skip parsing and validation
+     * Any client can register documents, so the cache keeps only the most recently used ones
+     */
+    @Bean
+    public GraphQlSourceBuilderCustomizer persistedQueryCustomizer() {
+        PersistedQueryCache cache = new BoundedPersistedQueryCache(persistedQueryCacheSize);
+        return builder -> builder.configureGraphQl(graphQl ->
+                graphQl.preparsedDocumentProvider(new ApolloPersistedQuerySupport(cache)));
+    }
+
+    /**
+     * Least-recently-used cache of parsed and validated persisted documents
+     * Documents are parsed outside the lock; two first requests for one hash may both parse it
+     */
+    static class BoundedPersistedQueryCache implements PersistedQueryCache {
+
+        private final Map<Object, PreparsedDocumentEntry> documents;
+
+        BoundedPersistedQueryCache(int maxSize) {
+            this.documents = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Object, PreparsedDocumentEntry> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+
+        @Override
+        public PreparsedDocumentEntry getPersistedQueryDocument(Object persistedQueryId, ExecutionInput executionInput,
+                                                                PersistedQueryCacheMiss onCacheMiss)
+                throws PersistedQueryNotFound {
+            synchronized (documents) {
+                PreparsedDocumentEntry cached = documents.get(persistedQueryId);
+                if (cached != null) {
+                    return cached;
+                }
+            }
+            String query = executionInput.getQuery();
+            if (query == null || query.isBlank() || PersistedQuerySupport.PERSISTED_QUERY_MARKER.equals(query)) {
+                throw new PersistedQueryNotFound(persistedQueryId);
+            }
+            PreparsedDocumentEntry entry = onCacheMiss.apply(query);
+            if (!entry.hasErrors()) {
+                synchronized (documents) {
+                    documents.put(persistedQueryId, entry);
+                }
+            }
+            return entry;
+        }
+    }
+}
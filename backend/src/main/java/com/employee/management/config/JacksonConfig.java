@@ -0,0 +1,40 @@
+package com.employee.management.config;
+
+import com.employee.management.dto.ApiResponse;
+import com.employee.management.dto.EmployeeDto;
+import com.employee.management.serialization.ApiResponseSerializer;
+import com.employee.management.serialization.EmployeeDtoSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tuned Jackson serialization path, enabled with app.serialization.mode=tuned
+ * Module beans are picked up by Spring Boot's ObjectMapper, so JSON, CBOR and Smile all use them
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.serialization.mode", havingValue = "tuned")
+public class JacksonConfig {
+
+    /**
+     * Hand-written streaming serializers for the hottest response types
+     */
+    @Bean
+    public Module employeeSerializationModule() {
+        SimpleModule module = new SimpleModule("EmployeeSerializationModule");
+        module.addSerializer(EmployeeDto.class, new EmployeeDtoSerializer());
+        module.addSerializer(ApiResponse.class, new ApiResponseSerializer());
+        return module;
+    }
+
+    /**
+     * Generated accessors instead of reflection for every other bean (Page metadata, batch results)
+     */
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
@@ -0,0 +1,12 @@
+package com.employee.management.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs (replica health, cache maintenance)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
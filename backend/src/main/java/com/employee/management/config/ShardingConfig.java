@@ -0,0 +1,112 @@
+package com.employee.management.config;
+
+import com.employee.management.sharding.ConfiguredShardResolver;
+import com.employee.management.sharding.HeaderTenantResolver;
+import com.employee.management.sharding.ShardDataSources;
+import com.employee.management.sharding.ShardIdRanges;
+import com.employee.management.sharding.ShardResolver;
+import com.employee.management.sharding.ShardRoutingDataSource;
+import com.employee.management.sharding.ShardingProperties;
+import com.employee.management.sharding.TenantResolver;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+
+/**
+ * Tenant sharding, enabled with app.sharding.enabled=true
+ * spring.datasource is the default shard; app.sharding.shards lists the other databases and the
+ * tenants they hold. Replace TenantResolver or ShardResolver by declaring a bean of that type.
+ */
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+@Slf4j
+public class ShardingConfig {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public TenantResolver tenantResolver(ShardingProperties properties) {
+        return new HeaderTenantResolver(properties.getTenantHeader());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ShardResolver shardResolver(ShardingProperties properties) {
+        return new ConfiguredShardResolver(properties);
+    }
+
+    /**
+     * Default shard pool, configured from spring.datasource and spring.datasource.hikari
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource defaultShardDataSource(DataSourceProperties properties, ShardingProperties sharding) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("shard-" + sharding.getDefaultShard());
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+    public ShardDataSources shardDataSources(HikariDataSource defaultShardDataSource, ShardingProperties properties) {
+        return new ShardDataSources(properties.getDefaultShard(), defaultShardDataSource, properties);
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+    public DataSource dataSource(ShardDataSources shardDataSources,
+                                 ShardingProperties properties,
+                                 @Value("${app.datasource.routing.enabled:false}") boolean replicaRouting) {
+        if (replicaRouting) {
+            throw new IllegalStateException("app.sharding and app.datasource.routing cannot be enabled together");
+        }
+        ShardRoutingDataSource routing = new ShardRoutingDataSource();
+        routing.setTargetDataSources(new HashMap<>(shardDataSources.getDataSources()));
+        routing.setDefaultTargetDataSource(shardDataSources.getDataSources().get(properties.getDefaultShard()));
+        routing.setLenientFallback(false);
+        routing.afterPropertiesSet();
+
+        log.info("Routing employee data across {} shard(s): {}", shardDataSources.getDataSources().size(),
+                shardDataSources.getDataSources().keySet());
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * Apply the migrations to every shard, not just the DataSource Flyway was given
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+    public FlywayMigrationStrategy shardMigrationStrategy(ShardDataSources shardDataSources) {
+        return flyway -> shardDataSources.getDataSources().forEach((shard, dataSource) -> {
+            log.info("Migrating shard {}", shard);
+            Flyway.configure(flyway.getConfiguration().getClassLoader())
+                    .configuration(flyway.getConfiguration())
+                    .dataSource(dataSource)
+                    .load()
+                    .migrate();
+        });
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+    public ShardIdRanges shardIdRanges(ShardDataSources shardDataSources, ShardingProperties properties) {
+        return new ShardIdRanges(shardDataSources, properties);
+    }
+}
@@ -0,0 +1,107 @@
+package com.employee.management.controller;
+
+import com.employee.management.dto.ApiResponse;
+import com.employee.management.dto.OrgStatsDto;
+import com.employee.management.service.AnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for organization analytics
+ * Served from in-memory aggregates; figures may lag committed writes by a few milliseconds
+ */
+@RestController
+@RequestMapping("/v1/analytics")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*") // For frontend integration
+@Tag(name = "Organization Analytics", description = "Precomputed headcount, salary and tenure statistics")
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+
+    /**
+     * Get statistics for every department
+     * GET /api/v1/analytics/departments
+     */
+    @Operation(summary = "Get statistics for every department")
+    @GetMapping("/departments")
+    public ResponseEntity<ApiResponse<List<OrgStatsDto>>> getDepartmentStats() {
+        log.info("Fetching department statistics");
+
+        List<OrgStatsDto> stats = analyticsService.getDepartmentStats();
+
+        ApiResponse<List<OrgStatsDto>> response = ApiResponse.<List<OrgStatsDto>>builder()
+                .success(true)
+                .message("Department statistics retrieved successfully")
+                .data(stats)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get statistics for one department
+     * GET /api/v1/analytics/departments/{department}
+     */
+    @Operation(summary = "Get statistics for one department")
+    @GetMapping("/departments/{department}")
+    public ResponseEntity<ApiResponse<OrgStatsDto>> getDepartmentStats(@PathVariable String department) {
+        log.info("Fetching statistics for department: {}", department);
+
+        OrgStatsDto stats = analyticsService.getDepartmentStats(department);
+
+        ApiResponse<OrgStatsDto> response = ApiResponse.<OrgStatsDto>builder()
+                .success(true)
+                .message("Department statistics retrieved successfully")
+                .data(stats)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get statistics for the direct reports of a manager
+     * GET /api/v1/analytics/managers/{managerId}
+     */
+    @Operation(summary = "Get statistics for a manager's direct reports")
+    @GetMapping("/managers/{managerId}")
+    public ResponseEntity<ApiResponse<OrgStatsDto>> getManagerStats(@PathVariable Integer managerId) {
+        log.info("Fetching statistics for manager: {}", managerId);
+
+        OrgStatsDto stats = analyticsService.getManagerStats(managerId);
+
+        ApiResponse<OrgStatsDto> response = ApiResponse.<OrgStatsDto>builder()
+                .success(true)
+                .message("Manager statistics retrieved successfully")
+                .data(stats)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Rebuild all aggregates from the database
+     * POST /api/v1/analytics/reconcile
+     */
+    @Operation(summary = "Rebuild analytics from the database")
+    @PostMapping("/reconcile")
+    public ResponseEntity<ApiResponse<Void>> reconcile() {
+        log.info("Reconciling organization analytics");
+
+        analyticsService.reconcile();
+
+        ApiResponse<Void> response = ApiResponse.<Void>builder()
+                .success(true)
+                .message("Analytics reconciled successfully")
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,112 @@
+package com.employee.management.controller;
+
+import com.employee.management.dto.ApiResponse;
+import com.employee.management.dto.ArchiveRunResult;
+import com.employee.management.dto.ArchivedEmployeeDto;
+import com.employee.management.service.ArchiveService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for archived employees
+ * Employees inactive beyond the retention period live here instead of the employees table
+ */
+@RestController
+@RequestMapping("/v1/archive")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*") // For frontend integration
+@Tag(name = "Employee Archive", description = "Read access to archived employees and manual archival runs")
+public class ArchiveController {
+
+    private final ArchiveService archiveService;
+
+    /**
+     * Get archived employees, most recently archived first
+     * GET /api/v1/archive/employees?page=0&size=20
+     */
+    @Operation(summary = "Get archived employees")
+    @GetMapping("/employees")
+    public ResponseEntity<ApiResponse<Page<ArchivedEmployeeDto>>> getArchivedEmployees(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        log.info("Fetching archived employees (page: {}, size: {})", page, size);
+
+        Page<ArchivedEmployeeDto> archived = archiveService.getArchivedEmployees(page, size);
+
+        ApiResponse<Page<ArchivedEmployeeDto>> response = ApiResponse.<Page<ArchivedEmployeeDto>>builder()
+                .success(true)
+                .message("Archived employees retrieved successfully")
+                .data(archived)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get an archived employee by ID
+     * GET /api/v1/archive/employees/{id}
+     */
+    @Operation(summary = "Get an archived employee by ID")
+    @GetMapping("/employees/{id}")
+    public ResponseEntity<ApiResponse<ArchivedEmployeeDto>> getArchivedEmployee(@PathVariable Integer id) {
+        log.info("Fetching archived employee with id: {}", id);
+
+        ArchivedEmployeeDto archived = archiveService.getArchivedEmployee(id);
+
+        ApiResponse<ArchivedEmployeeDto> response = ApiResponse.<ArchivedEmployeeDto>builder()
+                .success(true)
+                .message("Archived employee retrieved successfully")
+                .data(archived)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Find archived employees by email
+     * GET /api/v1/archive/employees/search?email=john.smith@company.com
+     */
+    @Operation(summary = "Find archived employees by email")
+    @GetMapping("/employees/search")
+    public ResponseEntity<ApiResponse<List<ArchivedEmployeeDto>>> findArchivedByEmail(@RequestParam String email) {
+        log.info("Searching archived employees by email: {}", email);
+
+        List<ArchivedEmployeeDto> archived = archiveService.getArchivedEmployeesByEmail(email);
+
+        ApiResponse<List<ArchivedEmployeeDto>> response = ApiResponse.<List<ArchivedEmployeeDto>>builder()
+                .success(true)
+                .message("Found " + archived.size() + " archived employees")
+                .data(archived)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Run archival now instead of waiting for the nightly job
+     * POST /api/v1/archive/run
+     */
+    @Operation(summary = "Run archival now", description = "Does nothing if another node is already archiving")
+    @PostMapping("/run")
+    public ResponseEntity<ApiResponse<ArchiveRunResult>> runArchival() {
+        log.info("Manual archival run requested");
+
+        ArchiveRunResult result = archiveService.archiveInactiveEmployees();
+
+        ApiResponse<ArchiveRunResult> response = ApiResponse.<ArchiveRunResult>builder()
+                .success(true)
+                .message(result.isRan() ? "Archived " + result.getArchived() + " employees" : "Archival already running on another node")
+                .data(result)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+}
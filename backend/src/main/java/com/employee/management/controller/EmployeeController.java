@@ -1,9 +1,14 @@
 package com.employee.management.controller;
 
 import com.employee.management.dto.ApiResponse;
+import com.employee.management.dto.AsOf;
+import com.employee.management.dto.EmployeeBatchResponse;
 import com.employee.management.dto.EmployeeDto;
+import com.employee.management.dto.EmployeeField;
+import com.employee.management.dto.EmployeeImportResult;
 import com.employee.management.dto.EmployeeRequest;
 import com.employee.management.dto.EmployeeSearchRequest;
+import com.employee.management.service.EmployeeAsOfService;
 import com.employee.management.service.EmployeeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -21,6 +26,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * REST Controller for Employee CRUD operations
@@ -34,6 +40,7 @@ import java.util.List;
 public class EmployeeController {
 
     private final EmployeeService employeeService;
+    private final EmployeeAsOfService employeeAsOfService;
 
     @Operation(
         summary = "Get all employees",
@@ -68,6 +75,50 @@ public class EmployeeController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Get all employees with a sparse fieldset
+     * GET /api/v1/employees?fields=id,fullName,department
+     */
+    @GetMapping(params = {"fields", "!asOf"})
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getAllEmployeesWithFields(
+            @Parameter(description = "Comma-separated fields to return", example = "id,fullName,department")
+            @RequestParam String fields) {
+        log.info("Fetching all employees with fields: {}", fields);
+        
+        List<Map<String, Object>> employees = employeeService.getAllEmployees(EmployeeField.parse(fields));
+        
+        ApiResponse<List<Map<String, Object>>> response = ApiResponse.<List<Map<String, Object>>>builder()
+                .success(true)
+                .message("Employees retrieved successfully")
+                .data(employees)
+                .build();
+        
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get the employees that were active at a past date or instant, from the employee history
+     * GET /api/v1/employees?asOf=2023-06-30
+     */
+    @GetMapping(params = "asOf")
+    public ResponseEntity<ApiResponse<List<EmployeeDto>>> getAllEmployeesAsOf(
+            @Parameter(description = "ISO date (end of that day) or date-time", example = "2023-06-30")
+            @RequestParam String asOf,
+            @RequestParam(required = false) String fields) {
+        log.info("Fetching all employees as of {}", asOf);
+        rejectFieldsWithAsOf(fields);
+        
+        List<EmployeeDto> employees = employeeAsOfService.getAllEmployees(AsOf.parse(asOf));
+        
+        ApiResponse<List<EmployeeDto>> response = ApiResponse.<List<EmployeeDto>>builder()
+                .success(true)
+                .message("Employees retrieved successfully as of " + asOf)
+                .data(employees)
+                .build();
+        
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Get employees with pagination
      * GET /api/v1/employees/paginated?page=0&size=10&sortBy=firstName&sortDirection=asc
@@ -93,6 +144,33 @@ public class EmployeeController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Get employees with pagination and a sparse fieldset
+     * GET /api/v1/employees/paginated?page=0&size=10&fields=id,fullName,department
+     */
+    @GetMapping(value = "/paginated", params = "fields")
+    public ResponseEntity<ApiResponse<Page<Map<String, Object>>>> getAllEmployeesPaginatedWithFields(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "firstName") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            @RequestParam String fields) {
+        
+        log.info("Fetching employees with pagination - page: {}, size: {}, sortBy: {}, sortDirection: {}, fields: {}", 
+                page, size, sortBy, sortDirection, fields);
+        
+        Page<Map<String, Object>> employees = employeeService.getAllEmployees(
+                page, size, sortBy, sortDirection, EmployeeField.parse(fields));
+        
+        ApiResponse<Page<Map<String, Object>>> response = ApiResponse.<Page<Map<String, Object>>>builder()
+                .success(true)
+                .message("Employees retrieved successfully")
+                .data(employees)
+                .build();
+        
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(
         summary = "Get employee by ID",
         description = "Retrieves a specific employee by their unique identifier"
@@ -124,6 +202,47 @@ public class EmployeeController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+        summary = "Get employees by IDs",
+        description = "Retrieves several employees in one call, in request order, reporting missing and inactive IDs"
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200", 
+            description = "Employees resolved successfully"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400", 
+            description = "No IDs supplied or too many IDs requested"
+        )
+    })
+    @GetMapping("/batch")
+    public ResponseEntity<ApiResponse<EmployeeBatchResponse>> getEmployeesByIds(
+        @Parameter(description = "Comma-separated employee IDs", example = "1,2,3", required = true)
+        @RequestParam List<Integer> ids) {
+        log.info("Fetching {} employees by id", ids.size());
+        
+        EmployeeBatchResponse batch = employeeService.getEmployeesByIds(ids);
+        
+        ApiResponse<EmployeeBatchResponse> response = ApiResponse.<EmployeeBatchResponse>builder()
+                .success(true)
+                .message("Employees retrieved successfully")
+                .data(batch)
+                .count(batch.getEmployees().size())
+                .build();
+        
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get employees by IDs supplied in the request body
+     * POST /api/v1/employees/batch
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<EmployeeBatchResponse>> getEmployeesByIdsFromBody(@RequestBody List<Integer> ids) {
+        return getEmployeesByIds(ids);
+    }
+
     @Operation(
         summary = "Create new employee", 
         description = "Creates a new employee record with the provided information"
@@ -159,6 +278,29 @@ public class EmployeeController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * Bulk import; rows that look like an existing employee are skipped unless skipDuplicates=false
+     * POST /api/v1/employees/import?skipDuplicates=true
+     */
+    @Operation(summary = "Import employees",
+               description = "Creates each row in its own transaction and reports the outcome per row, including probable duplicates")
+    @PostMapping("/import")
+    public ResponseEntity<ApiResponse<EmployeeImportResult>> importEmployees(
+            @RequestBody List<EmployeeRequest> requests,
+            @RequestParam(defaultValue = "true") boolean skipDuplicates) {
+        log.info("Importing {} employees, skipDuplicates={}", requests.size(), skipDuplicates);
+
+        EmployeeImportResult result = employeeService.importEmployees(requests, skipDuplicates);
+
+        ApiResponse<EmployeeImportResult> response = ApiResponse.<EmployeeImportResult>builder()
+                .success(true)
+                .message(String.format("Imported %d of %d employees", result.getCreated(), requests.size()))
+                .data(result)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Update existing employee
      * PUT /api/v1/employees/{id}
@@ -218,6 +360,27 @@ public class EmployeeController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Search employees with a sparse fieldset
+     * POST /api/v1/employees/search?fields=id,fullName,department
+     */
+    @PostMapping(value = "/search", params = "fields")
+    public ResponseEntity<ApiResponse<Page<Map<String, Object>>>> searchEmployeesWithFields(
+            @RequestBody EmployeeSearchRequest searchRequest,
+            @RequestParam String fields) {
+        log.info("Searching employees with criteria: {}, fields: {}", searchRequest, fields);
+        
+        Page<Map<String, Object>> employees = employeeService.searchEmployees(searchRequest, EmployeeField.parse(fields));
+        
+        ApiResponse<Page<Map<String, Object>>> response = ApiResponse.<Page<Map<String, Object>>>builder()
+                .success(true)
+                .message("Employees search completed successfully")
+                .data(employees)
+                .build();
+        
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Get employees by department
      * GET /api/v1/employees/department/{department}
@@ -237,6 +400,85 @@ public class EmployeeController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Get employees by department with a sparse fieldset
+     * GET /api/v1/employees/department/{department}?fields=id,fullName
+     */
+    @GetMapping(value = "/department/{department}", params = {"fields", "!asOf"})
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getEmployeesByDepartmentWithFields(
+            @PathVariable String department,
+            @RequestParam String fields) {
+        log.info("Fetching employees in department: {}, fields: {}", department, fields);
+        
+        List<Map<String, Object>> employees = employeeService.getEmployeesByDepartment(
+                department, EmployeeField.parse(fields));
+        
+        ApiResponse<List<Map<String, Object>>> response = ApiResponse.<List<Map<String, Object>>>builder()
+                .success(true)
+                .message("Employees retrieved successfully for department: " + department)
+                .data(employees)
+                .build();
+        
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get the employees of a department as it stood at a past date or instant
+     * GET /api/v1/employees/department/{department}?asOf=2023-06-30
+     */
+    @GetMapping(value = "/department/{department}", params = "asOf")
+    public ResponseEntity<ApiResponse<List<EmployeeDto>>> getEmployeesByDepartmentAsOf(
+            @PathVariable String department,
+            @RequestParam String asOf,
+            @RequestParam(required = false) String fields) {
+        log.info("Fetching employees in department: {} as of {}", department, asOf);
+        rejectFieldsWithAsOf(fields);
+        
+        List<EmployeeDto> employees = employeeAsOfService.getEmployeesByDepartment(department, AsOf.parse(asOf));
+        
+        ApiResponse<List<EmployeeDto>> response = ApiResponse.<List<EmployeeDto>>builder()
+                .success(true)
+                .message("Employees retrieved successfully for department: " + department + " as of " + asOf)
+                .data(employees)
+                .build();
+        
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get all departments with active employees
+     * GET /api/v1/employees/departments
+     */
+    @GetMapping("/departments")
+    public ResponseEntity<ApiResponse<List<String>>> getAllDepartments() {
+        log.info("Fetching all departments");
+        
+        ApiResponse<List<String>> response = ApiResponse.<List<String>>builder()
+                .success(true)
+                .message("Departments retrieved successfully")
+                .data(employeeService.getAllDepartments())
+                .build();
+        
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get all positions held by active employees
+     * GET /api/v1/employees/positions
+     */
+    @GetMapping("/positions")
+    public ResponseEntity<ApiResponse<List<String>>> getAllPositions() {
+        log.info("Fetching all positions");
+        
+        ApiResponse<List<String>> response = ApiResponse.<List<String>>builder()
+                .success(true)
+                .message("Positions retrieved successfully")
+                .data(employeeService.getAllPositions())
+                .build();
+        
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(
         summary = "Health check",
         description = "Simple endpoint to verify that the Employee API service is running and healthy"
@@ -257,4 +499,11 @@ public class EmployeeController {
         
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    // Sparse fieldsets are served from the current-state projections only
+    private static void rejectFieldsWithAsOf(String fields) {
+        if (fields != null) {
+            throw new IllegalArgumentException("fields cannot be combined with asOf");
+        }
+    }
+}
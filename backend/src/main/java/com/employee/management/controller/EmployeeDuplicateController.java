@@ -0,0 +1,91 @@
+package com.employee.management.controller;
+
+import com.employee.management.dto.ApiResponse;
+import com.employee.management.dto.DuplicateCandidateDto;
+import com.employee.management.dto.DuplicateReportDto;
+import com.employee.management.dto.EmployeeRequest;
+import com.employee.management.service.DuplicateDetectionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for near-duplicate person detection
+ * Answered from an in-memory MinHash/LSH index over names, emails and phone numbers
+ */
+@RestController
+@RequestMapping("/v1/employees/duplicates")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*") // For frontend integration
+@Tag(name = "Employee Duplicates", description = "Find employees that are probably the same person")
+public class EmployeeDuplicateController {
+
+    private final DuplicateDetectionService duplicateDetectionService;
+
+    /**
+     * Probable duplicates of an employee that is about to be created
+     * POST /api/v1/employees/duplicates/check
+     */
+    @Operation(summary = "Check for probable duplicates",
+               description = "Active employees whose name, email and phone are similar to the given employee, most similar first")
+    @PostMapping("/check")
+    public ResponseEntity<ApiResponse<List<DuplicateCandidateDto>>> check(@RequestBody EmployeeRequest request) {
+        log.info("Checking for duplicates of {} {}", request.getFirstName(), request.getLastName());
+
+        List<DuplicateCandidateDto> candidates = duplicateDetectionService.findCandidates(request);
+
+        ApiResponse<List<DuplicateCandidateDto>> response = ApiResponse.<List<DuplicateCandidateDto>>builder()
+                .success(true)
+                .message(String.format("Found %d probable duplicates", candidates.size()))
+                .data(candidates)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Probable duplicate groups across all active employees
+     * GET /api/v1/employees/duplicates/report?threshold=0.6
+     */
+    @Operation(summary = "Duplicate report",
+               description = "Groups of active employees that are probably the same person, most similar first")
+    @GetMapping("/report")
+    public ResponseEntity<ApiResponse<DuplicateReportDto>> report(@RequestParam(required = false) Double threshold) {
+        log.info("Generating duplicate report, threshold={}", threshold);
+
+        DuplicateReportDto report = duplicateDetectionService.report(threshold);
+
+        ApiResponse<DuplicateReportDto> response = ApiResponse.<DuplicateReportDto>builder()
+                .success(true)
+                .message(String.format("Found %d duplicate groups", report.getGroups().size()))
+                .data(report)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Rebuild the index from the database
+     * POST /api/v1/employees/duplicates/rebuild
+     */
+    @Operation(summary = "Rebuild the duplicate index from the database")
+    @PostMapping("/rebuild")
+    public ResponseEntity<ApiResponse<Void>> rebuild() {
+        log.info("Rebuilding duplicate index");
+
+        duplicateDetectionService.rebuild();
+
+        ApiResponse<Void> response = ApiResponse.<Void>builder()
+                .success(true)
+                .message("Duplicate index rebuilt successfully")
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+}
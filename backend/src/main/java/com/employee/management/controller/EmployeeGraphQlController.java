@@ -0,0 +1,146 @@
+package com.employee.management.controller;
+
+import com.employee.management.dto.AsOf;
+import com.employee.management.dto.EmployeeDto;
+import com.employee.management.exception.ResourceNotFoundException;
+import com.employee.management.service.EmployeeAsOfService;
+import com.employee.management.service.EmployeeService;
+import graphql.GraphQLContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.stereotype.Controller;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * GraphQL controller over the employee graph
+ * manager and directReports use batch mappings so each relation level costs one set query
+ * A root field's asOf argument is kept in the GraphQLContext, so the relations below it are read
+ * from the employee history at the same instant; one request uses a single instant
+ */
+@Controller
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeGraphQlController {
+
+    /**
+     * Upper bound on keys per batch load, kept below app.employee.batch.max-ids
+     */
+    private static final int MAX_BATCH_SIZE = 500;
+
+    private static final String AS_OF_KEY = EmployeeGraphQlController.class.getName() + ".asOf";
+
+    private final EmployeeService employeeService;
+    private final EmployeeAsOfService employeeAsOfService;
+
+    @QueryMapping
+    public EmployeeDto employee(@Argument Integer id, @Argument String asOf, GraphQLContext context) {
+        log.debug("GraphQL: fetching employee with id: {}, as of: {}", id, asOf);
+        Optional<LocalDateTime> instant = bindAsOf(asOf, context);
+        if (instant.isEmpty()) {
+            return employeeService.getEmployeeById(id);
+        }
+        return employeeAsOfService.getEmployeesByIds(List.of(id), instant.get()).stream()
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Employee with id " + id + " was not active as of " + asOf));
+    }
+
+    @QueryMapping
+    public List<EmployeeDto> employees(@Argument List<Integer> ids, @Argument String asOf, GraphQLContext context) {
+        log.debug("GraphQL: fetching {} employees by id, as of: {}", ids.size(), asOf);
+        Map<Integer, EmployeeDto> byId = findActiveByIds(ids, bindAsOf(asOf, context));
+        return ids.stream()
+                .map(byId::get)
+                .toList();
+    }
+
+    @QueryMapping
+    public List<EmployeeDto> employeesByDepartment(@Argument String department, @Argument String asOf,
+                                                   GraphQLContext context) {
+        log.debug("GraphQL: fetching employees in department: {}, as of: {}", department, asOf);
+        return bindAsOf(asOf, context)
+                .map(instant -> employeeAsOfService.getEmployeesByDepartment(department, instant))
+                .orElseGet(() -> employeeService.getEmployeesByDepartment(department));
+    }
+
+    @QueryMapping
+    public List<EmployeeDto> topLevelEmployees(@Argument String asOf, GraphQLContext context) {
+        log.debug("GraphQL: fetching top-level employees, as of: {}", asOf);
+        return bindAsOf(asOf, context)
+                .map(employeeAsOfService::getTopLevelEmployees)
+                .orElseGet(employeeService::getTopLevelEmployees);
+    }
+
+    /**
+     * Resolve managers for every employee in the current level with one IN query
+     */
+    @BatchMapping(maxBatchSize = MAX_BATCH_SIZE)
+    public List<EmployeeDto> manager(List<EmployeeDto> employees, GraphQLContext context) {
+        List<Integer> managerIds = employees.stream()
+                .map(EmployeeDto::getManagerId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        Map<Integer, EmployeeDto> managers = managerIds.isEmpty() ? Map.of() : findActiveByIds(managerIds, boundAsOf(context));
+        return employees.stream()
+                .map(employee -> employee.getManagerId() == null ? null : managers.get(employee.getManagerId()))
+                .toList();
+    }
+
+    /**
+     * Resolve direct reports for every employee in the current level with one IN query
+     */
+    @BatchMapping(maxBatchSize = MAX_BATCH_SIZE)
+    public List<List<EmployeeDto>> directReports(List<EmployeeDto> employees, GraphQLContext context) {
+        List<Integer> managerIds = employees.stream()
+                .map(EmployeeDto::getId)
+                .toList();
+
+        Optional<LocalDateTime> asOf = boundAsOf(context);
+        List<EmployeeDto> reports = asOf.isPresent()
+                ? employeeAsOfService.getEmployeesByManagers(managerIds, asOf.get())
+                : employeeService.getEmployeesByManagers(managerIds);
+        Map<Integer, List<EmployeeDto>> reportsByManager = reports.stream()
+                .collect(Collectors.groupingBy(EmployeeDto::getManagerId));
+        return employees.stream()
+                .map(employee -> reportsByManager.getOrDefault(employee.getId(), List.of()))
+                .toList();
+    }
+
+    private Map<Integer, EmployeeDto> findActiveByIds(List<Integer> ids, Optional<LocalDateTime> asOf) {
+        List<EmployeeDto> employees = asOf.isPresent()
+                ? employeeAsOfService.getEmployeesByIds(ids, asOf.get())
+                : employeeService.getEmployeesByIds(ids).getEmployees();
+        return employees.stream()
+                .collect(Collectors.toMap(EmployeeDto::getId, Function.identity()));
+    }
+
+    /**
+     * Record the root field's instant (empty for current state) for the batch mappings below it;
+     * relations of different root fields share a batch, so they must agree on it
+     */
+    private static Optional<LocalDateTime> bindAsOf(String asOf, GraphQLContext context) {
+        Optional<LocalDateTime> instant = asOf == null ? Optional.empty() : Optional.of(AsOf.parse(asOf));
+        Optional<Optional<LocalDateTime>> bound = context.getOrEmpty(AS_OF_KEY);
+        if (bound.isEmpty()) {
+            context.put(AS_OF_KEY, instant);
+        } else if (!bound.get().equals(instant)) {
+            throw new IllegalArgumentException("All fields of one request must use the same asOf");
+        }
+        return instant;
+    }
+
+    private static Optional<LocalDateTime> boundAsOf(GraphQLContext context) {
+        return context.getOrDefault(AS_OF_KEY, Optional.empty());
+    }
+}
@@ -0,0 +1,66 @@
+package com.employee.management.controller;
+
+import com.employee.management.dto.ApiResponse;
+import com.employee.management.dto.EmployeeAuditDto;
+import com.employee.management.service.AuditService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for employee change history
+ */
+@RestController
+@RequestMapping("/v1/employees/{id}/history")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*") // For frontend integration
+@Tag(name = "Employee History", description = "Audit trail of salary, department, position, manager and status changes")
+public class EmployeeHistoryController {
+
+    private final AuditService auditService;
+
+    /**
+     * Get the change history of an employee
+     * GET /api/v1/employees/{id}/history?field=salary&page=0&size=20
+     */
+    @Operation(summary = "Get employee change history", description = "Newest first; optionally restricted to one field")
+    @GetMapping
+    public ResponseEntity<ApiResponse<Page<EmployeeAuditDto>>> getHistory(
+            @PathVariable Integer id,
+            @Parameter(description = "salary, department, position, managerId or isActive", example = "salary")
+            @RequestParam(required = false) String field,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        log.info("Fetching history for employee {} (field: {})", id, field);
+
+        Page<EmployeeAuditDto> history = auditService.getEmployeeHistory(id, field, page, size);
+
+        ApiResponse<Page<EmployeeAuditDto>> response = ApiResponse.<Page<EmployeeAuditDto>>builder()
+                .success(true)
+                .message("Employee history retrieved successfully")
+                .data(history)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get the history of one field of an employee
+     * GET /api/v1/employees/{id}/history/{field}
+     */
+    @Operation(summary = "Get the history of one field of an employee")
+    @GetMapping("/{field}")
+    public ResponseEntity<ApiResponse<Page<EmployeeAuditDto>>> getFieldHistory(
+            @PathVariable Integer id,
+            @PathVariable String field,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return getHistory(id, field, page, size);
+    }
+}
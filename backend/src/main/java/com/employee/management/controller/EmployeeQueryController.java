@@ -0,0 +1,67 @@
+package com.employee.management.controller;
+
+import com.employee.management.dto.ApiResponse;
+import com.employee.management.dto.EmployeeQueryRequest;
+import com.employee.management.dto.EmployeeQueryResponse;
+import com.employee.management.service.EmployeeQueryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for ad-hoc employee queries
+ * Answered from an in-memory columnar snapshot instead of a JPA method per filter combination
+ */
+@RestController
+@RequestMapping("/v1/employees/query")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*") // For frontend integration
+@Tag(name = "Employee Query", description = "Filter and sort active employees from an in-memory snapshot")
+public class EmployeeQueryController {
+
+    private final EmployeeQueryService employeeQueryService;
+
+    /**
+     * Filter, sort and page active employees
+     * POST /api/v1/employees/query
+     */
+    @Operation(summary = "Query employees",
+               description = "Any combination of department, position, manager, salary range and hire-date window, with sort and paging")
+    @PostMapping
+    public ResponseEntity<ApiResponse<EmployeeQueryResponse>> query(@RequestBody EmployeeQueryRequest request) {
+        log.info("Querying employee snapshot: {}", request);
+
+        EmployeeQueryResponse result = employeeQueryService.query(request);
+
+        ApiResponse<EmployeeQueryResponse> response = ApiResponse.<EmployeeQueryResponse>builder()
+                .success(true)
+                .message("Employees queried successfully")
+                .data(result)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Rebuild the snapshot from the database
+     * POST /api/v1/employees/query/rebuild
+     */
+    @Operation(summary = "Rebuild the employee query snapshot from the database")
+    @PostMapping("/rebuild")
+    public ResponseEntity<ApiResponse<Void>> rebuild() {
+        log.info("Rebuilding employee query snapshot");
+
+        employeeQueryService.rebuild();
+
+        ApiResponse<Void> response = ApiResponse.<Void>builder()
+                .success(true)
+                .message("Employee query snapshot rebuilt successfully")
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,72 @@
+package com.employee.management.controller;
+
+import com.employee.management.dto.ReportPartitioning;
+import com.employee.management.service.ReportService;
+import com.employee.management.sharding.ShardContext;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.YearMonth;
+
+/**
+ * REST Controller for company-wide report exports
+ */
+@RestController
+@RequestMapping("/v1/reports")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*") // For frontend integration
+@Tag(name = "Reports", description = "Per-department rosters and salary reports as a zip archive")
+public class ReportController {
+
+    private final ReportService reportService;
+
+    /**
+     * Download the monthly roster and salary report archive
+     * GET /api/v1/reports/monthly?partitionBy=department&parallelism=4
+     */
+    @Operation(summary = "Download the monthly report archive",
+               description = "Rosters per partition plus a company-wide salary report, generated in parallel")
+    @GetMapping(value = "/monthly", produces = "application/zip")
+    public ResponseEntity<StreamingResponseBody> getMonthlyReport(
+            @Parameter(description = "department or id-range", example = "department")
+            @RequestParam(defaultValue = "department") String partitionBy,
+            @Parameter(description = "Number of partitions read and formatted concurrently", example = "4")
+            @RequestParam(defaultValue = "${app.report.default-parallelism:4}") int parallelism) {
+        log.info("Generating monthly report by {} with parallelism {}", partitionBy, parallelism);
+
+        ReportPartitioning partitioning = ReportPartitioning.parse(partitionBy);
+        // The body runs on the MVC async executor, so carry the request's tenant binding over to it
+        ShardContext.Binding binding = ShardContext.current();
+        StreamingResponseBody body = out -> {
+            try {
+                ShardContext.runWith(binding, () -> {
+                    try {
+                        reportService.writeMonthlyArchive(partitioning, parallelism, out);
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+        };
+
+        String filename = "employee-reports-" + YearMonth.now() + ".zip";
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .body(body);
+    }
+}
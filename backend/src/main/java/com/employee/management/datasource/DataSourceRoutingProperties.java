@@ -0,0 +1,54 @@
+package com.employee.management.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replica configuration (app.datasource.routing.*)
+ * The primary is the regular spring.datasource
+ */
+@Data
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public class DataSourceRoutingProperties {
+
+    /**
+     * Route read-only transactions to replicas
+     */
+    private boolean enabled = false;
+
+    /**
+     * How long a client's reads stay on the primary after its own write
+     */
+    private Duration stickyWindow = Duration.ofSeconds(5);
+
+    /**
+     * Replicas lagging more than this are taken out of rotation
+     */
+    private Duration maxReplicaLag = Duration.ofSeconds(10);
+
+    /**
+     * How often replica lag is measured
+     */
+    private Duration lagCheckInterval = Duration.ofSeconds(2);
+
+    /**
+     * Query returning replica lag in seconds; leave empty for databases without replication (e.g. H2)
+     */
+    private String lagQuery = "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())), 0) END";
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Data
+    public static class Replica {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
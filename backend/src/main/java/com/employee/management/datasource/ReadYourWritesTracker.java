@@ -0,0 +1,56 @@
+package com.employee.management.datasource;
+
+import com.employee.management.event.EmployeeChangedEvent;
+import com.employee.management.web.ClientContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which clients committed a write recently
+ * Their reads are pinned to the primary for the sticky window so they always see their own writes.
+ * Writes are taken from EmployeeChangedEvent after commit, so only requests that changed an employee
+ * count, not every transaction that merely ran on the primary.
+ */
+@Component
+@Lazy(false)
+public class ReadYourWritesTracker {
+
+    private final Map<String, Long> lastWriteNanos = new ConcurrentHashMap<>();
+    private final long stickyWindowNanos;
+
+    public ReadYourWritesTracker(@Value("${app.datasource.routing.sticky-window:5s}") Duration stickyWindow) {
+        this.stickyWindowNanos = stickyWindow.toNanos();
+    }
+
+    /**
+     * Record a committed employee write for the client of the current request
+     * Remote events were written by another node's client and are ignored
+     */
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        String clientId = ClientContext.currentClientId();
+        if (event.isRemote() || clientId == null) {
+            return;
+        }
+        lastWriteNanos.put(clientId, System.nanoTime());
+        ClientContext.requirePrimaryReads();
+    }
+
+    public boolean hasRecentWrite(String clientId) {
+        Long writtenAt = lastWriteNanos.get(clientId);
+        return writtenAt != null && System.nanoTime() - writtenAt < stickyWindowNanos;
+    }
+
+    @Scheduled(fixedDelay = 30_000)
+    public void evictExpired() {
+        long now = System.nanoTime();
+        lastWriteNanos.values().removeIf(writtenAt -> now - writtenAt >= stickyWindowNanos);
+    }
+}
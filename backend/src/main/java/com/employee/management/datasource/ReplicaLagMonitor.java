@@ -0,0 +1,102 @@
+package com.employee.management.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Owns the replica pools and periodically measures replica lag and keeps the list of replicas fit to serve reads
+ * A replica that fails the check or lags beyond the limit is removed until it recovers
+ */
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    private final Map<String, DataSource> replicas;
+    private final String lagQuery;
+    private final double maxLagSeconds;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile List<String> healthyReplicas;
+
+    public ReplicaLagMonitor(Map<String, DataSource> replicas, DataSourceRoutingProperties properties) {
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.lagQuery = properties.getLagQuery();
+        this.maxLagSeconds = properties.getMaxReplicaLag().toMillis() / 1000.0;
+        this.healthyReplicas = List.copyOf(replicas.keySet());
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long intervalMillis = properties.getLagCheckInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::check, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public Map<String, DataSource> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * Replica keys currently eligible for reads
+     */
+    public List<String> healthyReplicas() {
+        return healthyReplicas;
+    }
+
+    void check() {
+        List<String> healthy = replicas.entrySet().stream()
+                .filter(entry -> isHealthy(entry.getKey(), entry.getValue()))
+                .map(Map.Entry::getKey)
+                .toList();
+
+        if (!healthy.equals(healthyReplicas)) {
+            log.info("Healthy read replicas changed: {} -> {}", healthyReplicas, healthy);
+        }
+        healthyReplicas = healthy;
+    }
+
+    private boolean isHealthy(String name, DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            if (!StringUtils.hasText(lagQuery)) {
+                return connection.isValid(1);
+            }
+            try (ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                double lagSeconds = resultSet.next() ? resultSet.getDouble(1) : 0;
+                if (lagSeconds > maxLagSeconds) {
+                    log.warn("Replica {} lags {}s behind primary (limit {}s)", name, lagSeconds, maxLagSeconds);
+                    return false;
+                }
+                return true;
+            }
+        } catch (Exception ex) {
+            log.warn("Replica {} failed health check: {}", name, ex.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception ex) {
+                    log.warn("Failed to close replica pool: {}", ex.getMessage());
+                }
+            }
+        }
+    }
+}
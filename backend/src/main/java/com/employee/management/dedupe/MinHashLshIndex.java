@@ -0,0 +1,204 @@
+package com.employee.management.dedupe;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * MinHash signatures banded into locality-sensitive hash buckets
+ * Each entry's token set is reduced to bands * rows min-hashes; entries whose signatures agree on
+ * every row of at least one band share that band's bucket. Two sets with Jaccard similarity s
+ * collide with probability 1 - (1 - s^rows)^bands, so a lookup only verifies the few entries in
+ * its buckets instead of every stored entry. Candidates are confirmed with the exact Jaccard
+ * similarity of the stored token sets.
+ * Not thread-safe: DuplicateDetectionServiceImpl guards access with a read/write lock.
+ */
+public class MinHashLshIndex {
+
+    private final int bands;
+    private final int rows;
+    private final long[] seeds;
+
+    private final Map<Integer, long[]> tokensById = new HashMap<>();
+    private final Map<Integer, long[]> bucketKeysById = new HashMap<>();
+    private final Map<Long, Bucket> buckets = new HashMap<>();
+
+    public MinHashLshIndex(int bands, int rows) {
+        if (bands < 1 || rows < 1) {
+            throw new IllegalArgumentException("bands and rows must be positive");
+        }
+        this.bands = bands;
+        this.rows = rows;
+        // Fixed seed: signatures only need to be consistent within one index
+        SplittableRandom random = new SplittableRandom(0x6d696e68617368L);
+        this.seeds = random.longs(bands * rows).toArray();
+    }
+
+    /**
+     * Similarity at which a pair becomes a candidate with probability 1/2, roughly (1/bands)^(1/rows)
+     */
+    public double collisionThreshold() {
+        return Math.pow(1.0 / bands, 1.0 / rows);
+    }
+
+    public int size() {
+        return tokensById.size();
+    }
+
+    public int bucketCount() {
+        return buckets.size();
+    }
+
+    /**
+     * Index an entry, replacing any previous tokens for the same ID; empty token sets are not indexed
+     */
+    public void put(int id, long[] tokens) {
+        remove(id);
+        if (tokens.length == 0) {
+            return;
+        }
+        long[] keys = bucketKeys(tokens);
+        for (long key : keys) {
+            buckets.computeIfAbsent(key, k -> new Bucket()).add(id);
+        }
+        tokensById.put(id, tokens);
+        bucketKeysById.put(id, keys);
+    }
+
+    public void remove(int id) {
+        long[] keys = bucketKeysById.remove(id);
+        if (keys == null) {
+            return;
+        }
+        tokensById.remove(id);
+        for (long key : keys) {
+            Bucket bucket = buckets.get(key);
+            if (bucket != null && bucket.remove(id) && bucket.size == 0) {
+                buckets.remove(key);
+            }
+        }
+    }
+
+    /**
+     * IDs sharing at least one bucket with the token set, in no particular order
+     */
+    public Set<Integer> candidates(long[] tokens) {
+        Set<Integer> candidates = new LinkedHashSet<>();
+        if (tokens.length == 0) {
+            return candidates;
+        }
+        for (long key : bucketKeys(tokens)) {
+            Bucket bucket = buckets.get(key);
+            if (bucket != null) {
+                for (int i = 0; i < bucket.size; i++) {
+                    candidates.add(bucket.ids[i]);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Exact Jaccard similarity between a stored entry and a token set, 0 if the ID is not indexed
+     */
+    public double similarity(int id, long[] tokens) {
+        long[] stored = tokensById.get(id);
+        return stored == null ? 0 : jaccard(stored, tokens);
+    }
+
+    public double similarity(int id, int otherId) {
+        long[] other = tokensById.get(otherId);
+        return other == null ? 0 : similarity(id, other);
+    }
+
+    /**
+     * Visit every bucket holding at least two entries, with a copy of its IDs
+     */
+    public void forEachCollision(Consumer<int[]> action) {
+        for (Bucket bucket : buckets.values()) {
+            if (bucket.size > 1) {
+                action.accept(Arrays.copyOf(bucket.ids, bucket.size));
+            }
+        }
+    }
+
+    /**
+     * Jaccard similarity of two sorted, distinct hash arrays
+     */
+    static double jaccard(long[] a, long[] b) {
+        int i = 0;
+        int j = 0;
+        int shared = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                shared++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        int union = a.length + b.length - shared;
+        return union == 0 ? 0 : (double) shared / union;
+    }
+
+    /**
+     * murmur3 fmix64 finalizer
+     */
+    static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * One bucket key per band: the band index combined with that band's min-hashes
+     */
+    private long[] bucketKeys(long[] tokens) {
+        long[] keys = new long[bands];
+        for (int band = 0; band < bands; band++) {
+            long key = band;
+            for (int row = 0; row < rows; row++) {
+                long seed = seeds[band * rows + row];
+                long min = Long.MAX_VALUE;
+                for (long token : tokens) {
+                    min = Math.min(min, mix(token ^ seed));
+                }
+                key = mix(key * 31 + min);
+            }
+            keys[band] = key;
+        }
+        return keys;
+    }
+
+    private static final class Bucket {
+        private int[] ids = new int[2];
+        private int size;
+
+        void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        boolean remove(int id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    ids[i] = ids[--size];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
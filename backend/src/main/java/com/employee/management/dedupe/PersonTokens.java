@@ -0,0 +1,89 @@
+package com.employee.management.dedupe;
+
+import java.text.Normalizer;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Normalized tokens describing a person, the set MinHash estimates similarity over
+ * Names are case- and accent-folded and split into words plus character trigrams, so a typo or
+ * swapped first/last name still shares most tokens. Email keeps only the local part without dots
+ * or a +tag, phone only its last seven digits, so formatting and country codes do not matter.
+ * Tokens are returned as sorted, distinct 64-bit hashes.
+ */
+public final class PersonTokens {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_LETTERS = Pattern.compile("[^\\p{L}]+");
+    private static final Pattern NON_DIGITS = Pattern.compile("\\D+");
+    private static final int PHONE_DIGITS = 7;
+
+    private PersonTokens() {
+    }
+
+    public static long[] of(String firstName, String lastName, String email, String phone) {
+        Set<String> tokens = new HashSet<>();
+        addName(tokens, firstName);
+        addName(tokens, lastName);
+
+        String localPart = emailLocalPart(email);
+        if (!localPart.isEmpty()) {
+            tokens.add("e:" + localPart);
+        }
+        String digits = phone == null ? "" : NON_DIGITS.matcher(phone).replaceAll("");
+        if (digits.length() >= PHONE_DIGITS) {
+            tokens.add("p:" + digits.substring(digits.length() - PHONE_DIGITS));
+        }
+
+        return tokens.stream()
+                .mapToLong(PersonTokens::hash64)
+                .distinct()
+                .sorted()
+                .toArray();
+    }
+
+    private static void addName(Set<String> tokens, String name) {
+        if (name == null) {
+            return;
+        }
+        String folded = MARKS.matcher(Normalizer.normalize(name, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        for (String word : NON_LETTERS.split(folded)) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            tokens.add("n:" + word);
+            String padded = "^" + word + "$";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                tokens.add("g:" + padded.substring(i, i + 3));
+            }
+        }
+    }
+
+    private static String emailLocalPart(String email) {
+        if (email == null) {
+            return "";
+        }
+        String local = email.trim().toLowerCase(Locale.ROOT);
+        int at = local.indexOf('@');
+        if (at >= 0) {
+            local = local.substring(0, at);
+        }
+        int tag = local.indexOf('+');
+        if (tag >= 0) {
+            local = local.substring(0, tag);
+        }
+        return local.replace(".", "");
+    }
+
+    private static long hash64(String token) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < token.length(); i++) {
+            hash ^= token.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return MinHashLshIndex.mix(hash);
+    }
+}
@@ -0,0 +1,45 @@
+package com.employee.management.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one EmployeeController request
+ */
+@Name(EmployeeRequestEvent.NAME)
+@Label("Employee API Request")
+@Category({"Employee Management", "Requests"})
+@StackTrace(false)
+public class EmployeeRequestEvent extends Event {
+
+    public static final String NAME = "com.employee.management.EmployeeRequest";
+
+    @Label("HTTP Method")
+    String httpMethod;
+
+    @Label("Path")
+    @Description("Matched route pattern, e.g. /v1/employees/{id}")
+    String path;
+
+    @Label("Handler")
+    String handler;
+
+    @Label("Status")
+    @Description("Response status, or 0 when the handler threw and the exception handler chose it")
+    int status;
+
+    @Label("Employee ID")
+    @Description("0 when the request does not address a single employee")
+    int employeeId;
+
+    @Label("Rows")
+    @Description("Employees in the response, -1 when not a list or page")
+    int rows;
+
+    @Label("Exception")
+    String exception;
+}
@@ -0,0 +1,34 @@
+package com.employee.management.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one EmployeeService call made through the Spring proxy
+ */
+@Name(EmployeeServiceEvent.NAME)
+@Label("Employee Service Call")
+@Category({"Employee Management", "Service"})
+@StackTrace(false)
+public class EmployeeServiceEvent extends Event {
+
+    public static final String NAME = "com.employee.management.EmployeeService";
+
+    @Label("Method")
+    String method;
+
+    @Label("Employee ID")
+    @Description("0 when the call does not address a single employee")
+    int employeeId;
+
+    @Label("Rows")
+    @Description("Rows returned, -1 when the result is not a collection, page or single employee")
+    int rows;
+
+    @Label("Exception")
+    String exception;
+}
@@ -0,0 +1,179 @@
+package com.employee.management.diagnostics;
+
+import com.employee.management.dto.ApiResponse;
+import com.employee.management.dto.EmployeeDto;
+import com.employee.management.entity.Employee;
+import jakarta.servlet.http.HttpServletRequest;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Emits Flight Recorder events around employee controller requests, EmployeeService calls and
+ * repository queries
+ * Each event is timed with begin/end and only filled in when a running recording will keep it, so
+ * with no recording active the cost is one isEnabled check per call.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "app.diagnostics.jfr.enabled", havingValue = "true")
+public class FlightRecorderAspect {
+
+    @Around("execution(public * com.employee.management.controller.EmployeeController.*(..))")
+    public Object recordRequest(ProceedingJoinPoint joinPoint) throws Throwable {
+        EmployeeRequestEvent event = new EmployeeRequestEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        Object result = null;
+        Throwable failure = null;
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } catch (Throwable ex) {
+            failure = ex;
+            throw ex;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                HttpServletRequest request = currentRequest();
+                if (request != null) {
+                    event.httpMethod = request.getMethod();
+                    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                    event.path = pattern != null ? pattern.toString() : request.getRequestURI();
+                }
+                event.handler = joinPoint.getSignature().getName();
+                Object body = result instanceof ResponseEntity<?> response ? response.getBody() : result;
+                if (result instanceof ResponseEntity<?> response) {
+                    event.status = response.getStatusCode().value();
+                }
+                Object data = body instanceof ApiResponse<?> apiResponse ? apiResponse.getData() : body;
+                event.employeeId = employeeId(joinPoint, data);
+                event.rows = rows(data);
+                event.exception = failure == null ? null : failure.getClass().getSimpleName();
+                event.commit();
+            }
+        }
+    }
+
+    @Around("execution(public * com.employee.management.service.EmployeeService+.*(..))")
+    public Object recordServiceCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        EmployeeServiceEvent event = new EmployeeServiceEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        Object result = null;
+        Throwable failure = null;
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } catch (Throwable ex) {
+            failure = ex;
+            throw ex;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.method = joinPoint.getSignature().getName();
+                event.employeeId = employeeId(joinPoint, result);
+                event.rows = rows(result);
+                event.exception = failure == null ? null : failure.getClass().getSimpleName();
+                event.commit();
+            }
+        }
+    }
+
+    @Around("execution(public * org.springframework.data.repository.Repository+.*(..))")
+    public Object recordQuery(ProceedingJoinPoint joinPoint) throws Throwable {
+        RepositoryQueryEvent event = new RepositoryQueryEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        Object result = null;
+        Throwable failure = null;
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } catch (Throwable ex) {
+            failure = ex;
+            throw ex;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.repository = repositoryName(joinPoint);
+                event.method = joinPoint.getSignature().getName();
+                event.employeeId = employeeId(joinPoint, result);
+                event.rows = rows(result);
+                event.exception = failure == null ? null : failure.getClass().getSimpleName();
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * The employee a call addresses: an argument named id or employeeId, else a single employee result
+     */
+    private static int employeeId(ProceedingJoinPoint joinPoint, Object result) {
+        String[] names = ((MethodSignature) joinPoint.getSignature()).getParameterNames();
+        Object[] args = joinPoint.getArgs();
+        if (names != null) {
+            for (int i = 0; i < names.length && i < args.length; i++) {
+                if (("id".equals(names[i]) || "employeeId".equals(names[i])) && args[i] instanceof Integer id) {
+                    return id;
+                }
+            }
+        }
+        Object single = result instanceof Optional<?> optional ? optional.orElse(null) : result;
+        if (single instanceof EmployeeDto dto && dto.getId() != null) {
+            return dto.getId();
+        }
+        if (single instanceof Employee employee && employee.getId() != null) {
+            return employee.getId();
+        }
+        return 0;
+    }
+
+    /**
+     * Inherited methods such as findById are declared on CrudRepository, so name the proxied interface instead
+     */
+    private static String repositoryName(ProceedingJoinPoint joinPoint) {
+        Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(joinPoint.getThis());
+        return interfaces.length > 0 ? interfaces[0].getSimpleName()
+                : joinPoint.getSignature().getDeclaringType().getSimpleName();
+    }
+
+    private static int rows(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof EmployeeDto || result instanceof Employee) {
+            return 1;
+        }
+        return -1;
+    }
+
+    private static HttpServletRequest currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getRequest() : null;
+    }
+}
@@ -0,0 +1,206 @@
+package com.employee.management.diagnostics;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Actuator endpoint for rolling Flight Recorder recordings
+ * GET /actuator/flightrecorder lists recordings, POST starts one (name, maxAgeSeconds, maxSizeMb,
+ * settings = default | profile), GET /actuator/flightrecorder/{name} dumps it as a .jfr file and
+ * DELETE /actuator/flightrecorder/{name} stops it. Recordings keep only the last maxAge / maxSize
+ * of data, so one can run continuously and be dumped after an incident. Dumps are also kept under
+ * app.diagnostics.jfr.dump-dir, newest max-dumps files only (at least the one just taken).
+ * Events carrying the JVM's environment, system properties and command line are disabled, since
+ * they would put database credentials into every dump.
+ */
+@Component
+@WebEndpoint(id = "flightrecorder")
+@ConditionalOnProperty(name = "app.diagnostics.jfr.enabled", havingValue = "true")
+@Slf4j
+public class FlightRecorderEndpoint {
+
+    private static final DateTimeFormatter DUMP_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private static final List<String> SENSITIVE_EVENTS = List.of(
+            "jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty", "jdk.InitialSecurityProperty",
+            "jdk.JVMInformation", "jdk.SystemProcess");
+
+    private final Path dumpDirectory;
+    private final int maxDumps;
+    private final boolean continuous;
+    private final Duration defaultMaxAge;
+    private final long defaultMaxSizeMb;
+    private final String defaultSettings;
+
+    private final Map<String, Recording> recordings = new ConcurrentHashMap<>();
+
+    public FlightRecorderEndpoint(@Value("${app.diagnostics.jfr.dump-dir:data/jfr}") String dumpDirectory,
+                                  @Value("${app.diagnostics.jfr.max-dumps:10}") int maxDumps,
+                                  @Value("${app.diagnostics.jfr.continuous:true}") boolean continuous,
+                                  @Value("${app.diagnostics.jfr.max-age-seconds:900}") long defaultMaxAgeSeconds,
+                                  @Value("${app.diagnostics.jfr.max-size-mb:100}") long defaultMaxSizeMb,
+                                  @Value("${app.diagnostics.jfr.settings:default}") String defaultSettings) {
+        this.dumpDirectory = Path.of(dumpDirectory);
+        this.maxDumps = maxDumps;
+        this.continuous = continuous;
+        this.defaultMaxAge = Duration.ofSeconds(defaultMaxAgeSeconds);
+        this.defaultMaxSizeMb = defaultMaxSizeMb;
+        this.defaultSettings = defaultSettings;
+    }
+
+    /**
+     * Start the always-on "continuous" recording, so there is something to dump when an incident starts
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startContinuousRecording() {
+        if (continuous) {
+            WebEndpointResponse<Map<String, Object>> response = start("continuous", null, null, null);
+            if (response.getStatus() != WebEndpointResponse.STATUS_OK) {
+                log.warn("Continuous flight recording not started: {}", response.getBody());
+            }
+        }
+    }
+
+    @ReadOperation
+    public List<Map<String, Object>> recordings() {
+        return recordings.values().stream()
+                .sorted(Comparator.comparing(Recording::getName))
+                .map(FlightRecorderEndpoint::describe)
+                .toList();
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Map<String, Object>> start(@Nullable String name, @Nullable Long maxAgeSeconds,
+                                                          @Nullable Long maxSizeMb, @Nullable String settings) {
+        String recordingName = name == null || name.isBlank() ? "recording-" + LocalDateTime.now().format(DUMP_TIMESTAMP) : name;
+        if (!recordingName.matches("[A-Za-z0-9._-]+")) {
+            return error(WebEndpointResponse.STATUS_BAD_REQUEST, "name may only contain letters, digits, '.', '_' and '-'");
+        }
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings == null ? defaultSettings : settings);
+        } catch (IOException | ParseException ex) {
+            return error(WebEndpointResponse.STATUS_BAD_REQUEST, "Unknown settings '" + settings + "', use default or profile");
+        }
+
+        Recording recording = new Recording(configuration);
+        SENSITIVE_EVENTS.forEach(recording::disable);
+        recording.setName(recordingName);
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAgeSeconds == null ? defaultMaxAge : Duration.ofSeconds(maxAgeSeconds));
+        recording.setMaxSize((maxSizeMb == null ? defaultMaxSizeMb : maxSizeMb) * 1024 * 1024);
+        if (recordings.putIfAbsent(recordingName, recording) != null) {
+            recording.close();
+            return error(WebEndpointResponse.STATUS_BAD_REQUEST, "Recording '" + recordingName + "' already exists");
+        }
+        recording.start();
+        log.info("Flight recording '{}' started ({} settings, max age {}, max size {} bytes)",
+                recordingName, configuration.getName(), recording.getMaxAge(), recording.getMaxSize());
+        return new WebEndpointResponse<>(describe(recording), WebEndpointResponse.STATUS_OK);
+    }
+
+    /**
+     * Dump what the recording currently holds; the recording keeps running
+     */
+    @ReadOperation
+    public WebEndpointResponse<Resource> dump(@Selector String name) throws IOException {
+        Recording recording = recordings.get(name);
+        if (recording == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        Files.createDirectories(dumpDirectory);
+        Path file = dumpDirectory.resolve(name + "-" + LocalDateTime.now().format(DUMP_TIMESTAMP) + ".jfr");
+        recording.dump(file);
+        log.info("Flight recording '{}' dumped to {} ({} bytes)", name, file, Files.size(file));
+        pruneDumps(file);
+        return new WebEndpointResponse<>(new FileSystemResource(file), WebEndpointResponse.STATUS_OK);
+    }
+
+    @DeleteOperation
+    public WebEndpointResponse<Map<String, Object>> stop(@Selector String name) {
+        Recording recording = recordings.remove(name);
+        if (recording == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        Map<String, Object> description = describe(recording);
+        recording.close();
+        log.info("Flight recording '{}' stopped", name);
+        return new WebEndpointResponse<>(description, WebEndpointResponse.STATUS_OK);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        recordings.values().forEach(Recording::close);
+        recordings.clear();
+    }
+
+    /**
+     * Delete all but the newest max-dumps files, never the one about to be returned
+     */
+    private void pruneDumps(Path latest) throws IOException {
+        try (Stream<Path> files = Files.list(dumpDirectory)) {
+            List<Path> dumps = files.filter(path -> path.getFileName().toString().endsWith(".jfr"))
+                    .filter(path -> !path.equals(latest))
+                    .sorted(Comparator.comparing(FlightRecorderEndpoint::lastModified).reversed())
+                    .toList();
+            int keep = Math.max(0, maxDumps - 1);
+            for (Path old : dumps.subList(Math.min(keep, dumps.size()), dumps.size())) {
+                Files.deleteIfExists(old);
+            }
+        }
+    }
+
+    private static long lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException ex) {
+            return 0;
+        }
+    }
+
+    private static Map<String, Object> describe(Recording recording) {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("name", recording.getName());
+        description.put("state", recording.getState());
+        description.put("startTime", recording.getState() == RecordingState.NEW ? null : recording.getStartTime());
+        description.put("maxAge", recording.getMaxAge());
+        description.put("maxSizeBytes", recording.getMaxSize());
+        description.put("sizeBytes", recording.getSize());
+        return description;
+    }
+
+    private static WebEndpointResponse<Map<String, Object>> error(int status, String message) {
+        return new WebEndpointResponse<>(Map.of("error", message), status);
+    }
+}
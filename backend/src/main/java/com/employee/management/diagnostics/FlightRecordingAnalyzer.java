@@ -0,0 +1,202 @@
+package com.employee.management.diagnostics;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Offline summary of a .jfr file dumped from /actuator/flightrecorder
+ * Prints latency per request route, service method and repository method (count, p50, p95, max,
+ * average rows), the slowest individual queries with their caller, and the hottest methods by
+ * CPU sample (jdk.ExecutionSample, recorded more often with the profile settings).
+ * Depends only on the JDK, so it runs against a checkout without the application's dependencies:
+ *   java -cp target/classes com.employee.management.diagnostics.FlightRecordingAnalyzer dump.jfr [top]
+ */
+public final class FlightRecordingAnalyzer {
+
+    private static final String EXECUTION_SAMPLE = "jdk.ExecutionSample";
+    private static final String APPLICATION_PACKAGE = "com.employee.management.";
+
+    private final int top;
+    private final Map<String, Stats> requests = new HashMap<>();
+    private final Map<String, Stats> serviceCalls = new HashMap<>();
+    private final Map<String, Stats> queries = new HashMap<>();
+    private final PriorityQueue<SlowQuery> slowestQueries = new PriorityQueue<>(Comparator.comparing(SlowQuery::duration));
+    private final Map<String, Integer> hotMethods = new HashMap<>();
+    private final Map<String, Integer> hotApplicationMethods = new HashMap<>();
+    private int executionSamples;
+
+    private FlightRecordingAnalyzer(int top) {
+        this.top = top;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: FlightRecordingAnalyzer <recording.jfr> [top]");
+            System.exit(2);
+        }
+        int top = args.length > 1 ? Integer.parseInt(args[1]) : 15;
+        analyze(Path.of(args[0]), top).print(System.out);
+    }
+
+    public static FlightRecordingAnalyzer analyze(Path recording, int top) throws IOException {
+        FlightRecordingAnalyzer analyzer = new FlightRecordingAnalyzer(top);
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                analyzer.accept(file.readEvent());
+            }
+        }
+        return analyzer;
+    }
+
+    private void accept(RecordedEvent event) {
+        switch (event.getEventType().getName()) {
+            case EmployeeRequestEvent.NAME -> requests
+                    .computeIfAbsent(event.getString("httpMethod") + " " + event.getString("path"), key -> new Stats())
+                    .add(event.getDuration(), event.getInt("rows"), event.getString("exception") != null);
+            case EmployeeServiceEvent.NAME -> serviceCalls
+                    .computeIfAbsent(event.getString("method"), key -> new Stats())
+                    .add(event.getDuration(), event.getInt("rows"), event.getString("exception") != null);
+            case RepositoryQueryEvent.NAME -> {
+                String method = event.getString("repository") + "." + event.getString("method");
+                queries.computeIfAbsent(method, key -> new Stats())
+                        .add(event.getDuration(), event.getInt("rows"), event.getString("exception") != null);
+                slowestQueries.add(new SlowQuery(method, event.getDuration(), event.getInt("rows"),
+                        event.getInt("employeeId"), applicationCaller(event.getStackTrace())));
+                if (slowestQueries.size() > top) {
+                    slowestQueries.poll();
+                }
+            }
+            case EXECUTION_SAMPLE -> {
+                RecordedStackTrace stackTrace = event.getStackTrace();
+                if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+                    return;
+                }
+                executionSamples++;
+                hotMethods.merge(frameName(stackTrace.getFrames().get(0)), 1, Integer::sum);
+                String caller = applicationCaller(stackTrace);
+                if (caller != null) {
+                    hotApplicationMethods.merge(caller, 1, Integer::sum);
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    public void print(PrintStream out) {
+        printStats(out, "Requests", requests);
+        printStats(out, "Service methods", serviceCalls);
+        printStats(out, "Repository queries", queries);
+
+        out.println();
+        out.println("== Slowest queries ==");
+        slowestQueries.stream()
+                .sorted(Comparator.comparing(SlowQuery::duration).reversed())
+                .forEach(query -> out.printf("%10.2f ms  rows=%-6d id=%-8s %s%n      from %s%n",
+                        millis(query.duration()), query.rows(), query.employeeId() == 0 ? "-" : query.employeeId(),
+                        query.method(), query.caller() == null ? "(no application frame)" : query.caller()));
+
+        out.println();
+        out.printf("== Hot methods (%d CPU samples) ==%n", executionSamples);
+        printSamples(out, hotMethods);
+        out.println();
+        out.println("== Hot application methods (nearest com.employee.management frame) ==");
+        printSamples(out, hotApplicationMethods);
+    }
+
+    private void printStats(PrintStream out, String title, Map<String, Stats> byName) {
+        out.println();
+        out.printf("== %s ==%n", title);
+        out.printf("%-60s %7s %10s %10s %10s %10s %8s %7s%n",
+                "name", "count", "total ms", "p50 ms", "p95 ms", "max ms", "avg rows", "errors");
+        byName.entrySet().stream()
+                .sorted(Comparator.comparing((Map.Entry<String, Stats> entry) -> entry.getValue().total).reversed())
+                .limit(top)
+                .forEach(entry -> {
+                    Stats stats = entry.getValue();
+                    out.printf("%-60s %7d %10.1f %10.2f %10.2f %10.2f %8s %7d%n", entry.getKey(), stats.durations.size(),
+                            millis(stats.total), millis(stats.percentile(0.50)), millis(stats.percentile(0.95)),
+                            millis(stats.percentile(1.0)), stats.averageRows(), stats.errors);
+                });
+    }
+
+    private void printSamples(PrintStream out, Map<String, Integer> samples) {
+        samples.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .limit(top)
+                .forEach(entry -> out.printf("%7d  %5.1f%%  %s%n", entry.getValue(),
+                        100.0 * entry.getValue() / Math.max(1, executionSamples), entry.getKey()));
+    }
+
+    /**
+     * The innermost frame in application code, skipping the aspect and proxies around it
+     */
+    private static String applicationCaller(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return null;
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith(APPLICATION_PACKAGE) && !type.startsWith(APPLICATION_PACKAGE + "diagnostics.")
+                    && !type.contains("$$")) {
+                return frameName(frame);
+            }
+        }
+        return null;
+    }
+
+    private static String frameName(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + (frame.getLineNumber() > 0 ? ":" + frame.getLineNumber() : "");
+    }
+
+    private static double millis(Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+
+    private record SlowQuery(String method, Duration duration, int rows, int employeeId, String caller) {
+    }
+
+    private static final class Stats {
+        private final List<Duration> durations = new ArrayList<>();
+        private Duration total = Duration.ZERO;
+        private long rows;
+        private int rowSamples;
+        private int errors;
+
+        void add(Duration duration, int rowCount, boolean failed) {
+            durations.add(duration);
+            total = total.plus(duration);
+            if (rowCount >= 0) {
+                rows += rowCount;
+                rowSamples++;
+            }
+            if (failed) {
+                errors++;
+            }
+        }
+
+        Duration percentile(double fraction) {
+            durations.sort(null);
+            int index = (int) Math.ceil(fraction * durations.size()) - 1;
+            return durations.get(Math.max(0, Math.min(index, durations.size() - 1)));
+        }
+
+        String averageRows() {
+            return rowSamples == 0 ? "-" : String.format("%.1f", (double) rows / rowSamples);
+        }
+    }
+}
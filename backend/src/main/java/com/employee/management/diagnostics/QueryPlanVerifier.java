@@ -0,0 +1,166 @@
+package com.employee.management.diagnostics;
+
+import com.employee.management.dto.EmployeeSearchRequest;
+import com.employee.management.repository.EmployeeRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Startup check that every EmployeeRepository query shape is served by an index
+ * Each repository method is called with sample arguments and StatementCapture records the SQL
+ * Hibernate generates for it (without running it), so the checked shapes cannot drift from the code.
+ * That SQL is prepared server-side and EXPLAINed as a generic plan, the plan a server-prepared
+ * statement reuses, with sequential scans disabled: if the planner still picks a Seq Scan on
+ * employees, no usable index exists for that shape. Enable with app.diagnostics.verify-query-plans=true
+ * (PostgreSQL only); with fail-on-seq-scan=true startup aborts, which makes it usable as a CI gate
+ */
+@Component
+@ConditionalOnProperty(name = "app.diagnostics.verify-query-plans", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class QueryPlanVerifier implements ApplicationRunner {
+
+    private static final String EMAIL = "john.smith@company.com";
+
+    /**
+     * EmployeeController's default sort for the paginated listing
+     */
+    private static final Sort DEFAULT_LIST_SORT = Sort.by("firstName").ascending();
+
+    private static final Pattern NULL_CHECKED_PARAMETER = Pattern.compile("\\?(\\s+is\\s+(?:not\\s+)?null)", Pattern.CASE_INSENSITIVE);
+
+    private final EmployeeRepository employeeRepository;
+    private final StatementCapture statementCapture;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.diagnostics.fail-on-seq-scan:false}")
+    private boolean failOnSeqScan;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        List<String> violations = new ArrayList<>();
+
+        transaction.executeWithoutResult(status -> {
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            jdbcTemplate.execute("SET LOCAL plan_cache_mode = force_generic_plan");
+            queryShapes().forEach((method, repositoryCall) -> {
+                String sql = statementCapture.capture(repositoryCall);
+                List<String> seqScans = findSeqScans(explain(sql));
+                if (seqScans.isEmpty()) {
+                    log.info("Query plan OK: {}", method);
+                } else {
+                    log.warn("Query plan for {} uses a sequential scan on {}: {}", method, seqScans, sql);
+                    violations.add(method);
+                }
+            });
+            status.setRollbackOnly();
+        });
+
+        if (!violations.isEmpty() && failOnSeqScan) {
+            throw new IllegalStateException("Repository queries without index support: " + violations);
+        }
+    }
+
+    /**
+     * Repository method -> a call of it with sample arguments, paged and sorted like the services
+     */
+    private Map<String, Runnable> queryShapes() {
+        EmployeeSearchRequest search = new EmployeeSearchRequest();
+        Pageable searchPage = PageRequest.of(0, search.getSize(), Sort.by(search.getSortBy()).ascending());
+
+        Map<String, Runnable> shapes = new LinkedHashMap<>();
+        shapes.put("findByEmailIgnoreCase", () -> employeeRepository.findByEmailIgnoreCase(EMAIL));
+        shapes.put("existsByEmailIgnoreCase", () -> employeeRepository.existsByEmailIgnoreCase(EMAIL));
+        shapes.put("existsByEmailIgnoreCaseAndIdNot", () -> employeeRepository.existsByEmailIgnoreCaseAndIdNot(EMAIL, 1));
+        shapes.put("findByIsActiveTrue(Pageable)",
+                () -> employeeRepository.findByIsActiveTrue(PageRequest.of(0, 10, DEFAULT_LIST_SORT)));
+        shapes.put("findByDepartmentIgnoreCaseAndIsActiveTrue",
+                () -> employeeRepository.findByDepartmentIgnoreCaseAndIsActiveTrue("Engineering"));
+        shapes.put("findByPositionIgnoreCaseAndIsActiveTrue",
+                () -> employeeRepository.findByPositionIgnoreCaseAndIsActiveTrue("Software Engineer"));
+        shapes.put("findByManagerIdAndIsActiveTrue", () -> employeeRepository.findByManagerIdAndIsActiveTrue(1));
+        shapes.put("findActiveByManagerIdIn", () -> employeeRepository.findActiveByManagerIdIn(List.of(1, 2, 3)));
+        shapes.put("findByManagerIdIsNullAndIsActiveTrue", employeeRepository::findByManagerIdIsNullAndIsActiveTrue);
+        shapes.put("findByHireDateBetweenAndIsActiveTrue", () -> employeeRepository.findByHireDateBetweenAndIsActiveTrue(
+                LocalDate.of(2021, 1, 1), LocalDate.of(2021, 12, 31)));
+        shapes.put("findBySalaryBetweenAndIsActiveTrue", () -> employeeRepository.findBySalaryBetweenAndIsActiveTrue(
+                new BigDecimal("50000"), new BigDecimal("90000")));
+        shapes.put("searchEmployees(department)",
+                () -> employeeRepository.searchEmployees(null, "Engineering", null, searchPage));
+        shapes.put("findAllWithManagerByIdIn", () -> employeeRepository.findAllWithManagerByIdIn(List.of(1, 2, 3)));
+        return shapes;
+    }
+
+    /**
+     * EXPLAIN the generic plan of captured SQL; JDBC ? placeholders become $n parameters, and a
+     * parameter that is only null-checked is typed as text since nothing else determines its type
+     */
+    private String explain(String sql) {
+        String typed = NULL_CHECKED_PARAMETER.matcher(sql).replaceAll("CAST(? AS text)$1");
+        StringBuilder prepared = new StringBuilder(typed.length() + 16);
+        int parameters = 0;
+        boolean quoted = false;
+        for (char c : typed.toCharArray()) {
+            if (c == '\'') {
+                quoted = !quoted;
+            }
+            if (c == '?' && !quoted) {
+                prepared.append('$').append(++parameters);
+            } else {
+                prepared.append(c);
+            }
+        }
+
+        jdbcTemplate.execute("PREPARE query_plan_check AS " + prepared);
+        try {
+            String arguments = parameters == 0 ? "" : "(" + String.join(", ", Collections.nCopies(parameters, "NULL")) + ")";
+            return jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) EXECUTE query_plan_check" + arguments, String.class);
+        } finally {
+            jdbcTemplate.execute("DEALLOCATE query_plan_check");
+        }
+    }
+
+    private List<String> findSeqScans(String planJson) {
+        List<String> relations = new ArrayList<>();
+        try {
+            collectSeqScans(objectMapper.readTree(planJson).path(0).path("Plan"), relations);
+        } catch (Exception ex) {
+            throw new IllegalStateException("Could not read query plan", ex);
+        }
+        return relations;
+    }
+
+    private void collectSeqScans(JsonNode node, List<String> relations) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            relations.add(node.path("Relation Name").asText());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSeqScans(child, relations);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.employee.management.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for one Spring Data repository call
+ * Carries a stack trace so a slow query can be traced back to its caller.
+ */
+@Name(RepositoryQueryEvent.NAME)
+@Label("Repository Query")
+@Category({"Employee Management", "Database"})
+public class RepositoryQueryEvent extends Event {
+
+    public static final String NAME = "com.employee.management.RepositoryQuery";
+
+    @Label("Repository")
+    String repository;
+
+    @Label("Method")
+    String method;
+
+    @Label("Employee ID")
+    @Description("0 when the query does not address a single employee")
+    int employeeId;
+
+    @Label("Rows")
+    @Description("Rows returned, -1 for streams (consumed after the call returns) and scalar results")
+    int rows;
+
+    @Label("Exception")
+    String exception;
+}
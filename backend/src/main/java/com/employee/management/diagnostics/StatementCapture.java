@@ -0,0 +1,64 @@
+package com.employee.management.diagnostics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Hibernate StatementInspector that yields the SQL a repository call generates instead of running it
+ * Registered only with app.diagnostics.verify-query-plans; outside capture() statements pass through
+ * unchanged. Inside it the first statement is recorded and aborted before it reaches the database.
+ */
+@Component
+@ConditionalOnProperty(name = "app.diagnostics.verify-query-plans", havingValue = "true")
+public class StatementCapture implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private static final ThreadLocal<Boolean> CAPTURING = new ThreadLocal<>();
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        if (CAPTURING.get() != null) {
+            throw new CapturedStatement(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Run a repository call and return the SQL of its first statement, with JDBC ? placeholders
+     */
+    public String capture(Runnable repositoryCall) {
+        CAPTURING.set(Boolean.TRUE);
+        try {
+            repositoryCall.run();
+        } catch (RuntimeException ex) {
+            for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+                if (cause instanceof CapturedStatement captured) {
+                    return captured.sql;
+                }
+            }
+            throw ex;
+        } finally {
+            CAPTURING.remove();
+        }
+        throw new IllegalStateException("Repository call did not reach the database");
+    }
+
+    private static final class CapturedStatement extends RuntimeException {
+
+        private final String sql;
+
+        CapturedStatement(String sql) {
+            super(null, null, false, false);
+            this.sql = sql;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.employee.management.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one archival run
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Summary of an archival run")
+public class ArchiveRunResult {
+    @Schema(description = "Employees moved to the archive", example = "1200")
+    private int archived;
+
+    @Schema(description = "Chunks (transactions) executed", example = "3")
+    private int chunks;
+
+    @Schema(description = "Eligible employees kept because a live employee still references them as manager", example = "2")
+    private long retainedAsManager;
+
+    @Schema(description = "False when another node held the archival lock and this run did nothing", example = "true")
+    private boolean ran;
+
+    @Schema(description = "Run time in milliseconds", example = "850")
+    private long elapsedMillis;
+}
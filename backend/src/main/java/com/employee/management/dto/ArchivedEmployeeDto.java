@@ -0,0 +1,61 @@
+package com.employee.management.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for an archived employee
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Employee record moved to the archive after long inactivity")
+public class ArchivedEmployeeDto {
+    @Schema(description = "Original employee identifier", example = "17")
+    private Integer id;
+
+    @Schema(description = "Employee's first name", example = "John")
+    private String firstName;
+
+    @Schema(description = "Employee's last name", example = "Smith")
+    private String lastName;
+
+    @Schema(description = "Employee's full name", example = "John Smith")
+    private String fullName;
+
+    @Schema(description = "Employee's email address", example = "john.smith@company.com")
+    private String email;
+
+    @Schema(description = "Employee's phone number", example = "+1-555-0123")
+    private String phone;
+
+    @Schema(description = "Department the employee worked in", example = "Engineering")
+    private String department;
+
+    @Schema(description = "Employee's last position", example = "Software Engineer")
+    private String position;
+
+    @Schema(description = "Employee's last salary", example = "75000.00")
+    private BigDecimal salary;
+
+    @Schema(description = "Hire date", example = "2018-01-15")
+    private LocalDate hireDate;
+
+    @Schema(description = "Manager's employee ID; the manager may be live or archived", example = "1")
+    private Integer managerId;
+
+    @Schema(description = "Manager's full name, resolved from the live or archive table", example = "Jane Doe")
+    private String managerName;
+
+    @Schema(description = "Last update before archival, normally the soft delete", example = "2022-06-30T17:00:00")
+    private LocalDateTime deactivatedAt;
+
+    @Schema(description = "When the record was moved to the archive", example = "2023-07-01T02:30:00")
+    private LocalDateTime archivedAt;
+}
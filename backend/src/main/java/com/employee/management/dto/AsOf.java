@@ -0,0 +1,32 @@
+package com.employee.management.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Parser for the asOf parameter of as-of reads
+ * A date means the end of that day, so "2023-06-30" is the org as it stood when that day closed;
+ * a date-time is used as is, in the server's local time like updated_at
+ */
+public final class AsOf {
+
+    // Microseconds, the precision PostgreSQL stores; a later fraction would round into the next day
+    private static final LocalTime END_OF_DAY = LocalTime.of(23, 59, 59, 999_999_000);
+
+    private AsOf() {
+    }
+
+    public static LocalDateTime parse(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("asOf must be an ISO date or date-time");
+        }
+        try {
+            return value.length() == 10 ? LocalDate.parse(value).atTime(END_OF_DAY) : LocalDateTime.parse(value);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException(
+                    "asOf must be an ISO date (2023-06-30) or date-time (2023-06-30T12:00:00): " + value);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.employee.management.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Stored employee that looks like the same person as the one being checked
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Existing employee that is probably the same person")
+public class DuplicateCandidateDto {
+    @Schema(description = "Employee ID", example = "17")
+    private Integer id;
+
+    @Schema(description = "Employee's full name", example = "John Smith")
+    private String fullName;
+
+    @Schema(description = "Employee's email address", example = "john.smith@company.com")
+    private String email;
+
+    @Schema(description = "Employee's phone number", example = "+1-555-0123")
+    private String phone;
+
+    @Schema(description = "Department the employee works in", example = "Engineering")
+    private String department;
+
+    @Schema(description = "Jaccard similarity of the normalized name, email and phone tokens", example = "0.79")
+    private double similarity;
+}
@@ -0,0 +1,23 @@
+package com.employee.management.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Employees connected by pairwise similarity above the report threshold
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Group of employees that are probably the same person")
+public class DuplicateGroupDto {
+    @Schema(description = "Highest pairwise similarity within the group", example = "0.92")
+    private double maxSimilarity;
+
+    @Schema(description = "Employees in the group; similarity is each one's best match within the group")
+    private List<DuplicateCandidateDto> employees;
+}
@@ -0,0 +1,38 @@
+package com.employee.management.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Batch duplicate report over every active employee
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Suspected duplicate people across the employee table")
+public class DuplicateReportDto {
+    @Schema(description = "Active employees in the index", example = "250000")
+    private int employeesIndexed;
+
+    @Schema(description = "Similarity a pair needed to be reported", example = "0.6")
+    private double threshold;
+
+    @Schema(description = "Distinct pairs that shared an LSH bucket and were compared", example = "4120")
+    private long pairsCompared;
+
+    @Schema(description = "Compared pairs at or above the threshold", example = "312")
+    private long pairsMatched;
+
+    @Schema(description = "Buckets skipped because they exceeded max-bucket-size (very common names)", example = "0")
+    private int oversizedBuckets;
+
+    @Schema(description = "Duplicate groups, most similar first")
+    private List<DuplicateGroupDto> groups;
+
+    @Schema(description = "Report time in milliseconds", example = "420")
+    private long tookMillis;
+}
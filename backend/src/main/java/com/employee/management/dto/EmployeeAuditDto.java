@@ -0,0 +1,41 @@
+package com.employee.management.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of an employee's change history
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "A single field change recorded in the employee audit trail")
+public class EmployeeAuditDto {
+    @Schema(description = "Audit entry identifier", example = "1042")
+    private Long id;
+
+    @Schema(description = "Employee the change applies to", example = "7")
+    private Integer employeeId;
+
+    @Schema(description = "CREATED, UPDATED or DELETED", example = "UPDATED")
+    private String changeType;
+
+    @Schema(description = "salary, department, position, managerId or isActive", example = "salary")
+    private String field;
+
+    @Schema(description = "Value before the change", example = "85000.00")
+    private String oldValue;
+
+    @Schema(description = "Value after the change", example = "92000.00")
+    private String newValue;
+
+    @Schema(description = "When the change was committed", example = "2024-03-01T10:15:30")
+    private LocalDateTime changedAt;
+
+    @Schema(description = "Client that made the change (X-Client-Id or remote address)", example = "hr-portal")
+    private String changedBy;
+}
@@ -0,0 +1,28 @@
+package com.employee.management.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result of a multi-get lookup
+ * Employees are returned in request order; unresolved IDs are reported separately
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Employees resolved by a batched ID lookup")
+public class EmployeeBatchResponse {
+    @Schema(description = "Active employees in the order their IDs were requested")
+    private List<EmployeeDto> employees = new ArrayList<>();
+
+    @Schema(description = "Requested IDs that do not exist", example = "[42]")
+    private List<Integer> missingIds = new ArrayList<>();
+
+    @Schema(description = "Requested IDs that belong to inactive employees", example = "[7]")
+    private List<Integer> inactiveIds = new ArrayList<>();
+}
@@ -57,6 +57,9 @@ public class EmployeeDto {
     @Schema(description = "Whether the employee is active", example = "true")
     private Boolean isActive;
     
+    @Schema(description = "Tenant (subsidiary) the employee belongs to", example = "default")
+    private String tenantId;
+    
     @Schema(description = "When the employee record was created", example = "2024-01-15T09:00:00")
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
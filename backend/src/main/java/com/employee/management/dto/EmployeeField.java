@@ -0,0 +1,82 @@
+package com.employee.management.dto;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Selectable employee fields for sparse fieldset responses
+ * Each field names the entity attributes it needs so the SQL projection only reads those columns
+ */
+public enum EmployeeField {
+    ID("id"),
+    FIRST_NAME("firstName"),
+    LAST_NAME("lastName"),
+    FULL_NAME("fullName", "firstName", "lastName"),
+    EMAIL("email"),
+    PHONE("phone"),
+    DEPARTMENT("department"),
+    POSITION("position"),
+    SALARY("salary"),
+    HIRE_DATE("hireDate"),
+    MANAGER_ID("managerId"),
+    MANAGER_NAME("managerName", "manager.firstName", "manager.lastName"),
+    IS_ACTIVE("isActive"),
+    TENANT_ID("tenantId"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt");
+
+    private final String jsonName;
+    private final List<String> attributes;
+
+    EmployeeField(String jsonName, String... attributes) {
+        this.jsonName = jsonName;
+        this.attributes = attributes.length == 0 ? List.of(jsonName) : List.of(attributes);
+    }
+
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    /**
+     * Entity attribute paths read for this field (dotted paths go through the manager join)
+     */
+    public List<String> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Build the field value from the projected attribute values
+     * Composite fields are name concatenations, matching Employee.getFullName()
+     */
+    public Object extract(Function<String, Object> attributeValues) {
+        if (attributes.size() == 1) {
+            return attributeValues.apply(attributes.get(0));
+        }
+        Object first = attributeValues.apply(attributes.get(0));
+        return first == null ? null : first + " " + attributeValues.apply(attributes.get(1));
+    }
+
+    /**
+     * Parse a comma-separated field list such as "id,fullName,department"
+     */
+    public static Set<EmployeeField> parse(String fields) {
+        Set<EmployeeField> selected = EnumSet.noneOf(EmployeeField.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            selected.add(Arrays.stream(values())
+                    .filter(field -> field.jsonName.equalsIgnoreCase(trimmed))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown employee field: " + trimmed)));
+        }
+        if (selected.isEmpty()) {
+            throw new IllegalArgumentException("At least one field must be selected");
+        }
+        return selected;
+    }
+}
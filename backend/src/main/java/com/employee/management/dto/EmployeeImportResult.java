@@ -0,0 +1,30 @@
+package com.employee.management.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk import, one row result per submitted employee in submission order
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Summary and per-row outcome of a bulk employee import")
+public class EmployeeImportResult {
+    @Schema(description = "Rows created", example = "95")
+    private int created;
+
+    @Schema(description = "Rows skipped as suspected duplicates of existing employees", example = "3")
+    private int skippedDuplicates;
+
+    @Schema(description = "Rows rejected by validation or uniqueness checks", example = "2")
+    private int failed;
+
+    @Schema(description = "Per-row outcome in submission order")
+    private List<EmployeeImportRowResult> rows = new ArrayList<>();
+}
@@ -0,0 +1,39 @@
+package com.employee.management.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of one imported row
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of one row of a bulk import")
+public class EmployeeImportRowResult {
+
+    public enum Status {
+        CREATED,
+        SKIPPED_DUPLICATE,
+        FAILED
+    }
+
+    @Schema(description = "Zero-based position of the row in the request", example = "4")
+    private int row;
+
+    @Schema(description = "What happened to the row", example = "CREATED")
+    private Status status;
+
+    @Schema(description = "ID of the created employee", example = "1042")
+    private Integer employeeId;
+
+    @Schema(description = "Why the row was skipped or failed", example = "Employee with email john.smith@company.com already exists")
+    private String message;
+
+    @Schema(description = "Existing employees that are probably the same person")
+    private List<DuplicateCandidateDto> candidates;
+}
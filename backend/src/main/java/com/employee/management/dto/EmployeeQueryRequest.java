@@ -0,0 +1,53 @@
+package com.employee.management.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Ad-hoc filter and sort over active employees, answered from the in-memory snapshot
+ * Every filter is optional; bounds are inclusive
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Filter, sort and page specification for the employee query endpoint")
+public class EmployeeQueryRequest {
+    @Schema(description = "Match any of these departments (case-insensitive)", example = "[\"Engineering\", \"Sales\"]")
+    private List<String> departments;
+
+    @Schema(description = "Match any of these positions (case-insensitive)", example = "[\"Software Engineer\"]")
+    private List<String> positions;
+
+    @Schema(description = "Only direct reports of this manager", example = "1")
+    private Integer managerId;
+
+    @Schema(description = "Minimum salary", example = "70000")
+    private BigDecimal minSalary;
+
+    @Schema(description = "Maximum salary", example = "120000")
+    private BigDecimal maxSalary;
+
+    @Schema(description = "Earliest hire date", example = "2020-01-01")
+    private LocalDate hiredFrom;
+
+    @Schema(description = "Latest hire date", example = "2023-12-31")
+    private LocalDate hiredTo;
+
+    @Schema(description = "id, salary, hireDate, department, position or lastName", example = "salary")
+    private String sortBy = "lastName";
+
+    @Schema(description = "ASC or DESC", example = "DESC")
+    private String sortDirection = "ASC";
+
+    @Schema(description = "Number of matches to skip", example = "0")
+    private int offset = 0;
+
+    @Schema(description = "Maximum number of employees to return", example = "50")
+    private int limit = 50;
+}
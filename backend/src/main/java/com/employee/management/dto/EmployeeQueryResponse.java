@@ -0,0 +1,35 @@
+package com.employee.management.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of an employee query, with the total match count and the time spent in the engine
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Result of an in-memory employee query")
+public class EmployeeQueryResponse {
+    @Schema(description = "Matching employees for the requested page")
+    private List<EmployeeDto> employees;
+
+    @Schema(description = "Number of employees matching the filters", example = "1342")
+    private int totalMatches;
+
+    @Schema(description = "Number of matches skipped", example = "0")
+    private int offset;
+
+    @Schema(description = "Page size that was applied", example = "50")
+    private int limit;
+
+    @Schema(description = "Active employees held in the snapshot", example = "1000000")
+    private int snapshotRows;
+
+    @Schema(description = "Filter and sort time in microseconds", example = "3150")
+    private long tookMicros;
+}
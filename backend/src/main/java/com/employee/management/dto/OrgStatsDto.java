@@ -0,0 +1,39 @@
+package com.employee.management.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Aggregated headcount, salary and tenure figures for a department or manager
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Organization statistics for one department or manager")
+public class OrgStatsDto {
+    @Schema(description = "Department name or manager ID", example = "Engineering")
+    private String group;
+
+    @Schema(description = "Number of active employees", example = "12")
+    private int headcount;
+
+    @Schema(description = "Sum of salaries", example = "1050000.00")
+    private BigDecimal salaryTotal;
+
+    @Schema(description = "Average salary", example = "87500.00")
+    private BigDecimal salaryAverage;
+
+    @Schema(description = "Lowest salary", example = "65000.00")
+    private BigDecimal salaryMin;
+
+    @Schema(description = "Highest salary", example = "120000.00")
+    private BigDecimal salaryMax;
+
+    @Schema(description = "Headcount per tenure bucket (by hire year)", example = "{\"<1y\": 2, \"1-3y\": 5}")
+    private Map<String, Integer> tenureDistribution;
+}
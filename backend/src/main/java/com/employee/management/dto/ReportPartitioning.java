@@ -0,0 +1,31 @@
+package com.employee.management.dto;
+
+import java.util.Arrays;
+
+/**
+ * How the report engine splits the employee set into independently read partitions
+ */
+public enum ReportPartitioning {
+    /**
+     * One roster per department
+     */
+    DEPARTMENT("department"),
+
+    /**
+     * Fixed-size employee ID ranges; evens out work when departments differ widely in size
+     */
+    ID_RANGE("id-range");
+
+    private final String paramName;
+
+    ReportPartitioning(String paramName) {
+        this.paramName = paramName;
+    }
+
+    public static ReportPartitioning parse(String name) {
+        return Arrays.stream(values())
+                .filter(partitioning -> partitioning.paramName.equalsIgnoreCase(name.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown report partitioning: " + name));
+    }
+}
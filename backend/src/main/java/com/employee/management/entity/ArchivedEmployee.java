@@ -0,0 +1,77 @@
+package com.employee.management.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Filter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Archived employee entity representing the employees_archive table
+ * Rows are moved here by the archival job with plain SQL and are read-only from the application
+ */
+@Entity
+@Table(name = "employees_archive")
+@Filter(name = Employee.TENANT_FILTER, condition = "tenant_id = :tenantId")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedEmployee {
+
+    @Id
+    private Integer id;
+
+    @Column(name = "first_name", nullable = false, length = 50)
+    private String firstName;
+
+    @Column(name = "last_name", nullable = false, length = 50)
+    private String lastName;
+
+    @Column(nullable = false, length = 100)
+    private String email;
+
+    @Column(length = 20)
+    private String phone;
+
+    @Column(nullable = false, length = 50)
+    private String department;
+
+    @Column(nullable = false, length = 100)
+    private String position;
+
+    @Column(precision = 10, scale = 2)
+    private BigDecimal salary;
+
+    @Column(name = "hire_date", nullable = false)
+    private LocalDate hireDate;
+
+    @Column(name = "manager_id")
+    private Integer managerId;
+
+    @Column(name = "is_active", nullable = false)
+    private Boolean isActive = false;
+
+    @Column(name = "tenant_id", nullable = false, length = 50)
+    private String tenantId;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    /**
+     * Get full name of the employee
+     */
+    @Transient
+    public String getFullName() {
+        return firstName + " " + lastName;
+    }
+}
@@ -6,6 +6,9 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
@@ -17,11 +20,18 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "employees")
+@FilterDef(name = Employee.TENANT_FILTER, parameters = @ParamDef(name = "tenantId", type = String.class))
+@Filter(name = Employee.TENANT_FILTER, condition = "tenant_id = :tenantId")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Employee {
 
+    /**
+     * Hibernate filter restricting queries to one tenant (see TenantFilterAspect)
+     */
+    public static final String TENANT_FILTER = "tenantFilter";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer id;
@@ -75,6 +85,9 @@ public class Employee {
     @Column(name = "is_active", nullable = false)
     private Boolean isActive = true;
 
+    @Column(name = "tenant_id", nullable = false, updatable = false, length = 50)
+    private String tenantId;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
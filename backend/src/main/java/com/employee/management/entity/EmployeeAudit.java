@@ -0,0 +1,45 @@
+package com.employee.management.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One changed field of one employee write, mapped to the employee_audit table
+ * Rows are inserted by AuditWriter with plain JDBC batches; JPA is only used to read history
+ */
+@Entity
+@Table(name = "employee_audit")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeAudit {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "employee_id", nullable = false)
+    private Integer employeeId;
+
+    @Column(name = "change_type", nullable = false, length = 10)
+    private String changeType;
+
+    @Column(name = "field_name", nullable = false, length = 30)
+    private String fieldName;
+
+    @Column(name = "old_value")
+    private String oldValue;
+
+    @Column(name = "new_value")
+    private String newValue;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    @Column(name = "changed_by", length = 100)
+    private String changedBy;
+}
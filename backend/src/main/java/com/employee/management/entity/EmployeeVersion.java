@@ -0,0 +1,71 @@
+package com.employee.management.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * One version of an employee row, mapped to the employees_history table
+ * Versions are written by a database trigger on employees and are read-only from the application;
+ * a version was current during [validFrom, validTo), with validTo = 'infinity' for the open one
+ */
+@Entity
+@Table(name = "employees_history")
+@Immutable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeVersion {
+
+    @Id
+    @Column(name = "history_id")
+    private Long historyId;
+
+    @Column(name = "employee_id", nullable = false)
+    private Integer employeeId;
+
+    @Column(name = "first_name", nullable = false, length = 50)
+    private String firstName;
+
+    @Column(name = "last_name", nullable = false, length = 50)
+    private String lastName;
+
+    @Column(nullable = false, length = 100)
+    private String email;
+
+    @Column(length = 20)
+    private String phone;
+
+    @Column(nullable = false, length = 50)
+    private String department;
+
+    @Column(nullable = false, length = 100)
+    private String position;
+
+    @Column(precision = 10, scale = 2)
+    private BigDecimal salary;
+
+    @Column(name = "hire_date", nullable = false)
+    private LocalDate hireDate;
+
+    @Column(name = "manager_id")
+    private Integer managerId;
+
+    @Column(name = "is_active", nullable = false)
+    private Boolean isActive;
+
+    @Column(name = "tenant_id", nullable = false, length = 50)
+    private String tenantId;
+
+    @Column(name = "valid_from", nullable = false)
+    private LocalDateTime validFrom;
+
+    @Column(name = "valid_to", nullable = false)
+    private LocalDateTime validTo;
+}
@@ -0,0 +1,8 @@
+package com.employee.management.event;
+
+/**
+ * Published when this node may have missed employee changes from other nodes
+ * Holders of local employee state should rebuild it from the database
+ */
+public class EmployeeCachesStaleEvent {
+}
@@ -0,0 +1,50 @@
+package com.employee.management.event;
+
+import com.employee.management.dto.EmployeeDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published by EmployeeServiceImpl for every employee write, and by CacheInvalidationBus for
+ * writes committed on other nodes
+ * Listeners should use @TransactionalEventListener so they only see committed changes; remote
+ * events are published outside a transaction, so listeners that keep local state also set
+ * fallbackExecution = true
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class EmployeeChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+
+    /**
+     * State before the write, null for CREATED
+     */
+    private final EmployeeDto before;
+
+    /**
+     * State after the write (inactive for DELETED)
+     */
+    private final EmployeeDto after;
+
+    /**
+     * True when the write was committed by another node
+     */
+    private final boolean remote;
+
+    public EmployeeChangedEvent(Type type, EmployeeDto before, EmployeeDto after) {
+        this(type, before, after, false);
+    }
+
+    public Integer getEmployeeId() {
+        return after != null ? after.getId() : before.getId();
+    }
+}
@@ -0,0 +1,40 @@
+package com.employee.management.exception;
+
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.schema.DataFetchingEnvironment;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.graphql.execution.DataFetcherExceptionResolverAdapter;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps application exceptions to GraphQL errors
+ * Mirrors the status mapping of GlobalExceptionHandler for the REST endpoints
+ */
+@Component
+@Slf4j
+public class GraphQlExceptionResolver extends DataFetcherExceptionResolverAdapter {
+
+    @Override
+    protected GraphQLError resolveToSingleError(Throwable ex, DataFetchingEnvironment env) {
+        ErrorType errorType;
+        if (ex instanceof ResourceNotFoundException) {
+            errorType = ErrorType.NOT_FOUND;
+        } else if (ex instanceof IllegalArgumentException) {
+            errorType = ErrorType.BAD_REQUEST;
+        } else if (ex instanceof ServiceOverloadedException) {
+            // No 503 equivalent; surface the retry message instead of a generic internal error
+            errorType = ErrorType.INTERNAL_ERROR;
+        } else {
+            return null;
+        }
+        
+        // Client errors and load shedding, not failures of the service
+        log.debug("GraphQL error at {}: {}", env.getExecutionStepInfo().getPath(), ex.getMessage());
+        return GraphqlErrorBuilder.newError(env)
+                .errorType(errorType)
+                .message(ex.getMessage())
+                .build();
+    }
+}
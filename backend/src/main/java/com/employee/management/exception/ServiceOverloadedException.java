@@ -0,0 +1,11 @@
+package com.employee.management.exception;
+
+/**
+ * Exception thrown when a request is shed because the service is at capacity
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    public ServiceOverloadedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,29 @@
+package com.employee.management.repository;
+
+import com.employee.management.entity.ArchivedEmployee;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for reading archived employees
+ */
+@Repository
+public interface ArchivedEmployeeRepository extends JpaRepository<ArchivedEmployee, Integer> {
+
+    /**
+     * Archived employees, most recently archived first
+     */
+    Page<ArchivedEmployee> findAllByOrderByArchivedAtDescIdDesc(Pageable pageable);
+
+    /**
+     * Archived employees with the given email (case-insensitive); an email can be archived more than once
+     */
+    @Query("SELECT a FROM ArchivedEmployee a WHERE LOWER(a.email) = LOWER(:email) ORDER BY a.archivedAt DESC")
+    List<ArchivedEmployee> findByEmailIgnoreCase(@Param("email") String email);
+}
@@ -0,0 +1,25 @@
+package com.employee.management.repository;
+
+import com.employee.management.entity.EmployeeAudit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for reading employee change history
+ */
+@Repository
+public interface EmployeeAuditRepository extends JpaRepository<EmployeeAudit, Long> {
+
+    /**
+     * Full history of one employee, newest first
+     */
+    Page<EmployeeAudit> findByEmployeeIdOrderByChangedAtDescIdDesc(Integer employeeId, Pageable pageable);
+
+    /**
+     * History of one field of one employee, newest first
+     */
+    Page<EmployeeAudit> findByEmployeeIdAndFieldNameOrderByChangedAtDescIdDesc(Integer employeeId, String fieldName,
+                                                                              Pageable pageable);
+}
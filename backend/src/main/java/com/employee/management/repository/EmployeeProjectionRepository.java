@@ -0,0 +1,32 @@
+package com.employee.management.repository;
+
+import com.employee.management.dto.EmployeeField;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Custom repository fragment for sparse fieldset queries
+ * Only the columns behind the requested fields are selected
+ */
+public interface EmployeeProjectionRepository {
+
+    /**
+     * Search active employees, selecting only the given fields
+     * Null criteria are ignored; ordered like searchEmployees (SEARCH_ORDER, then the Pageable's sort).
+     * An unpaged Pageable returns every match without a count query
+     */
+    Page<Map<String, Object>> searchProjected(Set<EmployeeField> fields,
+                                              String searchTerm,
+                                              String department,
+                                              String position,
+                                              Pageable pageable);
+
+    /**
+     * Active employees, selecting only the given fields, ordered by the Pageable's sort alone like
+     * findByIsActiveTrue(Pageable); an unpaged Pageable returns every row without a count query
+     */
+    Page<Map<String, Object>> findActiveProjected(Set<EmployeeField> fields, Pageable pageable);
+}
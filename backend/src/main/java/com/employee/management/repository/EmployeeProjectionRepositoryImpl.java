@@ -0,0 +1,141 @@
+package com.employee.management.repository;
+
+import com.employee.management.dto.EmployeeField;
+import com.employee.management.entity.Employee;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Criteria API implementation of EmployeeProjectionRepository
+ * Mirrors the predicates of EmployeeRepository.searchEmployees
+ */
+public class EmployeeProjectionRepositoryImpl implements EmployeeProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Map<String, Object>> searchProjected(Set<EmployeeField> fields,
+                                                     String searchTerm,
+                                                     String department,
+                                                     String position,
+                                                     Pageable pageable) {
+        return project(fields, searchTerm, department, position, EmployeeRepository.SEARCH_ORDER.and(pageable.getSort()),
+                pageable);
+    }
+
+    @Override
+    public Page<Map<String, Object>> findActiveProjected(Set<EmployeeField> fields, Pageable pageable) {
+        return project(fields, null, null, null, pageable.getSort(), pageable);
+    }
+
+    private Page<Map<String, Object>> project(Set<EmployeeField> fields, String searchTerm, String department,
+                                              String position, Sort sort, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Employee> root = query.from(Employee.class);
+
+        Set<String> attributes = new LinkedHashSet<>();
+        fields.forEach(field -> attributes.addAll(field.getAttributes()));
+
+        Join<Employee, Employee> manager = null;
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String attribute : attributes) {
+            if (attribute.startsWith("manager.")) {
+                if (manager == null) {
+                    manager = root.join("manager", JoinType.LEFT);
+                }
+                selections.add(manager.get(attribute.substring("manager.".length())).alias(attribute));
+            } else {
+                selections.add(root.get(attribute).alias(attribute));
+            }
+        }
+
+        query.multiselect(selections)
+                .where(buildPredicates(cb, root, searchTerm, department, position))
+                .orderBy(buildOrder(cb, root, sort));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Tuple tuple : typedQuery.getResultList()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (EmployeeField field : fields) {
+                row.put(field.getJsonName(), field.extract(tuple::get));
+            }
+            rows.add(row);
+        }
+
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(rows);
+        }
+        return new PageImpl<>(rows, pageable, countMatches(cb, searchTerm, department, position));
+    }
+
+    private long countMatches(CriteriaBuilder cb, String searchTerm, String department, String position) {
+        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+        Root<Employee> root = countQuery.from(Employee.class);
+        countQuery.select(cb.count(root))
+                .where(buildPredicates(cb, root, searchTerm, department, position));
+        return entityManager.createQuery(countQuery).getSingleResult();
+    }
+
+    private Predicate[] buildPredicates(CriteriaBuilder cb, From<?, Employee> root,
+                                        String searchTerm, String department, String position) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.isTrue(root.<Boolean>get("isActive")));
+
+        if (searchTerm != null) {
+            String pattern = "%" + searchTerm.toLowerCase() + "%";
+            predicates.add(cb.or(
+                    cb.like(cb.lower(root.<String>get("firstName")), pattern),
+                    cb.like(cb.lower(root.<String>get("lastName")), pattern),
+                    cb.like(cb.lower(root.<String>get("email")), pattern),
+                    cb.like(cb.lower(root.<String>get("department")), pattern),
+                    cb.like(cb.lower(root.<String>get("position")), pattern)));
+        }
+        if (department != null) {
+            predicates.add(cb.equal(cb.lower(root.<String>get("department")), department.toLowerCase()));
+        }
+        if (position != null) {
+            predicates.add(cb.equal(cb.lower(root.<String>get("position")), position.toLowerCase()));
+        }
+        return predicates.toArray(new Predicate[0]);
+    }
+
+    private List<Order> buildOrder(CriteriaBuilder cb, Root<Employee> root, Sort sort) {
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            Path<Object> path = root.get(order.getProperty());
+            orders.add(order.isAscending() ? cb.asc(path) : cb.desc(path));
+        }
+        return orders;
+    }
+}
@@ -1,29 +1,53 @@
 package com.employee.management.repository;
 
 import com.employee.management.entity.Employee;
+import com.employee.management.sharding.ShardWide;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Employee entity
  * Provides CRUD operations and custom query methods
+ * Active-only queries filter on a literal isActive = true so PostgreSQL can prune to the
+ * active partition when the table is partitioned on is_active
+ * Case-insensitive matches use LOWER() throughout so they line up with the functional indexes
+ * in database/schema/employee.sql; QueryPlanVerifier checks that each shape uses an index
+ * With sharding enabled, queries of a tenant's request only see that tenant (TenantFilterAspect)
  */
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Integer> {
+public interface EmployeeRepository extends JpaRepository<Employee, Integer>, EmployeeProjectionRepository {
+
+    /**
+     * ORDER BY of searchEmployees; a Pageable's sort is applied after it
+     */
+    Sort SEARCH_ORDER = Sort.by("lastName", "firstName");
 
     /**
      * Find employee by email (case-insensitive)
      */
-    Optional<Employee> findByEmailIgnoreCase(String email);
+    @Query("SELECT e FROM Employee e WHERE LOWER(e.email) = LOWER(:email)")
+    Optional<Employee> findByEmailIgnoreCase(@Param("email") String email);
+
+    /**
+     * Find employees by a set of IDs with their managers fetched in the same query
+     */
+    @Query("SELECT e FROM Employee e LEFT JOIN FETCH e.manager WHERE e.id IN :ids")
+    List<Employee> findAllWithManagerByIdIn(@Param("ids") Collection<Integer> ids);
 
     /**
      * Find all active employees
@@ -38,18 +62,30 @@ public interface EmployeeRepository extends JpaRepository<Employee, Integer> {
     /**
      * Find employees by department (case-insensitive)
      */
-    List<Employee> findByDepartmentIgnoreCaseAndIsActiveTrue(String department);
+    @Query("SELECT e FROM Employee e WHERE LOWER(e.department) = LOWER(:department) AND e.isActive = true " +
+           "ORDER BY e.lastName, e.firstName")
+    List<Employee> findByDepartmentIgnoreCaseAndIsActiveTrue(@Param("department") String department);
 
     /**
      * Find employees by position (case-insensitive)
      */
-    List<Employee> findByPositionIgnoreCaseAndIsActiveTrue(String position);
+    @Query("SELECT e FROM Employee e WHERE LOWER(e.position) = LOWER(:position) AND e.isActive = true " +
+           "ORDER BY e.lastName, e.firstName")
+    List<Employee> findByPositionIgnoreCaseAndIsActiveTrue(@Param("position") String position);
 
     /**
      * Find employees by manager ID
      */
     List<Employee> findByManagerIdAndIsActiveTrue(Integer managerId);
 
+    /**
+     * Find active direct reports of several managers in one query
+     */
+    @Query("SELECT e FROM Employee e LEFT JOIN FETCH e.manager " +
+           "WHERE e.managerId IN :managerIds AND e.isActive = true " +
+           "ORDER BY e.lastName, e.firstName")
+    List<Employee> findActiveByManagerIdIn(@Param("managerIds") Collection<Integer> managerIds);
+
     /**
      * Find employees hired between dates
      */
@@ -107,6 +143,82 @@ public interface EmployeeRepository extends JpaRepository<Employee, Integer> {
     @Query("SELECT e.department, COUNT(e) FROM Employee e WHERE e.isActive = true GROUP BY e.department")
     List<Object[]> countEmployeesByDepartment();
 
+    /**
+     * Stream (id, department, managerId, salary, hireDate, tenantId) of every active employee for analytics rebuilds
+     * Must be consumed inside a transaction and closed
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT e.id, e.department, e.managerId, e.salary, e.hireDate, e.tenantId FROM Employee e WHERE e.isActive = true")
+    Stream<Object[]> streamActiveOrgFacts();
+
+    /**
+     * Stream the columns held by the in-memory query snapshot for every active employee
+     * Must be consumed inside a transaction and closed
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT e.id, e.firstName, e.lastName, e.email, e.department, e.position, e.salary, e.hireDate, e.managerId, " +
+           "e.tenantId FROM Employee e WHERE e.isActive = true")
+    Stream<Object[]> streamActiveSnapshotRows();
+
+    /**
+     * Stream the snapshot columns plus the active flag (index 10) of every employee updated after the given time
+     * Must be consumed inside a transaction and closed
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT e.id, e.firstName, e.lastName, e.email, e.department, e.position, e.salary, e.hireDate, e.managerId, " +
+           "e.tenantId, e.isActive FROM Employee e WHERE e.updatedAt > :since")
+    Stream<Object[]> streamSnapshotRowsUpdatedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Newest update time in the table, the high-water mark a persisted query snapshot is taken at
+     */
+    @Query("SELECT MAX(e.updatedAt) FROM Employee e")
+    LocalDateTime findMaxUpdatedAt();
+
+    long countByIsActiveTrue();
+
+    /**
+     * Stream report rows for one department, in roster order
+     * Must be consumed inside a transaction and closed
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT e.id, e.firstName, e.lastName, e.email, e.department, e.position, e.salary, e.hireDate, e.managerId " +
+           "FROM Employee e WHERE LOWER(e.department) = LOWER(:department) AND e.isActive = true " +
+           "ORDER BY e.lastName, e.firstName")
+    Stream<Object[]> streamActiveReportRowsByDepartment(@Param("department") String department);
+
+    /**
+     * Stream report rows for an inclusive ID range, in ID order
+     * Must be consumed inside a transaction and closed
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT e.id, e.firstName, e.lastName, e.email, e.department, e.position, e.salary, e.hireDate, e.managerId " +
+           "FROM Employee e WHERE e.id BETWEEN :fromId AND :toId AND e.isActive = true ORDER BY e.id")
+    Stream<Object[]> streamActiveReportRowsByIdRange(@Param("fromId") Integer fromId, @Param("toId") Integer toId);
+
+    /**
+     * Stream the identity fields of every active employee for the duplicate-person index
+     * Must be consumed inside a transaction and closed
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT e.id, e.firstName, e.lastName, e.email, e.phone, e.department, e.tenantId " +
+           "FROM Employee e WHERE e.isActive = true")
+    Stream<Object[]> streamActiveIdentityRows();
+
+    /**
+     * Stream every stored email, active or not, for the email existence filter
+     * Must be consumed inside a transaction and closed
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT e.email FROM Employee e")
+    Stream<String> streamAllEmails();
+
+    @Query("SELECT MIN(e.id) FROM Employee e")
+    Integer findMinId();
+
+    @Query("SELECT MAX(e.id) FROM Employee e")
+    Integer findMaxId();
+
     /**
      * Find employees with no manager (top-level employees)
      */
@@ -114,19 +226,25 @@ public interface EmployeeRepository extends JpaRepository<Employee, Integer> {
 
     /**
      * Check if email exists (excluding specific employee ID)
+     * Emails are unique per shard database, so these checks cover every tenant on the shard
      */
+    @ShardWide
     @Query("SELECT COUNT(e) > 0 FROM Employee e WHERE LOWER(e.email) = LOWER(:email) AND e.id != :excludeId")
     boolean existsByEmailIgnoreCaseAndIdNot(@Param("email") String email, @Param("excludeId") Long excludeId);
 
     /**
      * Check if email exists
      */
-    boolean existsByEmailIgnoreCase(String email);
+    @ShardWide
+    @Query("SELECT COUNT(e) > 0 FROM Employee e WHERE LOWER(e.email) = LOWER(:email)")
+    boolean existsByEmailIgnoreCase(@Param("email") String email);
 
     /**
      * Check if email exists excluding specific ID
      */
-    boolean existsByEmailIgnoreCaseAndIdNot(String email, Integer id);
+    @ShardWide
+    @Query("SELECT COUNT(e) > 0 FROM Employee e WHERE LOWER(e.email) = LOWER(:email) AND e.id <> :id")
+    boolean existsByEmailIgnoreCaseAndIdNot(@Param("email") String email, @Param("id") Integer id);
 
     /**
      * Soft delete employee by setting isActive to false
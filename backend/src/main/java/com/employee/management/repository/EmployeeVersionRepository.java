@@ -0,0 +1,59 @@
+package com.employee.management.repository;
+
+import com.employee.management.entity.EmployeeVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for as-of reads of employee history (PostgreSQL only)
+ * Every query selects the versions whose validity range contains the instant with
+ * tsrange(valid_from, valid_to) @> :asOf, the predicate the GiST indexes of V10 serve,
+ * so a past org structure is one index range scan rather than a replay of changes
+ */
+@Repository
+public interface EmployeeVersionRepository extends JpaRepository<EmployeeVersion, Long> {
+
+    String ACTIVE_AS_OF = "SELECT h.* FROM employees_history h " +
+            "WHERE h.is_active AND tsrange(h.valid_from, h.valid_to) @> CAST(:asOf AS timestamp) ";
+
+    String ROSTER_ORDER = "ORDER BY h.last_name, h.first_name";
+
+    /**
+     * Employees active at the instant
+     */
+    @Query(value = ACTIVE_AS_OF + ROSTER_ORDER, nativeQuery = true)
+    List<EmployeeVersion> findActiveAsOf(@Param("asOf") LocalDateTime asOf);
+
+    /**
+     * Employees active in a department (case-insensitive) at the instant
+     */
+    @Query(value = ACTIVE_AS_OF + "AND LOWER(h.department) = LOWER(:department) " + ROSTER_ORDER, nativeQuery = true)
+    List<EmployeeVersion> findActiveByDepartmentAsOf(@Param("department") String department,
+                                                     @Param("asOf") LocalDateTime asOf);
+
+    /**
+     * Employees with the given IDs that were active at the instant
+     */
+    @Query(value = ACTIVE_AS_OF + "AND h.employee_id IN (:ids)", nativeQuery = true)
+    List<EmployeeVersion> findActiveByEmployeeIdInAsOf(@Param("ids") Collection<Integer> ids,
+                                                       @Param("asOf") LocalDateTime asOf);
+
+    /**
+     * Direct reports of the given managers at the instant
+     */
+    @Query(value = ACTIVE_AS_OF + "AND h.manager_id IN (:managerIds) " + ROSTER_ORDER, nativeQuery = true)
+    List<EmployeeVersion> findActiveByManagerIdInAsOf(@Param("managerIds") Collection<Integer> managerIds,
+                                                      @Param("asOf") LocalDateTime asOf);
+
+    /**
+     * Employees without a manager at the instant
+     */
+    @Query(value = ACTIVE_AS_OF + "AND h.manager_id IS NULL " + ROSTER_ORDER, nativeQuery = true)
+    List<EmployeeVersion> findActiveTopLevelAsOf(@Param("asOf") LocalDateTime asOf);
+}
@@ -0,0 +1,61 @@
+package com.employee.management.serialization;
+
+import com.employee.management.dto.ApiResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Streaming serializer for the ApiResponse envelope
+ * Honours the NON_NULL inclusion of ApiResponse and delegates the payload to the provider,
+ * so EmployeeDto payloads still go through EmployeeDtoSerializer
+ */
+@SuppressWarnings("rawtypes")
+public class ApiResponseSerializer extends StdSerializer<ApiResponse> {
+
+    private static final SerializableString SUCCESS = new SerializedString("success");
+    private static final SerializableString DATA = new SerializedString("data");
+    private static final SerializableString MESSAGE = new SerializedString("message");
+    private static final SerializableString COUNT = new SerializedString("count");
+    private static final SerializableString ERROR = new SerializedString("error");
+    private static final SerializableString TIMESTAMP = new SerializedString("timestamp");
+
+    public ApiResponseSerializer() {
+        super(ApiResponse.class);
+    }
+
+    @Override
+    public void serialize(ApiResponse response, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(response);
+
+        gen.writeFieldName(SUCCESS);
+        gen.writeBoolean(response.isSuccess());
+
+        if (response.getData() != null) {
+            gen.writeFieldName(DATA);
+            provider.defaultSerializeValue(response.getData(), gen);
+        }
+        if (response.getMessage() != null) {
+            gen.writeFieldName(MESSAGE);
+            gen.writeString(response.getMessage());
+        }
+        if (response.getCount() != null) {
+            gen.writeFieldName(COUNT);
+            gen.writeNumber(response.getCount());
+        }
+        if (response.getError() != null) {
+            gen.writeFieldName(ERROR);
+            gen.writeString(response.getError());
+        }
+        if (response.getTimestamp() != null) {
+            gen.writeFieldName(TIMESTAMP);
+            IsoTemporalWriter.writeDateTime(gen, response.getTimestamp());
+        }
+
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,112 @@
+package com.employee.management.serialization;
+
+import com.employee.management.dto.EmployeeDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Hand-written streaming serializer for EmployeeDto
+ * Field names are pre-encoded once and values are written directly, avoiding the reflective
+ * bean serializer; output matches the default serializer field for field
+ */
+public class EmployeeDtoSerializer extends StdSerializer<EmployeeDto> {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString FIRST_NAME = new SerializedString("firstName");
+    private static final SerializableString LAST_NAME = new SerializedString("lastName");
+    private static final SerializableString FULL_NAME = new SerializedString("fullName");
+    private static final SerializableString EMAIL = new SerializedString("email");
+    private static final SerializableString PHONE = new SerializedString("phone");
+    private static final SerializableString DEPARTMENT = new SerializedString("department");
+    private static final SerializableString POSITION = new SerializedString("position");
+    private static final SerializableString SALARY = new SerializedString("salary");
+    private static final SerializableString HIRE_DATE = new SerializedString("hireDate");
+    private static final SerializableString MANAGER_ID = new SerializedString("managerId");
+    private static final SerializableString MANAGER_NAME = new SerializedString("managerName");
+    private static final SerializableString IS_ACTIVE = new SerializedString("isActive");
+    private static final SerializableString TENANT_ID = new SerializedString("tenantId");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializableString UPDATED_AT = new SerializedString("updatedAt");
+
+    public EmployeeDtoSerializer() {
+        super(EmployeeDto.class);
+    }
+
+    @Override
+    public void serialize(EmployeeDto dto, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(dto);
+
+        gen.writeFieldName(ID);
+        writeInteger(gen, dto.getId());
+        gen.writeFieldName(FIRST_NAME);
+        gen.writeString(dto.getFirstName());
+        gen.writeFieldName(LAST_NAME);
+        gen.writeString(dto.getLastName());
+        gen.writeFieldName(FULL_NAME);
+        gen.writeString(dto.getFullName());
+        gen.writeFieldName(EMAIL);
+        gen.writeString(dto.getEmail());
+        gen.writeFieldName(PHONE);
+        gen.writeString(dto.getPhone());
+        gen.writeFieldName(DEPARTMENT);
+        gen.writeString(dto.getDepartment());
+        gen.writeFieldName(POSITION);
+        gen.writeString(dto.getPosition());
+
+        gen.writeFieldName(SALARY);
+        if (dto.getSalary() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(dto.getSalary());
+        }
+
+        gen.writeFieldName(HIRE_DATE);
+        if (dto.getHireDate() == null) {
+            gen.writeNull();
+        } else {
+            IsoTemporalWriter.writeDate(gen, dto.getHireDate());
+        }
+
+        gen.writeFieldName(MANAGER_ID);
+        writeInteger(gen, dto.getManagerId());
+        gen.writeFieldName(MANAGER_NAME);
+        gen.writeString(dto.getManagerName());
+
+        gen.writeFieldName(IS_ACTIVE);
+        if (dto.getIsActive() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeBoolean(dto.getIsActive());
+        }
+        gen.writeFieldName(TENANT_ID);
+        gen.writeString(dto.getTenantId());
+
+        gen.writeFieldName(CREATED_AT);
+        if (dto.getCreatedAt() == null) {
+            gen.writeNull();
+        } else {
+            IsoTemporalWriter.writeDateTime(gen, dto.getCreatedAt());
+        }
+        gen.writeFieldName(UPDATED_AT);
+        if (dto.getUpdatedAt() == null) {
+            gen.writeNull();
+        } else {
+            IsoTemporalWriter.writeDateTime(gen, dto.getUpdatedAt());
+        }
+
+        gen.writeEndObject();
+    }
+
+    private static void writeInteger(JsonGenerator gen, Integer value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+}
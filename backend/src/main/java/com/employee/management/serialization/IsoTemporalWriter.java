@@ -0,0 +1,83 @@
+package com.employee.management.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes ISO 8601 dates and timestamps straight into a per-thread char buffer
+ * Output is identical to DateTimeFormatter.ISO_LOCAL_DATE / ISO_LOCAL_DATE_TIME, which is what
+ * Jackson's JavaTimeModule writes by default, without the formatter's per-call allocations
+ */
+final class IsoTemporalWriter {
+
+    // yyyy-MM-ddTHH:mm:ss.nnnnnnnnn
+    private static final int MAX_LENGTH = 29;
+
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[MAX_LENGTH]);
+
+    private IsoTemporalWriter() {
+    }
+
+    static void writeDate(JsonGenerator gen, LocalDate date) throws IOException {
+        if (date.getYear() < 0 || date.getYear() > 9999) {
+            gen.writeString(date.format(DateTimeFormatter.ISO_LOCAL_DATE));
+            return;
+        }
+        char[] buffer = BUFFER.get();
+        int length = appendDate(buffer, 0, date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+        gen.writeString(buffer, 0, length);
+    }
+
+    static void writeDateTime(JsonGenerator gen, LocalDateTime dateTime) throws IOException {
+        if (dateTime.getYear() < 0 || dateTime.getYear() > 9999) {
+            gen.writeString(dateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            return;
+        }
+        char[] buffer = BUFFER.get();
+        int pos = appendDate(buffer, 0, dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth());
+        buffer[pos++] = 'T';
+        pos = appendTwoDigits(buffer, pos, dateTime.getHour());
+        buffer[pos++] = ':';
+        pos = appendTwoDigits(buffer, pos, dateTime.getMinute());
+        buffer[pos++] = ':';
+        pos = appendTwoDigits(buffer, pos, dateTime.getSecond());
+
+        int nanos = dateTime.getNano();
+        if (nanos > 0) {
+            // ISO_LOCAL_TIME prints the fraction with trailing zeros removed
+            buffer[pos++] = '.';
+            int digits = 9;
+            while (nanos % 10 == 0) {
+                nanos /= 10;
+                digits--;
+            }
+            for (int i = pos + digits - 1; i >= pos; i--) {
+                buffer[i] = (char) ('0' + nanos % 10);
+                nanos /= 10;
+            }
+            pos += digits;
+        }
+        gen.writeString(buffer, 0, pos);
+    }
+
+    private static int appendDate(char[] buffer, int pos, int year, int month, int day) {
+        buffer[pos++] = (char) ('0' + year / 1000);
+        buffer[pos++] = (char) ('0' + year / 100 % 10);
+        buffer[pos++] = (char) ('0' + year / 10 % 10);
+        buffer[pos++] = (char) ('0' + year % 10);
+        buffer[pos++] = '-';
+        pos = appendTwoDigits(buffer, pos, month);
+        buffer[pos++] = '-';
+        return appendTwoDigits(buffer, pos, day);
+    }
+
+    private static int appendTwoDigits(char[] buffer, int pos, int value) {
+        buffer[pos++] = (char) ('0' + value / 10);
+        buffer[pos++] = (char) ('0' + value % 10);
+        return pos;
+    }
+}
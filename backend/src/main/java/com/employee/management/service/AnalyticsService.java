@@ -0,0 +1,31 @@
+package com.employee.management.service;
+
+import com.employee.management.dto.OrgStatsDto;
+
+import java.util.List;
+
+/**
+ * Service interface for organization analytics
+ */
+public interface AnalyticsService {
+
+    /**
+     * Get statistics for every department
+     */
+    List<OrgStatsDto> getDepartmentStats();
+
+    /**
+     * Get statistics for one department (case-insensitive)
+     */
+    OrgStatsDto getDepartmentStats(String department);
+
+    /**
+     * Get statistics for the direct reports of one manager
+     */
+    OrgStatsDto getManagerStats(Integer managerId);
+
+    /**
+     * Rebuild all aggregates from the database
+     */
+    void reconcile();
+}
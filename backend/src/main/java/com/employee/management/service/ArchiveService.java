@@ -0,0 +1,33 @@
+package com.employee.management.service;
+
+import com.employee.management.dto.ArchiveRunResult;
+import com.employee.management.dto.ArchivedEmployeeDto;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * Service interface for the archive of long-inactive employees
+ */
+public interface ArchiveService {
+
+    /**
+     * Move employees inactive for longer than the retention period to the archive
+     */
+    ArchiveRunResult archiveInactiveEmployees();
+
+    /**
+     * Get an archived employee by ID
+     */
+    ArchivedEmployeeDto getArchivedEmployee(Integer id);
+
+    /**
+     * Get archived employees, most recently archived first
+     */
+    Page<ArchivedEmployeeDto> getArchivedEmployees(int page, int size);
+
+    /**
+     * Get archived employees by email (case-insensitive)
+     */
+    List<ArchivedEmployeeDto> getArchivedEmployeesByEmail(String email);
+}
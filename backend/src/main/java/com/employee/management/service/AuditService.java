@@ -0,0 +1,15 @@
+package com.employee.management.service;
+
+import com.employee.management.dto.EmployeeAuditDto;
+import org.springframework.data.domain.Page;
+
+/**
+ * Service interface for reading employee change history
+ */
+public interface AuditService {
+
+    /**
+     * Get the change history of an employee, newest first, optionally for a single field
+     */
+    Page<EmployeeAuditDto> getEmployeeHistory(Integer employeeId, String field, int page, int size);
+}
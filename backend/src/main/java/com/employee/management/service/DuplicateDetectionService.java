@@ -0,0 +1,29 @@
+package com.employee.management.service;
+
+import com.employee.management.dto.DuplicateCandidateDto;
+import com.employee.management.dto.DuplicateReportDto;
+import com.employee.management.dto.EmployeeRequest;
+
+import java.util.List;
+
+/**
+ * Service interface for finding near-duplicate people beyond exact email uniqueness
+ */
+public interface DuplicateDetectionService {
+
+    /**
+     * Active employees that are probably the same person as the request, most similar first
+     */
+    List<DuplicateCandidateDto> findCandidates(EmployeeRequest request);
+
+    /**
+     * Group every active employee with its probable duplicates
+     * @param threshold minimum similarity, or null for the configured default
+     */
+    DuplicateReportDto report(Double threshold);
+
+    /**
+     * Rebuild the index from the database
+     */
+    void rebuild();
+}
@@ -0,0 +1,40 @@
+package com.employee.management.service;
+
+import com.employee.management.dto.EmployeeDto;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Service interface for reading employees as they stood at a past instant, from employees_history
+ * Returned DTOs describe the version current at that instant: updatedAt is when the version began,
+ * and manager names are not resolved
+ */
+public interface EmployeeAsOfService {
+
+    /**
+     * Employees active at the instant
+     */
+    List<EmployeeDto> getAllEmployees(LocalDateTime asOf);
+
+    /**
+     * Employees active in a department at the instant
+     */
+    List<EmployeeDto> getEmployeesByDepartment(String department, LocalDateTime asOf);
+
+    /**
+     * Employees with the given IDs that were active at the instant, in no particular order
+     */
+    List<EmployeeDto> getEmployeesByIds(Collection<Integer> ids, LocalDateTime asOf);
+
+    /**
+     * Direct reports of the given managers at the instant
+     */
+    List<EmployeeDto> getEmployeesByManagers(Collection<Integer> managerIds, LocalDateTime asOf);
+
+    /**
+     * Employees without a manager at the instant
+     */
+    List<EmployeeDto> getTopLevelEmployees(LocalDateTime asOf);
+}
@@ -0,0 +1,20 @@
+package com.employee.management.service;
+
+import com.employee.management.dto.EmployeeQueryRequest;
+import com.employee.management.dto.EmployeeQueryResponse;
+
+/**
+ * Service interface for ad-hoc employee queries over an in-memory columnar snapshot
+ */
+public interface EmployeeQueryService {
+
+    /**
+     * Filter, sort and page active employees
+     */
+    EmployeeQueryResponse query(EmployeeQueryRequest request);
+
+    /**
+     * Rebuild the snapshot from the database
+     */
+    void rebuild();
+}
@@ -1,11 +1,17 @@
 package com.employee.management.service;
 
+import com.employee.management.dto.EmployeeBatchResponse;
 import com.employee.management.dto.EmployeeDto;
+import com.employee.management.dto.EmployeeField;
+import com.employee.management.dto.EmployeeImportResult;
 import com.employee.management.dto.EmployeeRequest;
 import com.employee.management.dto.EmployeeSearchRequest;
 import org.springframework.data.domain.Page;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Service interface for Employee operations
@@ -22,16 +28,38 @@ public interface EmployeeService {
      */
     Page<EmployeeDto> getAllEmployees(int page, int size, String sortBy, String sortDirection);
 
+    /**
+     * Get all active employees with only the selected fields
+     */
+    List<Map<String, Object>> getAllEmployees(Set<EmployeeField> fields);
+
+    /**
+     * Get employees with pagination and only the selected fields
+     */
+    Page<Map<String, Object>> getAllEmployees(int page, int size, String sortBy, String sortDirection,
+                                              Set<EmployeeField> fields);
+
     /**
      * Get employee by ID
      */
     EmployeeDto getEmployeeById(Integer id);
 
+    /**
+     * Get several employees by ID in request order
+     */
+    EmployeeBatchResponse getEmployeesByIds(List<Integer> ids);
+
     /**
      * Create new employee
      */
     EmployeeDto createEmployee(EmployeeRequest request);
 
+    /**
+     * Create many employees, each in its own transaction
+     * @param skipDuplicates skip rows that look like an existing employee instead of creating them
+     */
+    EmployeeImportResult importEmployees(List<EmployeeRequest> requests, boolean skipDuplicates);
+
     /**
      * Update existing employee
      */
@@ -47,11 +75,21 @@ public interface EmployeeService {
      */
     Page<EmployeeDto> searchEmployees(EmployeeSearchRequest searchRequest);
 
+    /**
+     * Search employees with multiple criteria, returning only the selected fields
+     */
+    Page<Map<String, Object>> searchEmployees(EmployeeSearchRequest searchRequest, Set<EmployeeField> fields);
+
     /**
      * Get employees by department
      */
     List<EmployeeDto> getEmployeesByDepartment(String department);
 
+    /**
+     * Get employees by department with only the selected fields
+     */
+    List<Map<String, Object>> getEmployeesByDepartment(String department, Set<EmployeeField> fields);
+
     /**
      * Get employees by position
      */
@@ -62,6 +100,16 @@ public interface EmployeeService {
      */
     List<EmployeeDto> getEmployeesByManager(Integer managerId);
 
+    /**
+     * Get active direct reports of several managers at once
+     */
+    List<EmployeeDto> getEmployeesByManagers(Collection<Integer> managerIds);
+
+    /**
+     * Get top-level employees (no manager)
+     */
+    List<EmployeeDto> getTopLevelEmployees();
+
     /**
      * Get all departments
      */
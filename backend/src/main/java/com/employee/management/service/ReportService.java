@@ -0,0 +1,18 @@
+package com.employee.management.service;
+
+import com.employee.management.dto.ReportPartitioning;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Service interface for company-wide report exports
+ */
+public interface ReportService {
+
+    /**
+     * Write the monthly roster and salary report archive (zip) to the stream
+     * Partitions are read and formatted concurrently with up to {@code parallelism} workers
+     */
+    void writeMonthlyArchive(ReportPartitioning partitioning, int parallelism, OutputStream out) throws IOException;
+}
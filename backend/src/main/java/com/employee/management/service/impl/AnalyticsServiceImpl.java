@@ -0,0 +1,247 @@
+package com.employee.management.service.impl;
+
+import com.employee.management.dto.EmployeeDto;
+import com.employee.management.dto.OrgStatsDto;
+import com.employee.management.event.EmployeeCachesStaleEvent;
+import com.employee.management.event.EmployeeChangedEvent;
+import com.employee.management.exception.ResourceNotFoundException;
+import com.employee.management.repository.EmployeeRepository;
+import com.employee.management.service.AnalyticsService;
+import com.employee.management.sharding.ShardTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of AnalyticsService
+ * Aggregates are updated incrementally from committed employee writes, so reads never query
+ * the database; a periodic rebuild from every shard corrects any drift. Each department and
+ * manager is aggregated per tenant: tenant-scoped requests see their own tenant's figures and
+ * unscoped callers a merge of every tenant.
+ */
+@Service
+@Lazy(false)
+@Slf4j
+public class AnalyticsServiceImpl implements AnalyticsService {
+
+    private final EmployeeRepository employeeRepository;
+    private final ShardTemplate shardTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final Object lock = new Object();
+    private OrgState state = new OrgState();
+    // Events committed while a rebuild is reading the database; replayed onto the rebuilt state, where
+    // an event the read already saw is a no-op because OrgState tracks each employee's counted facts
+    private List<EmployeeChangedEvent> pendingDuringRebuild;
+
+    public AnalyticsServiceImpl(EmployeeRepository employeeRepository,
+                                ShardTemplate shardTemplate,
+                                PlatformTransactionManager transactionManager) {
+        this.employeeRepository = employeeRepository;
+        this.shardTemplate = shardTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public List<OrgStatsDto> getDepartmentStats() {
+        int currentYear = LocalDate.now().getYear();
+        String tenantId = shardTemplate.visibleTenant();
+        synchronized (lock) {
+            return state.byDepartment.values().stream()
+                    .map(byTenant -> visible(byTenant, tenantId))
+                    .filter(Objects::nonNull)
+                    .map(aggregate -> aggregate.snapshot(currentYear))
+                    .sorted(Comparator.comparing(OrgStatsDto::getGroup))
+                    .toList();
+        }
+    }
+
+    @Override
+    public OrgStatsDto getDepartmentStats(String department) {
+        int currentYear = LocalDate.now().getYear();
+        String tenantId = shardTemplate.visibleTenant();
+        synchronized (lock) {
+            OrgAggregate aggregate = visible(state.byDepartment.get(department.toLowerCase(Locale.ROOT)), tenantId);
+            if (aggregate == null) {
+                throw new ResourceNotFoundException("No active employees in department: " + department);
+            }
+            return aggregate.snapshot(currentYear);
+        }
+    }
+
+    @Override
+    public OrgStatsDto getManagerStats(Integer managerId) {
+        int currentYear = LocalDate.now().getYear();
+        String tenantId = shardTemplate.visibleTenant();
+        synchronized (lock) {
+            OrgAggregate aggregate = visible(state.byManager.get(managerId), tenantId);
+            if (aggregate == null) {
+                throw new ResourceNotFoundException("No active direct reports for manager with id: " + managerId);
+            }
+            return aggregate.snapshot(currentYear);
+        }
+    }
+
+    /**
+     * Apply a committed employee write, local or from another node, to the aggregates
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        synchronized (lock) {
+            state.apply(event);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(event);
+            }
+        }
+    }
+
+    @EventListener({ApplicationReadyEvent.class, EmployeeCachesStaleEvent.class})
+    public void initialize() {
+        reconcile();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.analytics.reconcile-interval-ms:300000}",
+               initialDelayString = "${app.analytics.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        long start = System.nanoTime();
+        synchronized (lock) {
+            pendingDuringRebuild = new ArrayList<>();
+        }
+        try {
+            OrgState rebuilt = new OrgState();
+            shardTemplate.forEachShard(shard -> readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<Object[]> facts = employeeRepository.streamActiveOrgFacts()) {
+                    facts.forEach(row -> rebuilt.put((Integer) row[0], new OrgFact((String) row[5],
+                            (String) row[1], (Integer) row[2], toCents((BigDecimal) row[3]), (LocalDate) row[4])));
+                }
+            }));
+
+            synchronized (lock) {
+                pendingDuringRebuild.forEach(rebuilt::apply);
+                state = rebuilt;
+            }
+            log.info("Organization analytics rebuilt: {} departments, {} managers in {} ms",
+                    rebuilt.byDepartment.size(), rebuilt.byManager.size(), (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            synchronized (lock) {
+                pendingDuringRebuild = null;
+            }
+        }
+    }
+
+    /**
+     * One tenant's aggregate, or every tenant's merged into a copy when tenantId is null
+     */
+    private static OrgAggregate visible(Map<String, OrgAggregate> byTenant, String tenantId) {
+        if (byTenant == null || byTenant.isEmpty()) {
+            return null;
+        }
+        if (tenantId != null) {
+            return byTenant.get(tenantId);
+        }
+        OrgAggregate merged = new OrgAggregate(byTenant.values().iterator().next().group());
+        byTenant.values().forEach(merged::merge);
+        return merged;
+    }
+
+    private static Long toCents(BigDecimal salary) {
+        return salary == null ? null : salary.movePointRight(2).longValue();
+    }
+
+    /**
+     * The attributes one active employee contributes to the aggregates
+     */
+    private record OrgFact(String tenantId, String department, Integer managerId, Long salaryCents, LocalDate hireDate) {
+    }
+
+    /**
+     * Department and manager aggregates by tenant; a fresh instance is swapped in on every rebuild
+     * Changes are applied by employee ID against the facts already counted for that employee, not the
+     * event's before image, so applying the same state twice leaves the aggregates unchanged.
+     */
+    private static class OrgState {
+        // employee ID -> facts currently counted in the aggregates
+        private final Map<Integer, OrgFact> facts = new HashMap<>();
+        // lower-cased department -> tenant -> aggregate
+        private final Map<String, Map<String, OrgAggregate>> byDepartment = new HashMap<>();
+        // manager ID -> tenant -> aggregate
+        private final Map<Integer, Map<String, OrgAggregate>> byManager = new HashMap<>();
+
+        void apply(EmployeeChangedEvent event) {
+            EmployeeDto after = event.getAfter();
+            put(event.getEmployeeId(), after != null && Boolean.TRUE.equals(after.getIsActive())
+                    ? new OrgFact(after.getTenantId(), after.getDepartment(), after.getManagerId(),
+                            toCents(after.getSalary()), after.getHireDate())
+                    : null);
+        }
+
+        /**
+         * Count an employee with the given facts, or not at all when null
+         */
+        void put(Integer employeeId, OrgFact fact) {
+            OrgFact previous = fact == null ? facts.remove(employeeId) : facts.put(employeeId, fact);
+            if (previous != null) {
+                remove(previous.tenantId(), previous.department(), previous.managerId(),
+                        previous.salaryCents(), previous.hireDate());
+            }
+            if (fact != null) {
+                add(fact.tenantId(), fact.department(), fact.managerId(), fact.salaryCents(), fact.hireDate());
+            }
+        }
+
+        private void add(String tenantId, String department, Integer managerId, Long salaryCents, LocalDate hireDate) {
+            int hireYear = hireDate.getYear();
+            byDepartment.computeIfAbsent(department.toLowerCase(Locale.ROOT), key -> new HashMap<>())
+                    .computeIfAbsent(tenantId, key -> new OrgAggregate(department))
+                    .add(salaryCents, hireYear);
+            if (managerId != null) {
+                byManager.computeIfAbsent(managerId, key -> new HashMap<>())
+                        .computeIfAbsent(tenantId, key -> new OrgAggregate(String.valueOf(managerId)))
+                        .add(salaryCents, hireYear);
+            }
+        }
+
+        private void remove(String tenantId, String department, Integer managerId, Long salaryCents, LocalDate hireDate) {
+            int hireYear = hireDate.getYear();
+            removeFrom(byDepartment, department.toLowerCase(Locale.ROOT), tenantId, salaryCents, hireYear);
+            if (managerId != null) {
+                removeFrom(byManager, managerId, tenantId, salaryCents, hireYear);
+            }
+        }
+
+        private static <K> void removeFrom(Map<K, Map<String, OrgAggregate>> groups, K key, String tenantId,
+                                           Long salaryCents, int hireYear) {
+            Map<String, OrgAggregate> byTenant = groups.get(key);
+            OrgAggregate aggregate = byTenant == null ? null : byTenant.get(tenantId);
+            if (aggregate == null) {
+                return;
+            }
+            aggregate.remove(salaryCents, hireYear);
+            if (aggregate.isEmpty()) {
+                byTenant.remove(tenantId);
+                if (byTenant.isEmpty()) {
+                    groups.remove(key);
+                }
+            }
+        }
+    }
+}
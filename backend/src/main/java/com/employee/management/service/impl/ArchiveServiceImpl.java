@@ -0,0 +1,283 @@
+package com.employee.management.service.impl;
+
+import com.employee.management.dto.ArchiveRunResult;
+import com.employee.management.dto.ArchivedEmployeeDto;
+import com.employee.management.entity.ArchivedEmployee;
+import com.employee.management.entity.Employee;
+import com.employee.management.exception.ResourceNotFoundException;
+import com.employee.management.repository.ArchivedEmployeeRepository;
+import com.employee.management.repository.EmployeeRepository;
+import com.employee.management.service.ArchiveService;
+import com.employee.management.sharding.ShardTemplate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of ArchiveService
+ * Each chunk is one short transaction that deletes up to chunk-size eligible rows from employees
+ * and inserts them into employees_archive (a single DELETE ... RETURNING feeding an INSERT). An
+ * employee is eligible once it has been inactive for the retention period and no row left in
+ * employees names it as manager, so manager_id never points from the hot table into the archive;
+ * inactive reports are archived first and their manager follows in a later chunk. Only one node
+ * archives a shard at a time: a session-level advisory lock is held on a separate connection for the
+ * whole shard run, across chunk commits. Shards are archived one after another.
+ */
+@Service
+@Lazy(false)
+@Slf4j
+public class ArchiveServiceImpl implements ArchiveService {
+
+    private static final long ARCHIVE_LOCK_KEY = 0x656d705f61726368L;
+
+    private static final String ARCHIVE_CHUNK_SQL = """
+            WITH batch AS (
+                SELECT e.id FROM employees e
+                WHERE NOT e.is_active AND e.updated_at < ?
+                  AND NOT EXISTS (SELECT 1 FROM employees r WHERE r.manager_id = e.id)
+                ORDER BY e.updated_at, e.id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            ), moved AS (
+                DELETE FROM employees e USING batch b WHERE e.id = b.id
+                RETURNING e.id, e.first_name, e.last_name, e.email, e.phone, e.department, e.position,
+                          e.salary, e.hire_date, e.manager_id, e.is_active, e.tenant_id, e.created_at, e.updated_at
+            )
+            INSERT INTO employees_archive (id, first_name, last_name, email, phone, department, position, salary,
+                                           hire_date, manager_id, is_active, tenant_id, created_at, updated_at, archived_at)
+            SELECT id, first_name, last_name, email, phone, department, position, salary,
+                   hire_date, manager_id, is_active, tenant_id, created_at, updated_at, CURRENT_TIMESTAMP
+            FROM moved
+            """;
+
+    private static final String RETAINED_SQL =
+            "SELECT COUNT(*) FROM employees WHERE NOT is_active AND updated_at < ?";
+
+    private final ArchivedEmployeeRepository archivedEmployeeRepository;
+    private final EmployeeRepository employeeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardTemplate shardTemplate;
+    private final TransactionTemplate chunkTransaction;
+    private final boolean archivalEnabled;
+    private final int retentionDays;
+    private final int chunkSize;
+    private final long pauseMillis;
+    private final boolean analyzeAfterRun;
+
+    private final Counter archivedCounter;
+    private final Timer runTimer;
+
+    public ArchiveServiceImpl(ArchivedEmployeeRepository archivedEmployeeRepository,
+                              EmployeeRepository employeeRepository,
+                              JdbcTemplate jdbcTemplate,
+                              ShardTemplate shardTemplate,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.archive.enabled:false}") boolean archivalEnabled,
+                              @Value("${app.archive.retention-days:365}") int retentionDays,
+                              @Value("${app.archive.chunk-size:500}") int chunkSize,
+                              @Value("${app.archive.pause-ms:100}") long pauseMillis,
+                              @Value("${app.archive.analyze-after-run:true}") boolean analyzeAfterRun) {
+        this.archivedEmployeeRepository = archivedEmployeeRepository;
+        this.employeeRepository = employeeRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardTemplate = shardTemplate;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.archivalEnabled = archivalEnabled;
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+        this.analyzeAfterRun = analyzeAfterRun;
+
+        this.archivedCounter = meterRegistry.counter("archive.employees.archived");
+        this.runTimer = meterRegistry.timer("archive.run");
+    }
+
+    /**
+     * Nightly archival, only when app.archive.enabled is set
+     */
+    @Scheduled(cron = "${app.archive.cron:0 30 2 * * *}")
+    public void scheduledArchive() {
+        if (archivalEnabled) {
+            archiveInactiveEmployees();
+        }
+    }
+
+    @Override
+    public ArchiveRunResult archiveInactiveEmployees() {
+        long start = System.nanoTime();
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusDays(retentionDays));
+        int archived = 0;
+        int chunks = 0;
+        long retained = 0;
+        boolean ran = false;
+
+        for (String shard : shardTemplate.shards()) {
+            ShardRun run = shardTemplate.callOn(shard, () -> archiveShard(shard, cutoff));
+            archived += run.archived();
+            chunks += run.chunks();
+            retained += run.retained();
+            ran |= run.ran();
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        if (ran) {
+            runTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            log.info("Archived {} employees in {} chunks ({} kept as managers of live rows) in {} ms",
+                    archived, chunks, retained, elapsedNanos / 1_000_000);
+        }
+        return new ArchiveRunResult(archived, chunks, retained, ran, elapsedNanos / 1_000_000);
+    }
+
+    /**
+     * Archive one shard under its archive lock; the caller has already routed to it
+     * The lock connection stays idle while each chunk commits on a connection of its own.
+     */
+    private ShardRun archiveShard(String shard, Timestamp cutoff) {
+        return jdbcTemplate.execute((ConnectionCallback<ShardRun>) lockConnection -> {
+            if (!advisoryLock(lockConnection, "SELECT pg_try_advisory_lock(?)")) {
+                log.info("Archival of shard {} skipped: another node holds the archive lock", shard);
+                return new ShardRun(0, 0, 0, false);
+            }
+            try {
+                return archiveChunks(shard, cutoff);
+            } finally {
+                advisoryLock(lockConnection, "SELECT pg_advisory_unlock(?)");
+            }
+        });
+    }
+
+    private static boolean advisoryLock(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, ARCHIVE_LOCK_KEY);
+            boolean result;
+            try (ResultSet rs = statement.executeQuery()) {
+                result = rs.next() && rs.getBoolean(1);
+            }
+            if (!connection.getAutoCommit()) {
+                // Session locks outlive the transaction; don't leave the idle connection pinning a snapshot
+                connection.commit();
+            }
+            return result;
+        }
+    }
+
+    private ShardRun archiveChunks(String shard, Timestamp cutoff) {
+        int archived = 0;
+        int chunks = 0;
+
+        while (true) {
+            int moved = Objects.requireNonNull(
+                    chunkTransaction.execute(status -> jdbcTemplate.update(ARCHIVE_CHUNK_SQL, cutoff, chunkSize)));
+            chunks++;
+            archived += moved;
+            archivedCounter.increment(moved);
+            if (moved == 0) {
+                break;
+            }
+            log.debug("Archived chunk {} of shard {} with {} employees", chunks, shard, moved);
+            pause();
+        }
+
+        if (archived > 0 && analyzeAfterRun) {
+            // Refresh planner statistics for the shrunken hot table
+            jdbcTemplate.execute("ANALYZE employees");
+        }
+        Long retained = jdbcTemplate.queryForObject(RETAINED_SQL, Long.class, cutoff);
+        return new ShardRun(archived, chunks, retained == null ? 0 : retained, true);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ArchivedEmployeeDto getArchivedEmployee(Integer id) {
+        // findById bypasses the tenant filter, so visibility is checked here
+        ArchivedEmployee archived = archivedEmployeeRepository.findById(id)
+                .filter(candidate -> shardTemplate.isVisible(candidate.getTenantId()))
+                .orElseThrow(() -> new ResourceNotFoundException("Archived employee not found with id: " + id));
+        return convertToDto(archived);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ArchivedEmployeeDto> getArchivedEmployees(int page, int size) {
+        if (page < 0 || size < 1 || size > 500) {
+            throw new IllegalArgumentException("page must be >= 0 and size between 1 and 500");
+        }
+        return archivedEmployeeRepository.findAllByOrderByArchivedAtDescIdDesc(PageRequest.of(page, size))
+                .map(this::convertToDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ArchivedEmployeeDto> getArchivedEmployeesByEmail(String email) {
+        return archivedEmployeeRepository.findByEmailIgnoreCase(email).stream()
+                .map(this::convertToDto)
+                .toList();
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ArchivedEmployeeDto convertToDto(ArchivedEmployee archived) {
+        ArchivedEmployeeDto dto = new ArchivedEmployeeDto();
+        dto.setId(archived.getId());
+        dto.setFirstName(archived.getFirstName());
+        dto.setLastName(archived.getLastName());
+        dto.setFullName(archived.getFullName());
+        dto.setEmail(archived.getEmail());
+        dto.setPhone(archived.getPhone());
+        dto.setDepartment(archived.getDepartment());
+        dto.setPosition(archived.getPosition());
+        dto.setSalary(archived.getSalary());
+        dto.setHireDate(archived.getHireDate());
+        dto.setManagerId(archived.getManagerId());
+        dto.setManagerName(resolveManagerName(archived.getManagerId()));
+        dto.setDeactivatedAt(archived.getUpdatedAt());
+        dto.setArchivedAt(archived.getArchivedAt());
+        return dto;
+    }
+
+    /**
+     * The manager may still be live or may have been archived as well
+     */
+    private String resolveManagerName(Integer managerId) {
+        if (managerId == null) {
+            return null;
+        }
+        return employeeRepository.findById(managerId)
+                .map(Employee::getFullName)
+                .or(() -> archivedEmployeeRepository.findById(managerId).map(ArchivedEmployee::getFullName))
+                .filter(Objects::nonNull)
+                .orElse(null);
+    }
+
+    private record ShardRun(int archived, int chunks, long retained, boolean ran) {
+    }
+}
@@ -0,0 +1,84 @@
+package com.employee.management.service.impl;
+
+import com.employee.management.dto.EmployeeAuditDto;
+import com.employee.management.entity.ArchivedEmployee;
+import com.employee.management.entity.Employee;
+import com.employee.management.entity.EmployeeAudit;
+import com.employee.management.exception.ResourceNotFoundException;
+import com.employee.management.repository.ArchivedEmployeeRepository;
+import com.employee.management.repository.EmployeeAuditRepository;
+import com.employee.management.repository.EmployeeRepository;
+import com.employee.management.service.AuditService;
+import com.employee.management.sharding.ShardTemplate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Set;
+
+/**
+ * Implementation of AuditService
+ * Entries are written asynchronously by AuditWriter, so the newest change may take up to
+ * app.audit.flush-interval-ms to appear. Audit rows carry no tenant, so a tenant-scoped request
+ * only sees the history of an employee (current or archived) that belongs to its tenant.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AuditServiceImpl implements AuditService {
+
+    private static final Set<String> AUDITED_FIELDS = Set.of("salary", "department", "position", "managerId", "isActive");
+
+    private final EmployeeAuditRepository auditRepository;
+    private final EmployeeRepository employeeRepository;
+    private final ArchivedEmployeeRepository archivedEmployeeRepository;
+    private final ShardTemplate shardTemplate;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<EmployeeAuditDto> getEmployeeHistory(Integer employeeId, String field, int page, int size) {
+        log.debug("Fetching history for employee {} (field: {})", employeeId, field);
+        if (page < 0 || size < 1 || size > 500) {
+            throw new IllegalArgumentException("page must be >= 0 and size between 1 and 500");
+        }
+        requireVisibleEmployee(employeeId);
+
+        Pageable pageable = PageRequest.of(page, size);
+        Page<EmployeeAudit> history;
+        if (field == null) {
+            history = auditRepository.findByEmployeeIdOrderByChangedAtDescIdDesc(employeeId, pageable);
+        } else {
+            if (!AUDITED_FIELDS.contains(field)) {
+                throw new IllegalArgumentException("Field is not audited: " + field + ". Audited fields: " + AUDITED_FIELDS);
+            }
+            history = auditRepository.findByEmployeeIdAndFieldNameOrderByChangedAtDescIdDesc(employeeId, field, pageable);
+        }
+        return history.map(this::convertToDto);
+    }
+
+    /**
+     * Lookups by primary key bypass the tenant filter, so the owner is checked like EmployeeServiceImpl does
+     */
+    private void requireVisibleEmployee(Integer employeeId) {
+        if (shardTemplate.visibleTenant() == null) {
+            return;
+        }
+        boolean visible = employeeRepository.findById(employeeId)
+                .map(Employee::getTenantId)
+                .or(() -> archivedEmployeeRepository.findById(employeeId).map(ArchivedEmployee::getTenantId))
+                .filter(shardTemplate::isVisible)
+                .isPresent();
+        if (!visible) {
+            throw new ResourceNotFoundException("Employee not found with id: " + employeeId);
+        }
+    }
+
+    private EmployeeAuditDto convertToDto(EmployeeAudit audit) {
+        return new EmployeeAuditDto(audit.getId(), audit.getEmployeeId(), audit.getChangeType(), audit.getFieldName(),
+                audit.getOldValue(), audit.getNewValue(), audit.getChangedAt(), audit.getChangedBy());
+    }
+}
@@ -0,0 +1,318 @@
+package com.employee.management.service.impl;
+
+import com.employee.management.dedupe.MinHashLshIndex;
+import com.employee.management.dedupe.PersonTokens;
+import com.employee.management.dto.DuplicateCandidateDto;
+import com.employee.management.dto.DuplicateGroupDto;
+import com.employee.management.dto.DuplicateReportDto;
+import com.employee.management.dto.EmployeeDto;
+import com.employee.management.dto.EmployeeRequest;
+import com.employee.management.event.EmployeeCachesStaleEvent;
+import com.employee.management.event.EmployeeChangedEvent;
+import com.employee.management.repository.EmployeeRepository;
+import com.employee.management.service.DuplicateDetectionService;
+import com.employee.management.sharding.ShardTemplate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of DuplicateDetectionService
+ * Every active employee's name, email and phone tokens are held in a MinHashLshIndex kept current
+ * from committed writes, so a check only verifies the few employees sharing an LSH bucket instead
+ * of comparing against the whole table. The database (every shard) is only read on rebuild.
+ */
+@Service
+@Lazy(false)
+@Slf4j
+public class DuplicateDetectionServiceImpl implements DuplicateDetectionService {
+
+    private final EmployeeRepository employeeRepository;
+    private final ShardTemplate shardTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int bands;
+    private final int rows;
+    private final double threshold;
+    private final int maxCandidates;
+    private final int maxBucketSize;
+
+    private final Counter checksWithCandidates;
+    private final Counter checksClean;
+    private final Timer checkTimer;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private MinHashLshIndex index;
+    private Map<Integer, Person> people = new HashMap<>();
+    private boolean ready;
+    // Events committed while a rebuild is reading the database; replayed onto the rebuilt index
+    private List<EmployeeChangedEvent> pendingDuringRebuild;
+
+    public DuplicateDetectionServiceImpl(EmployeeRepository employeeRepository,
+                                         ShardTemplate shardTemplate,
+                                         PlatformTransactionManager transactionManager,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${app.employee.dedupe.bands:20}") int bands,
+                                         @Value("${app.employee.dedupe.rows:4}") int rows,
+                                         @Value("${app.employee.dedupe.threshold:0.6}") double threshold,
+                                         @Value("${app.employee.dedupe.max-candidates:10}") int maxCandidates,
+                                         @Value("${app.employee.dedupe.max-bucket-size:200}") int maxBucketSize) {
+        this.employeeRepository = employeeRepository;
+        this.shardTemplate = shardTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.bands = bands;
+        this.rows = rows;
+        this.threshold = threshold;
+        this.maxCandidates = maxCandidates;
+        this.maxBucketSize = maxBucketSize;
+        this.index = new MinHashLshIndex(bands, rows);
+
+        this.checksWithCandidates = meterRegistry.counter("dedupe.checks", "result", "candidates");
+        this.checksClean = meterRegistry.counter("dedupe.checks", "result", "clean");
+        this.checkTimer = meterRegistry.timer("dedupe.check");
+        Gauge.builder("dedupe.indexed", this, DuplicateDetectionServiceImpl::indexedCount)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<DuplicateCandidateDto> findCandidates(EmployeeRequest request) {
+        long[] tokens = PersonTokens.of(request.getFirstName(), request.getLastName(), request.getEmail(), request.getPhone());
+        long start = System.nanoTime();
+        List<DuplicateCandidateDto> candidates = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            if (!ready) {
+                // Advisory check: creates are not held up while the index loads
+                log.debug("Duplicate index is still loading, skipping check");
+                return candidates;
+            }
+            for (int id : index.candidates(tokens)) {
+                Person person = people.get(id);
+                double similarity = index.similarity(id, tokens);
+                if (similarity >= threshold && person != null && shardTemplate.isVisible(person.tenantId())) {
+                    candidates.add(person.toCandidate(id, similarity));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        candidates.sort(Comparator.comparingDouble(DuplicateCandidateDto::getSimilarity).reversed());
+        checkTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        (candidates.isEmpty() ? checksClean : checksWithCandidates).increment();
+        return candidates.size() > maxCandidates ? List.copyOf(candidates.subList(0, maxCandidates)) : candidates;
+    }
+
+    /**
+     * Pairs are only compared within LSH buckets and joined into groups with union-find.
+     * Holds the read lock for the whole report, so writes wait until it finishes.
+     */
+    @Override
+    public DuplicateReportDto report(Double requestedThreshold) {
+        double minSimilarity = requestedThreshold == null ? threshold : requestedThreshold;
+        if (minSimilarity <= 0 || minSimilarity > 1) {
+            throw new IllegalArgumentException("threshold must be greater than 0 and at most 1");
+        }
+        long start = System.nanoTime();
+
+        lock.readLock().lock();
+        try {
+            if (!ready) {
+                throw new IllegalStateException("Duplicate index is still loading");
+            }
+            Set<Long> compared = new HashSet<>();
+            Map<Integer, Integer> parent = new HashMap<>();
+            Map<Integer, Double> bestMatch = new HashMap<>();
+            long[] matched = new long[1];
+            int[] oversized = new int[1];
+
+            index.forEachCollision(ids -> {
+                if (ids.length > maxBucketSize) {
+                    oversized[0]++;
+                    return;
+                }
+                for (int i = 0; i < ids.length; i++) {
+                    for (int j = i + 1; j < ids.length; j++) {
+                        int a = Math.min(ids[i], ids[j]);
+                        int b = Math.max(ids[i], ids[j]);
+                        if (!compared.add(((long) a << 32) | (b & 0xFFFFFFFFL)) || !visible(a) || !visible(b)) {
+                            continue;
+                        }
+                        double similarity = index.similarity(a, b);
+                        if (similarity >= minSimilarity) {
+                            matched[0]++;
+                            union(parent, a, b);
+                            bestMatch.merge(a, similarity, Math::max);
+                            bestMatch.merge(b, similarity, Math::max);
+                        }
+                    }
+                }
+            });
+
+            Map<Integer, List<DuplicateCandidateDto>> byRoot = new HashMap<>();
+            bestMatch.forEach((id, similarity) -> byRoot.computeIfAbsent(find(parent, id), root -> new ArrayList<>())
+                    .add(people.get(id).toCandidate(id, similarity)));
+            List<DuplicateGroupDto> groups = byRoot.values().stream()
+                    .map(members -> {
+                        members.sort(Comparator.comparingDouble(DuplicateCandidateDto::getSimilarity).reversed()
+                                .thenComparing(DuplicateCandidateDto::getId));
+                        return new DuplicateGroupDto(members.get(0).getSimilarity(), members);
+                    })
+                    .sorted(Comparator.comparingDouble(DuplicateGroupDto::getMaxSimilarity).reversed()
+                            .thenComparing(group -> group.getEmployees().get(0).getId()))
+                    .toList();
+
+            long tookMillis = (System.nanoTime() - start) / 1_000_000;
+            log.info("Duplicate report: {} groups from {} compared pairs over {} employees in {} ms",
+                    groups.size(), compared.size(), index.size(), tookMillis);
+            return new DuplicateReportDto(index.size(), minSimilarity, compared.size(), matched[0], oversized[0],
+                    groups, tookMillis);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Apply a committed employee write, local or from another node, to the index
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            apply(index, people, event);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener({ApplicationReadyEvent.class, EmployeeCachesStaleEvent.class})
+    public void initialize() {
+        rebuild();
+    }
+
+    @Override
+    public void rebuild() {
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            MinHashLshIndex rebuilt = new MinHashLshIndex(bands, rows);
+            Map<Integer, Person> rebuiltPeople = new HashMap<>();
+            shardTemplate.forEachShard(shard -> readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<Object[]> identities = employeeRepository.streamActiveIdentityRows()) {
+                    identities.forEach(row -> {
+                        Integer id = (Integer) row[0];
+                        rebuilt.put(id, PersonTokens.of((String) row[1], (String) row[2], (String) row[3], (String) row[4]));
+                        rebuiltPeople.put(id, new Person((String) row[1] + " " + row[2], (String) row[3],
+                                (String) row[4], (String) row[5], (String) row[6]));
+                    });
+                }
+            }));
+
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild.forEach(event -> apply(rebuilt, rebuiltPeople, event));
+                index = rebuilt;
+                people = rebuiltPeople;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Duplicate index loaded: {} employees in {} buckets ({} bands x {} rows, candidate threshold ~{}) in {} ms",
+                    rebuilt.size(), rebuilt.bucketCount(), bands, rows,
+                    String.format("%.2f", rebuilt.collisionThreshold()), (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private int indexedCount() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean visible(int id) {
+        Person person = people.get(id);
+        return person != null && shardTemplate.isVisible(person.tenantId());
+    }
+
+    private static void apply(MinHashLshIndex target, Map<Integer, Person> targetPeople, EmployeeChangedEvent event) {
+        EmployeeDto after = event.getAfter();
+        if (after == null || !Boolean.TRUE.equals(after.getIsActive())) {
+            target.remove(event.getEmployeeId());
+            targetPeople.remove(event.getEmployeeId());
+            return;
+        }
+        target.put(after.getId(), PersonTokens.of(after.getFirstName(), after.getLastName(), after.getEmail(), after.getPhone()));
+        targetPeople.put(after.getId(), new Person(after.getFirstName() + " " + after.getLastName(), after.getEmail(),
+                after.getPhone(), after.getDepartment(), after.getTenantId()));
+    }
+
+    private static int find(Map<Integer, Integer> parent, int id) {
+        int root = id;
+        while (parent.getOrDefault(root, root) != root) {
+            root = parent.get(root);
+        }
+        // Path compression
+        while (id != root) {
+            int next = parent.getOrDefault(id, id);
+            parent.put(id, root);
+            id = next;
+        }
+        return root;
+    }
+
+    private static void union(Map<Integer, Integer> parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA != rootB) {
+            parent.put(Math.max(rootA, rootB), Math.min(rootA, rootB));
+        }
+    }
+
+    private record Person(String fullName, String email, String phone, String department, String tenantId) {
+
+        DuplicateCandidateDto toCandidate(int id, double similarity) {
+            return new DuplicateCandidateDto(id, fullName, email, phone, department, Math.round(similarity * 1000) / 1000.0);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.employee.management.service.impl;
+
+import com.employee.management.event.EmployeeCachesStaleEvent;
+import com.employee.management.event.EmployeeChangedEvent;
+import com.employee.management.repository.EmployeeRepository;
+import com.employee.management.sharding.ShardTemplate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Bloom filter of every stored email (normalized to lower case) in front of the uniqueness query
+ * A miss means the email is definitely new and the query is skipped; a possible hit falls back to
+ * the database. Emails are added before the write commits, so a rolled-back write can only cause a
+ * false positive, never a false "new". Changed emails are never removed; the periodic rebuild,
+ * or a resize once the filter is over capacity, clears them out.
+ * A rebuild reads the table, which misses writes that are still uncommitted when it starts reading;
+ * emails stay registered as in flight until their transaction completes, and the rebuild copies
+ * them into the new filter after publishing it for concurrent adds.
+ */
+@Component
+@Lazy(false)
+@Slf4j
+public class EmailExistenceFilter {
+
+    private final EmployeeRepository employeeRepository;
+    private final ShardTemplate shardTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final long minCapacity;
+    private final double falsePositiveProbability;
+    private final long rebuildIntervalNanos;
+
+    private final Counter definitelyNew;
+    private final Counter possibleHits;
+    private final Counter falsePositives;
+
+    private volatile BloomFilter filter;
+    // Filter being loaded by a rebuild; writes go to both so none are lost in the swap
+    private volatile BloomFilter building;
+    // Normalized email -> writes that added it and have not completed yet
+    private final Map<String, Integer> inFlight = new ConcurrentHashMap<>();
+    private volatile long lastRebuildNanos;
+
+    public EmailExistenceFilter(EmployeeRepository employeeRepository,
+                                ShardTemplate shardTemplate,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.employee.email-filter.enabled:true}") boolean enabled,
+                                @Value("${app.employee.email-filter.min-capacity:100000}") long minCapacity,
+                                @Value("${app.employee.email-filter.false-positive-probability:0.01}") double falsePositiveProbability,
+                                @Value("${app.employee.email-filter.rebuild-interval-ms:3600000}") long rebuildIntervalMillis) {
+        this.employeeRepository = employeeRepository;
+        this.shardTemplate = shardTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.minCapacity = minCapacity;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.rebuildIntervalNanos = TimeUnit.MILLISECONDS.toNanos(rebuildIntervalMillis);
+
+        this.definitelyNew = meterRegistry.counter("email_filter.checks", "result", "definitely_new");
+        this.possibleHits = meterRegistry.counter("email_filter.checks", "result", "possible_hit");
+        this.falsePositives = meterRegistry.counter("email_filter.false_positives");
+        Gauge.builder("email_filter.entries", this, self -> self.filter == null ? 0 : self.filter.insertions())
+                .register(meterRegistry);
+        Gauge.builder("email_filter.memory_bytes", this, self -> self.filter == null ? 0 : self.filter.memoryBytes())
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("email_filter.expected_fpp", this,
+                        self -> self.filter == null ? 0 : self.filter.expectedFalsePositiveProbability())
+                .description("False-positive probability implied by the filter's size and load")
+                .register(meterRegistry);
+        Gauge.builder("email_filter.observed_fpp", this, EmailExistenceFilter::observedFalsePositiveRate)
+                .description("False positives / checks of emails that were not stored")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Whether the email is stored, consulting the database only when the filter cannot rule it out
+     */
+    public boolean exists(String email, BooleanSupplier query) {
+        BloomFilter current = filter;
+        if (!enabled || current == null) {
+            return query.getAsBoolean();
+        }
+        if (!current.mightContain(normalize(email))) {
+            definitelyNew.increment();
+            return false;
+        }
+
+        possibleHits.increment();
+        boolean exists = query.getAsBoolean();
+        if (!exists) {
+            falsePositives.increment();
+        }
+        return exists;
+    }
+
+    /**
+     * Record an email that is about to be stored
+     * Inside a transaction it is also registered as in flight until the transaction completes;
+     * registering before reading {@code building} ensures a concurrent rebuild sees one or the other.
+     */
+    public void add(String email) {
+        String key = normalize(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            inFlight.merge(key, 1, Integer::sum);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    inFlight.computeIfPresent(key, (ignored, writes) -> writes > 1 ? writes - 1 : null);
+                }
+            });
+        }
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(key);
+        }
+        BloomFilter loading = building;
+        if (loading != null) {
+            loading.put(key);
+        }
+    }
+
+    /**
+     * Emails written by other nodes; local writes were already added before commit
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (event.isRemote() && event.getAfter() != null) {
+            add(event.getAfter().getEmail());
+        }
+    }
+
+    @EventListener({ApplicationReadyEvent.class, EmployeeCachesStaleEvent.class})
+    public void initialize() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Rebuild when the filter is over capacity or the rebuild interval has passed
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void maintain() {
+        BloomFilter current = filter;
+        if (!enabled || current == null) {
+            return;
+        }
+        if (current.insertions() > current.capacity()) {
+            log.info("Email filter over capacity ({} > {}), resizing", current.insertions(), current.capacity());
+            rebuild();
+        } else if (System.nanoTime() - lastRebuildNanos > rebuildIntervalNanos) {
+            rebuild();
+        }
+    }
+
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        // Covers every shard; uniqueness itself is checked against the tenant's shard
+        AtomicLong stored = new AtomicLong();
+        shardTemplate.forEachShard(shard -> stored.addAndGet(employeeRepository.count()));
+        // Leave room to double before the next resize
+        BloomFilter rebuilt = new BloomFilter(Math.max(minCapacity, stored.get() * 2), falsePositiveProbability);
+        building = rebuilt;
+        try {
+            // Writes that added before building was set but may commit after the read below
+            inFlight.keySet().forEach(rebuilt::put);
+            shardTemplate.forEachShard(shard -> readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<String> emails = employeeRepository.streamAllEmails()) {
+                    emails.forEach(email -> rebuilt.put(normalize(email)));
+                }
+            }));
+            filter = rebuilt;
+            lastRebuildNanos = System.nanoTime();
+            log.info("Email filter built: {} emails, {} KB, expected fpp {}", rebuilt.insertions(),
+                    rebuilt.memoryBytes() / 1024, String.format("%.4f", rebuilt.expectedFalsePositiveProbability()));
+        } finally {
+            building = null;
+        }
+        log.debug("Email filter rebuild took {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private double observedFalsePositiveRate() {
+        double negatives = definitelyNew.count() + falsePositives.count();
+        return negatives == 0 ? 0 : falsePositives.count() / negatives;
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
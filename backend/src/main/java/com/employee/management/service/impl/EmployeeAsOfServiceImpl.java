@@ -0,0 +1,131 @@
+package com.employee.management.service.impl;
+
+import com.employee.management.dto.EmployeeDto;
+import com.employee.management.entity.EmployeeVersion;
+import com.employee.management.repository.EmployeeVersionRepository;
+import com.employee.management.service.EmployeeAsOfService;
+import com.employee.management.sharding.ShardContext;
+import com.employee.management.sharding.ShardTemplate;
+import com.employee.management.throttling.ConcurrencyLimited;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of EmployeeAsOfService
+ * Native range queries bypass the Hibernate tenant filter, so versions are checked with
+ * ShardTemplate.isVisible; "all tenants" requests run on every shard like the current-state reads
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeAsOfServiceImpl implements EmployeeAsOfService {
+
+    private final EmployeeVersionRepository versionRepository;
+    private final ShardTemplate shardTemplate;
+    private final ScatterGatherPager scatterGatherPager;
+
+    @Value("${app.employee.batch.chunk-size:500}")
+    private int batchChunkSize;
+
+    @Override
+    @Transactional(readOnly = true)
+    @ConcurrencyLimited
+    public List<EmployeeDto> getAllEmployees(LocalDateTime asOf) {
+        log.debug("Fetching employees active as of {}", asOf);
+        return read(() -> versionRepository.findActiveAsOf(asOf));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @ConcurrencyLimited
+    public List<EmployeeDto> getEmployeesByDepartment(String department, LocalDateTime asOf) {
+        log.debug("Fetching employees in department {} as of {}", department, asOf);
+        return read(() -> versionRepository.findActiveByDepartmentAsOf(department, asOf));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @ConcurrencyLimited
+    public List<EmployeeDto> getEmployeesByIds(Collection<Integer> ids, LocalDateTime asOf) {
+        log.debug("Fetching {} employees by id as of {}", ids.size(), asOf);
+        return readInChunks(ids, chunk -> versionRepository.findActiveByEmployeeIdInAsOf(chunk, asOf));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @ConcurrencyLimited
+    public List<EmployeeDto> getEmployeesByManagers(Collection<Integer> managerIds, LocalDateTime asOf) {
+        log.debug("Fetching direct reports for {} managers as of {}", managerIds.size(), asOf);
+        return readInChunks(managerIds, chunk -> versionRepository.findActiveByManagerIdInAsOf(chunk, asOf));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @ConcurrencyLimited
+    public List<EmployeeDto> getTopLevelEmployees(LocalDateTime asOf) {
+        log.debug("Fetching top-level employees as of {}", asOf);
+        return read(() -> versionRepository.findActiveTopLevelAsOf(asOf));
+    }
+
+    private List<EmployeeDto> readInChunks(Collection<Integer> ids,
+                                           Function<List<Integer>, List<EmployeeVersion>> chunkQuery) {
+        List<Integer> uniqueIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        uniqueIds.remove(null);
+        if (uniqueIds.isEmpty()) {
+            return List.of();
+        }
+        return read(() -> {
+            List<EmployeeVersion> versions = new ArrayList<>();
+            for (int from = 0; from < uniqueIds.size(); from += batchChunkSize) {
+                versions.addAll(chunkQuery.apply(uniqueIds.subList(from, Math.min(from + batchChunkSize, uniqueIds.size()))));
+            }
+            return versions;
+        });
+    }
+
+    private List<EmployeeDto> read(Supplier<List<EmployeeVersion>> shardQuery) {
+        if (ShardContext.isScatterGather()) {
+            return scatterGatherPager.concat(() -> convert(shardQuery.get()));
+        }
+        return convert(shardQuery.get()).stream()
+                .filter(employee -> shardTemplate.isVisible(employee.getTenantId()))
+                .toList();
+    }
+
+    private static List<EmployeeDto> convert(List<EmployeeVersion> versions) {
+        return versions.stream()
+                .map(EmployeeAsOfServiceImpl::convertToDto)
+                .toList();
+    }
+
+    private static EmployeeDto convertToDto(EmployeeVersion version) {
+        EmployeeDto dto = new EmployeeDto();
+        dto.setId(version.getEmployeeId());
+        dto.setFirstName(version.getFirstName());
+        dto.setLastName(version.getLastName());
+        dto.setFullName(version.getFirstName() + " " + version.getLastName());
+        dto.setEmail(version.getEmail());
+        dto.setPhone(version.getPhone());
+        dto.setDepartment(version.getDepartment());
+        dto.setPosition(version.getPosition());
+        dto.setSalary(version.getSalary());
+        dto.setHireDate(version.getHireDate());
+        dto.setManagerId(version.getManagerId());
+        dto.setIsActive(version.getIsActive());
+        dto.setTenantId(version.getTenantId());
+        // The version's start: when the employee last changed before the instant
+        dto.setUpdatedAt(version.getValidFrom());
+        return dto;
+    }
+}
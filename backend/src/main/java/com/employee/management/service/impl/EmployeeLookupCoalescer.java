@@ -0,0 +1,169 @@
+package com.employee.management.service.impl;
+
+import com.employee.management.entity.Employee;
+import com.employee.management.repository.EmployeeRepository;
+import com.employee.management.sharding.ShardContext;
+import com.employee.management.web.ClientContext;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Coalesces concurrent single-ID lookups into one IN query
+ * A lookup arriving while no batch is running is dispatched at once, so an idle service adds no delay.
+ * Lookups arriving while a batch is running share the next round trip, DataLoader-style: it is sent
+ * when the running batch completes, or after the window at the latest. Lookups are batched per
+ * tenant and shard, and each batch runs under that ShardContext.
+ */
+@Component
+@Slf4j
+public class EmployeeLookupCoalescer {
+
+    private final EmployeeRepository employeeRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ScheduledExecutorService dispatcher;
+    private final boolean enabled;
+    private final long windowMicros;
+    private final int maxBatchSize;
+
+    private final Object lock = new Object();
+    private Map<ShardContext.Binding, Map<Integer, CompletableFuture<Optional<Employee>>>> pending = new HashMap<>();
+    private int pendingCount;
+    private int runningBatches;
+    private boolean flushScheduled;
+
+    public EmployeeLookupCoalescer(EmployeeRepository employeeRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${app.employee.lookup.coalesce.enabled:true}") boolean enabled,
+                                   @Value("${app.employee.lookup.coalesce.window-micros:200}") long windowMicros,
+                                   @Value("${app.employee.lookup.coalesce.max-batch-size:100}") int maxBatchSize,
+                                   @Value("${app.employee.lookup.coalesce.dispatcher-threads:2}") int dispatcherThreads) {
+        this.employeeRepository = employeeRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.windowMicros = windowMicros;
+        this.maxBatchSize = maxBatchSize;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.dispatcher = Executors.newScheduledThreadPool(dispatcherThreads, runnable -> {
+            Thread thread = new Thread(runnable, "employee-lookup-coalescer-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Find an employee by ID, sharing the query with other lookups in the same window
+     * Clients that must read their own writes bypass batching so the query runs on their routing context
+     */
+    public Optional<Employee> findById(Integer id) {
+        if (!enabled || ClientContext.isPrimaryReadRequired()) {
+            return readOnlyTransaction.execute(status -> employeeRepository.findAllWithManagerByIdIn(List.of(id)))
+                    .stream()
+                    .findFirst();
+        }
+        try {
+            return load(id).join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Queue an ID for the next batch; duplicate IDs in the same window share one future
+     */
+    public CompletableFuture<Optional<Employee>> load(Integer id) {
+        CompletableFuture<Optional<Employee>> future;
+        boolean flushNow = false;
+
+        synchronized (lock) {
+            Map<Integer, CompletableFuture<Optional<Employee>>> batch =
+                    pending.computeIfAbsent(ShardContext.current(), binding -> new HashMap<>());
+            future = batch.get(id);
+            if (future != null) {
+                return future;
+            }
+            future = new CompletableFuture<>();
+            batch.put(id, future);
+
+            if (++pendingCount >= maxBatchSize || runningBatches == 0) {
+                flushNow = true;
+            } else if (!flushScheduled) {
+                flushScheduled = true;
+                dispatcher.schedule(this::flush, windowMicros, TimeUnit.MICROSECONDS);
+            }
+        }
+
+        if (flushNow) {
+            dispatcher.execute(this::flush);
+        }
+        return future;
+    }
+
+    /**
+     * Resolve every pending lookup with a single IN query per tenant and shard, then send what
+     * queued up meanwhile
+     */
+    private void flush() {
+        while (true) {
+            Map<ShardContext.Binding, Map<Integer, CompletableFuture<Optional<Employee>>>> batches;
+            synchronized (lock) {
+                flushScheduled = false;
+                if (pending.isEmpty()) {
+                    return;
+                }
+                batches = pending;
+                pending = new HashMap<>();
+                pendingCount = 0;
+                runningBatches++;
+            }
+
+            try {
+                batches.forEach((binding, batch) -> ShardContext.runWith(binding, () -> resolve(batch)));
+            } finally {
+                synchronized (lock) {
+                    runningBatches--;
+                }
+            }
+        }
+    }
+
+    private void resolve(Map<Integer, CompletableFuture<Optional<Employee>>> batch) {
+        log.debug("Dispatching coalesced lookup for {} employee ids", batch.size());
+        try {
+            List<Employee> employees = readOnlyTransaction.execute(
+                    status -> employeeRepository.findAllWithManagerByIdIn(batch.keySet()));
+            Map<Integer, Employee> byId = employees.stream()
+                    .collect(Collectors.toMap(Employee::getId, Function.identity()));
+
+            batch.forEach((id, future) -> future.complete(Optional.ofNullable(byId.get(id))));
+        } catch (RuntimeException ex) {
+            log.error("Coalesced employee lookup failed for {} ids", batch.size(), ex);
+            batch.values().forEach(future -> future.completeExceptionally(ex));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdown();
+    }
+}
@@ -0,0 +1,356 @@
+package com.employee.management.service.impl;
+
+import com.employee.management.columnar.ColumnFilter;
+import com.employee.management.columnar.ColumnStoreSnapshotFile;
+import com.employee.management.columnar.EmployeeColumnStore;
+import com.employee.management.columnar.SortColumn;
+import com.employee.management.dto.EmployeeDto;
+import com.employee.management.dto.EmployeeQueryRequest;
+import com.employee.management.dto.EmployeeQueryResponse;
+import com.employee.management.event.EmployeeCachesStaleEvent;
+import com.employee.management.event.EmployeeChangedEvent;
+import com.employee.management.repository.EmployeeRepository;
+import com.employee.management.service.EmployeeQueryService;
+import com.employee.management.sharding.ShardTemplate;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of EmployeeQueryService
+ * Queries run against an EmployeeColumnStore kept current from committed writes; the database
+ * (every shard) is only read when the snapshot is rebuilt. The store holds every tenant, so
+ * tenant-scoped requests only match their own tenant's rows.
+ * With app.employee.query.snapshot.enabled the store is also persisted periodically and on shutdown;
+ * startup then loads the file and replays only rows updated after its high-water mark instead of
+ * reading the whole table.
+ */
+@Service
+@Lazy(false)
+@Slf4j
+public class EmployeeQueryServiceImpl implements EmployeeQueryService {
+
+    private final EmployeeRepository employeeRepository;
+    private final ShardTemplate shardTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int parallelThreshold;
+    private final int maxLimit;
+    private final boolean snapshotEnabled;
+    private final Path snapshotPath;
+    private final Duration replayOverlap;
+    private final Duration snapshotMaxAge;
+    private final Timer warmFromSnapshot;
+    private final Timer warmFromDatabase;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private EmployeeColumnStore store;
+    private boolean ready;
+    // Events committed while a rebuild is reading the database; replayed onto the rebuilt store
+    private List<EmployeeChangedEvent> pendingDuringRebuild;
+
+    public EmployeeQueryServiceImpl(EmployeeRepository employeeRepository,
+                                    ShardTemplate shardTemplate,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${app.employee.query.parallel-threshold:65536}") int parallelThreshold,
+                                    @Value("${app.employee.query.max-limit:1000}") int maxLimit,
+                                    @Value("${app.employee.query.snapshot.enabled:false}") boolean snapshotEnabled,
+                                    @Value("${app.employee.query.snapshot.path:data/employee-query.snapshot}") String snapshotPath,
+                                    @Value("${app.employee.query.snapshot.replay-overlap-ms:60000}") long replayOverlapMillis,
+                                    @Value("${app.employee.query.snapshot.max-age-ms:86400000}") long snapshotMaxAgeMillis) {
+        this.employeeRepository = employeeRepository;
+        this.shardTemplate = shardTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.parallelThreshold = parallelThreshold;
+        this.maxLimit = maxLimit;
+        this.snapshotEnabled = snapshotEnabled;
+        this.snapshotPath = Path.of(snapshotPath);
+        this.replayOverlap = Duration.ofMillis(replayOverlapMillis);
+        this.snapshotMaxAge = Duration.ofMillis(snapshotMaxAgeMillis);
+        this.store = new EmployeeColumnStore(parallelThreshold);
+        // Time from startup (or a stale-cache event) until queries can be served, by where the rows came from
+        this.warmFromSnapshot = meterRegistry.timer("employee_query.warmup", "source", "snapshot");
+        this.warmFromDatabase = meterRegistry.timer("employee_query.warmup", "source", "database");
+    }
+
+    @Override
+    public EmployeeQueryResponse query(EmployeeQueryRequest request) {
+        if (request.getOffset() < 0 || request.getLimit() < 1 || request.getLimit() > maxLimit) {
+            throw new IllegalArgumentException("offset must be >= 0 and limit between 1 and " + maxLimit);
+        }
+        SortColumn sortColumn = SortColumn.parse(request.getSortBy());
+        boolean descending = "DESC".equalsIgnoreCase(request.getSortDirection());
+        String tenantId = shardTemplate.visibleTenant();
+        ColumnFilter filter = new ColumnFilter(
+                tenantId,
+                request.getDepartments(),
+                request.getPositions(),
+                request.getManagerId(),
+                toCents(request.getMinSalary()),
+                toCents(request.getMaxSalary()),
+                toEpochDay(request.getHiredFrom()),
+                toEpochDay(request.getHiredTo()));
+
+        lock.readLock().lock();
+        try {
+            if (!ready) {
+                throw new IllegalStateException("Employee query snapshot is still loading");
+            }
+            long start = System.nanoTime();
+            int[] matches = store.filter(filter);
+            int[] page = store.sort(matches, sortColumn, descending, request.getOffset() + request.getLimit());
+            List<EmployeeDto> employees = Arrays.stream(page, Math.min(request.getOffset(), page.length), page.length)
+                    .mapToObj(store::toDto)
+                    .toList();
+            long tookMicros = (System.nanoTime() - start) / 1_000;
+
+            int snapshotRows = store.liveRows(tenantId);
+            log.debug("Snapshot query matched {} of {} rows in {} us", matches.length, snapshotRows, tookMicros);
+            return new EmployeeQueryResponse(employees, matches.length, request.getOffset(), request.getLimit(),
+                    snapshotRows, tookMicros);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Apply a committed employee write, local or from another node, to the snapshot
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            apply(store, event);
+            if (store.needsCompaction()) {
+                store.compact();
+            }
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!snapshotEnabled || !warmStart()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Missed events make the persisted high-water mark meaningless too, so this always reads the database
+     */
+    @EventListener(EmployeeCachesStaleEvent.class)
+    public void onCachesStale() {
+        rebuild();
+    }
+
+    @Override
+    public void rebuild() {
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            EmployeeColumnStore rebuilt = new EmployeeColumnStore(parallelThreshold);
+            shardTemplate.forEachShard(shard -> readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<Object[]> rows = employeeRepository.streamActiveSnapshotRows()) {
+                    rows.forEach(row -> rebuilt.upsert((Integer) row[0], (String) row[1], (String) row[2],
+                            (String) row[3], (String) row[4], (String) row[5], (BigDecimal) row[6],
+                            (LocalDate) row[7], (Integer) row[8], (String) row[9]));
+                }
+            }));
+
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild.forEach(event -> apply(rebuilt, event));
+                store = rebuilt;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            warmFromDatabase.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.info("Employee query snapshot loaded: {} rows in {} ms",
+                    rebuilt.liveRows(), (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Persist the store with each shard's current high-water mark
+     * The marks are read before the store is copied, so every row newer than them is replayed on load;
+     * writers wait on the read lock while the file is written.
+     */
+    @Scheduled(fixedDelayString = "${app.employee.query.snapshot.interval-ms:300000}",
+               initialDelayString = "${app.employee.query.snapshot.interval-ms:300000}")
+    @PreDestroy
+    public void saveSnapshot() {
+        if (!snapshotEnabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            Map<String, LocalDateTime> watermarks = new LinkedHashMap<>();
+            shardTemplate.forEachShard(shard -> watermarks.put(shard,
+                    readOnlyTransaction.execute(status -> employeeRepository.findMaxUpdatedAt())));
+
+            lock.readLock().lock();
+            try {
+                if (!ready) {
+                    return;
+                }
+                long bytes = ColumnStoreSnapshotFile.write(snapshotPath, store, watermarks);
+                log.info("Employee query snapshot saved to {}: {} rows, {} KB in {} ms", snapshotPath,
+                        store.liveRows(), bytes / 1024, (System.nanoTime() - start) / 1_000_000);
+            } finally {
+                lock.readLock().unlock();
+            }
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Could not save employee query snapshot to {}", snapshotPath, ex);
+        }
+    }
+
+    /**
+     * Load the persisted store and replay rows updated since it was written
+     * @return false if there is no usable snapshot and the caller should read the whole table
+     */
+    private boolean warmStart() {
+        long start = System.nanoTime();
+        if (!Files.exists(snapshotPath)) {
+            log.info("No employee query snapshot at {}, loading from the database", snapshotPath);
+            return false;
+        }
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            ColumnStoreSnapshotFile.Snapshot snapshot = ColumnStoreSnapshotFile.read(snapshotPath, parallelThreshold);
+            if (!snapshot.watermarks().keySet().equals(new HashSet<>(shardTemplate.shards()))) {
+                log.info("Employee query snapshot covers shards {}, not {}; loading from the database",
+                        snapshot.watermarks().keySet(), shardTemplate.shards());
+                return false;
+            }
+            if (snapshot.writtenAt().isBefore(Instant.now().minus(snapshotMaxAge))) {
+                log.info("Employee query snapshot from {} is too old; loading from the database", snapshot.writtenAt());
+                return false;
+            }
+
+            EmployeeColumnStore warmed = snapshot.store();
+            int loadedRows = warmed.liveRows();
+            long[] replayed = new long[1];
+            long[] activeInDatabase = new long[1];
+            shardTemplate.forEachShard(shard -> readOnlyTransaction.executeWithoutResult(status -> {
+                LocalDateTime watermark = snapshot.watermarks().get(shard);
+                // Timestamps are set before commit, so a row can commit after a newer one; replay a margin
+                LocalDateTime since = watermark == null ? LocalDateTime.of(1970, 1, 1, 0, 0)
+                        : watermark.minus(replayOverlap);
+                try (Stream<Object[]> rows = employeeRepository.streamSnapshotRowsUpdatedSince(since)) {
+                    rows.forEach(row -> {
+                        if (Boolean.TRUE.equals(row[10])) {
+                            warmed.upsert((Integer) row[0], (String) row[1], (String) row[2], (String) row[3],
+                                    (String) row[4], (String) row[5], (BigDecimal) row[6], (LocalDate) row[7],
+                                    (Integer) row[8], (String) row[9]);
+                        } else {
+                            warmed.remove((Integer) row[0]);
+                        }
+                        replayed[0]++;
+                    });
+                }
+                activeInDatabase[0] += employeeRepository.countByIsActiveTrue();
+            }));
+            // Rows deleted outright (archiving) leave nothing to replay; the count catches them
+            if (warmed.liveRows() != activeInDatabase[0]) {
+                log.warn("Employee query snapshot has {} rows after replay but the database has {} active; "
+                        + "loading from the database", warmed.liveRows(), activeInDatabase[0]);
+                return false;
+            }
+
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild.forEach(event -> apply(warmed, event));
+                store = warmed;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            warmFromSnapshot.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.info("Employee query snapshot restored from {} (written {}): {} rows loaded, {} replayed in {} ms",
+                    snapshotPath, snapshot.writtenAt(), loadedRows, replayed[0], (System.nanoTime() - start) / 1_000_000);
+            return true;
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Could not restore employee query snapshot from {}, loading from the database", snapshotPath, ex);
+            return false;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private static void apply(EmployeeColumnStore target, EmployeeChangedEvent event) {
+        EmployeeDto after = event.getAfter();
+        if (after == null || !Boolean.TRUE.equals(after.getIsActive())) {
+            target.remove(event.getEmployeeId());
+            return;
+        }
+        target.upsert(after.getId(), after.getFirstName(), after.getLastName(), after.getEmail(),
+                after.getDepartment(), after.getPosition(), after.getSalary(), after.getHireDate(),
+                after.getManagerId(), after.getTenantId());
+    }
+
+    private static Long toCents(BigDecimal amount) {
+        return amount == null ? null : amount.movePointRight(2).longValue();
+    }
+
+    private static Integer toEpochDay(LocalDate date) {
+        return date == null ? null : (int) date.toEpochDay();
+    }
+}
@@ -1,25 +1,52 @@
 package com.employee.management.service.impl;
 
+import com.employee.management.config.CacheConfig;
+import com.employee.management.dto.DuplicateCandidateDto;
+import com.employee.management.dto.EmployeeBatchResponse;
 import com.employee.management.dto.EmployeeDto;
+import com.employee.management.dto.EmployeeField;
+import com.employee.management.dto.EmployeeImportResult;
+import com.employee.management.dto.EmployeeImportRowResult;
 import com.employee.management.dto.EmployeeRequest;
 import com.employee.management.dto.EmployeeSearchRequest;
 import com.employee.management.entity.Employee;
+import com.employee.management.event.EmployeeChangedEvent;
 import com.employee.management.exception.ResourceNotFoundException;
 import com.employee.management.exception.DuplicateResourceException;
 import com.employee.management.repository.EmployeeRepository;
+import com.employee.management.service.DuplicateDetectionService;
 import com.employee.management.service.EmployeeService;
+import com.employee.management.sharding.ShardContext;
+import com.employee.management.sharding.ShardTemplate;
+import com.employee.management.throttling.ConcurrencyLimited;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -34,11 +61,38 @@ public class EmployeeServiceImpl implements EmployeeService {
 
     private final EmployeeRepository employeeRepository;
     private final ModelMapper modelMapper;
+    private final EmployeeLookupCoalescer lookupCoalescer;
+    private final EmailExistenceFilter emailExistenceFilter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ShardTemplate shardTemplate;
+    private final ScatterGatherPager scatterGatherPager;
+    private final PagePrefetcher pagePrefetcher;
+    private final DuplicateDetectionService duplicateDetectionService;
+    private final PlatformTransactionManager transactionManager;
+    private final Validator validator;
+
+    @Value("${app.employee.batch.chunk-size:500}")
+    private int batchChunkSize;
+
+    @Value("${app.employee.batch.max-ids:1000}")
+    private int batchMaxIds;
+
+    @Value("${app.employee.dedupe.on-create:warn}")
+    private String duplicateOnCreate;
+
+    @Value("${app.employee.import.max-rows:1000}")
+    private int importMaxRows;
 
     @Override
     @Transactional(readOnly = true)
+    @ConcurrencyLimited
     public List<EmployeeDto> getAllEmployees() {
         log.debug("Fetching all active employees");
+        if (ShardContext.isScatterGather()) {
+            return scatterGatherPager.concat(() -> employeeRepository.findByIsActiveTrue().stream()
+                    .map(this::convertToDto)
+                    .toList());
+        }
         List<Employee> employees = employeeRepository.findByIsActiveTrue();
         return employees.stream()
                 .map(this::convertToDto)
@@ -46,7 +100,9 @@ public class EmployeeServiceImpl implements EmployeeService {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    // The prefetcher opens its own read-only transaction, so a page served from it never holds a connection
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @ConcurrencyLimited
     public Page<EmployeeDto> getAllEmployees(int page, int size, String sortBy, String sortDirection) {
         log.debug("Fetching employees with pagination: page={}, size={}, sortBy={}, sortDirection={}", 
                   page, size, sortBy, sortDirection);
@@ -55,6 +111,17 @@ public class EmployeeServiceImpl implements EmployeeService {
                    ? Sort.by(sortBy).descending() 
                    : Sort.by(sortBy).ascending();
         
+        return pagePrefetcher.fetch(
+                PagePrefetcher.Key.of("paginated", null, null, null, sortBy, sortDirection, size),
+                page, pageNumber -> readActivePage(pageNumber, size, sort));
+    }
+
+    private Page<EmployeeDto> readActivePage(int page, int size, Sort sort) {
+        if (ShardContext.isScatterGather()) {
+            return scatterGatherPager.page(page, size, sort,
+                    window -> employeeRepository.findByIsActiveTrue(window).map(this::convertToDto));
+        }
+        
         Pageable pageable = PageRequest.of(page, size, sort);
         Page<Employee> employees = employeeRepository.findByIsActiveTrue(pageable);
         
@@ -63,9 +130,37 @@ public class EmployeeServiceImpl implements EmployeeService {
 
     @Override
     @Transactional(readOnly = true)
+    @ConcurrencyLimited
+    public List<Map<String, Object>> getAllEmployees(Set<EmployeeField> fields) {
+        log.debug("Fetching all active employees with fields: {}", fields);
+        rejectScatterGather();
+        return employeeRepository.findActiveProjected(fields, Pageable.unpaged())
+                .getContent();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @ConcurrencyLimited
+    public Page<Map<String, Object>> getAllEmployees(int page, int size, String sortBy, String sortDirection,
+                                                     Set<EmployeeField> fields) {
+        log.debug("Fetching employees with pagination: page={}, size={}, sortBy={}, sortDirection={}, fields={}", 
+                  page, size, sortBy, sortDirection, fields);
+        rejectScatterGather();
+        
+        Sort sort = sortDirection.equalsIgnoreCase("DESC") 
+                   ? Sort.by(sortBy).descending() 
+                   : Sort.by(sortBy).ascending();
+        
+        Pageable pageable = PageRequest.of(page, size, sort);
+        return employeeRepository.findActiveProjected(fields, pageable);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public EmployeeDto getEmployeeById(Integer id) {
         log.debug("Fetching employee with id: {}", id);
-        Employee employee = employeeRepository.findById(id)
+        // Lookup runs in the coalescer's own read-only transaction, batched with concurrent requests
+        Employee employee = lookupCoalescer.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
         
         if (!employee.getIsActive()) {
@@ -75,12 +170,139 @@ public class EmployeeServiceImpl implements EmployeeService {
         return convertToDto(employee);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    @ConcurrencyLimited
+    public EmployeeBatchResponse getEmployeesByIds(List<Integer> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("At least one employee id is required");
+        }
+        
+        List<Integer> uniqueIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        uniqueIds.remove(null);
+        if (uniqueIds.size() > batchMaxIds) {
+            throw new IllegalArgumentException("Cannot fetch more than " + batchMaxIds + " employees in one request");
+        }
+        log.debug("Fetching {} employees by id in chunks of {}", uniqueIds.size(), batchChunkSize);
+        
+        Map<Integer, Employee> byId = new HashMap<>();
+        for (int from = 0; from < uniqueIds.size(); from += batchChunkSize) {
+            List<Integer> chunk = uniqueIds.subList(from, Math.min(from + batchChunkSize, uniqueIds.size()));
+            employeeRepository.findAllWithManagerByIdIn(chunk)
+                    .forEach(employee -> byId.put(employee.getId(), employee));
+        }
+        
+        EmployeeBatchResponse response = new EmployeeBatchResponse();
+        for (Integer id : uniqueIds) {
+            Employee employee = byId.get(id);
+            if (employee == null) {
+                response.getMissingIds().add(id);
+            } else if (!employee.getIsActive()) {
+                response.getInactiveIds().add(id);
+            } else {
+                response.getEmployees().add(convertToDto(employee));
+            }
+        }
+        
+        return response;
+    }
+
     @Override
     public EmployeeDto createEmployee(EmployeeRequest request) {
+        checkProbableDuplicates(request);
+        return insertEmployee(request);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public EmployeeImportResult importEmployees(List<EmployeeRequest> requests, boolean skipDuplicates) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("At least one employee is required");
+        }
+        if (requests.size() > importMaxRows) {
+            throw new IllegalArgumentException("Cannot import more than " + importMaxRows + " employees in one request");
+        }
+        log.debug("Importing {} employees, skipDuplicates={}", requests.size(), skipDuplicates);
+
+        // One transaction per row: a bad row fails alone, and each committed row is in the duplicate
+        // index before the next row is checked, so repeats within the file are caught too
+        TransactionTemplate rowTransaction = new TransactionTemplate(transactionManager);
+        EmployeeImportResult result = new EmployeeImportResult();
+        for (int row = 0; row < requests.size(); row++) {
+            EmployeeImportRowResult rowResult = importRow(row, requests.get(row), skipDuplicates, rowTransaction);
+            switch (rowResult.getStatus()) {
+                case CREATED -> result.setCreated(result.getCreated() + 1);
+                case SKIPPED_DUPLICATE -> result.setSkippedDuplicates(result.getSkippedDuplicates() + 1);
+                case FAILED -> result.setFailed(result.getFailed() + 1);
+            }
+            result.getRows().add(rowResult);
+        }
+
+        log.info("Imported {} employees: {} created, {} skipped as duplicates, {} failed", requests.size(),
+                result.getCreated(), result.getSkippedDuplicates(), result.getFailed());
+        return result;
+    }
+
+    private EmployeeImportRowResult importRow(int row, EmployeeRequest request, boolean skipDuplicates,
+                                              TransactionTemplate rowTransaction) {
+        if (request == null) {
+            return new EmployeeImportRowResult(row, EmployeeImportRowResult.Status.FAILED, null, "Row is empty", null);
+        }
+        Set<ConstraintViolation<EmployeeRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+            return new EmployeeImportRowResult(row, EmployeeImportRowResult.Status.FAILED, null, message, null);
+        }
+
+        if (skipDuplicates) {
+            List<DuplicateCandidateDto> candidates = duplicateDetectionService.findCandidates(request);
+            if (!candidates.isEmpty()) {
+                return new EmployeeImportRowResult(row, EmployeeImportRowResult.Status.SKIPPED_DUPLICATE, null,
+                        "Probably the same person as an existing employee", candidates);
+            }
+        }
+
+        try {
+            EmployeeDto created = rowTransaction.execute(status -> insertEmployee(request));
+            return new EmployeeImportRowResult(row, EmployeeImportRowResult.Status.CREATED, created.getId(), null, null);
+        } catch (DuplicateResourceException | ResourceNotFoundException | IllegalArgumentException ex) {
+            return new EmployeeImportRowResult(row, EmployeeImportRowResult.Status.FAILED, null, ex.getMessage(), null);
+        } catch (DataIntegrityViolationException ex) {
+            log.debug("Import row {} violated a constraint", row, ex);
+            return new EmployeeImportRowResult(row, EmployeeImportRowResult.Status.FAILED, null,
+                    "Row violates a database constraint", null);
+        }
+    }
+
+    /**
+     * Near-duplicate check per app.employee.dedupe.on-create: off, warn (log only) or reject
+     */
+    private void checkProbableDuplicates(EmployeeRequest request) {
+        if ("off".equalsIgnoreCase(duplicateOnCreate)) {
+            return;
+        }
+        List<DuplicateCandidateDto> candidates = duplicateDetectionService.findCandidates(request);
+        if (candidates.isEmpty()) {
+            return;
+        }
+        String ids = candidates.stream()
+                .map(candidate -> String.valueOf(candidate.getId()))
+                .collect(Collectors.joining(", "));
+        if ("reject".equalsIgnoreCase(duplicateOnCreate)) {
+            throw new DuplicateResourceException("Employee " + request.getFirstName() + " " + request.getLastName()
+                    + " looks like existing employee(s) " + ids);
+        }
+        log.warn("New employee {} {} looks like existing employee(s) {}", request.getFirstName(), request.getLastName(), ids);
+    }
+
+    private EmployeeDto insertEmployee(EmployeeRequest request) {
         log.debug("Creating new employee with email: {}", request.getEmail());
         
         // Check if email already exists
-        if (employeeRepository.existsByEmailIgnoreCase(request.getEmail())) {
+        if (existsByEmail(request.getEmail())) {
             throw new DuplicateResourceException("Employee with email " + request.getEmail() + " already exists");
         }
         
@@ -90,6 +312,8 @@ public class EmployeeServiceImpl implements EmployeeService {
         }
         
         Employee employee = convertToEntity(request);
+        employee.setTenantId(shardTemplate.currentTenant());
+        emailExistenceFilter.add(employee.getEmail());
         
         // Set hire date if not provided
         if (employee.getHireDate() == null) {
@@ -99,14 +323,16 @@ public class EmployeeServiceImpl implements EmployeeService {
         Employee savedEmployee = employeeRepository.save(employee);
         log.info("Employee created successfully with id: {}", savedEmployee.getId());
         
-        return convertToDto(savedEmployee);
+        EmployeeDto created = convertToDto(savedEmployee);
+        eventPublisher.publishEvent(new EmployeeChangedEvent(EmployeeChangedEvent.Type.CREATED, null, created));
+        return created;
     }
 
     @Override
     public EmployeeDto updateEmployee(Integer id, EmployeeRequest request) {
         log.debug("Updating employee with id: {}", id);
         
-        Employee existingEmployee = employeeRepository.findById(id)
+        Employee existingEmployee = findVisibleEmployee(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
         
         if (!existingEmployee.getIsActive()) {
@@ -115,7 +341,7 @@ public class EmployeeServiceImpl implements EmployeeService {
         
         // Check if email is being changed and if new email already exists
         if (!existingEmployee.getEmail().equalsIgnoreCase(request.getEmail())) {
-            if (employeeRepository.existsByEmailIgnoreCaseAndIdNot(request.getEmail(), id)) {
+            if (existsByEmailAndIdNot(request.getEmail(), id)) {
                 throw new DuplicateResourceException("Employee with email " + request.getEmail() + " already exists");
             }
         }
@@ -125,34 +351,44 @@ public class EmployeeServiceImpl implements EmployeeService {
             validateManagerExists(request.getManagerId());
         }
         
+        EmployeeDto before = convertToDto(existingEmployee);
+        
         // Update employee fields
         updateEmployeeFields(existingEmployee, request);
+        emailExistenceFilter.add(existingEmployee.getEmail());
         
         Employee updatedEmployee = employeeRepository.save(existingEmployee);
         log.info("Employee updated successfully with id: {}", updatedEmployee.getId());
         
-        return convertToDto(updatedEmployee);
+        EmployeeDto updated = convertToDto(updatedEmployee);
+        eventPublisher.publishEvent(new EmployeeChangedEvent(EmployeeChangedEvent.Type.UPDATED, before, updated));
+        return updated;
     }
 
     @Override
     public void deleteEmployee(Integer id) {
         log.debug("Soft deleting employee with id: {}", id);
         
-        Employee employee = employeeRepository.findById(id)
+        Employee employee = findVisibleEmployee(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
         
         if (!employee.getIsActive()) {
             throw new ResourceNotFoundException("Employee with id " + id + " is already inactive");
         }
         
+        EmployeeDto before = convertToDto(employee);
+        
         employee.setIsActive(false);
-        employeeRepository.save(employee);
+        Employee deletedEmployee = employeeRepository.save(employee);
         
         log.info("Employee soft deleted successfully with id: {}", id);
+        eventPublisher.publishEvent(new EmployeeChangedEvent(
+                EmployeeChangedEvent.Type.DELETED, before, convertToDto(deletedEmployee)));
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @ConcurrencyLimited
     public Page<EmployeeDto> searchEmployees(EmployeeSearchRequest searchRequest) {
         log.debug("Searching employees with criteria: {}", searchRequest);
         
@@ -160,7 +396,25 @@ public class EmployeeServiceImpl implements EmployeeService {
                    ? Sort.by(searchRequest.getSortBy()).descending() 
                    : Sort.by(searchRequest.getSortBy()).ascending();
         
-        Pageable pageable = PageRequest.of(searchRequest.getPage(), searchRequest.getSize(), sort);
+        PagePrefetcher.Key key = PagePrefetcher.Key.of("search", searchRequest.getSearchTerm(),
+                searchRequest.getDepartment(), searchRequest.getPosition(),
+                searchRequest.getSortBy(), searchRequest.getSortDirection(), searchRequest.getSize());
+        return pagePrefetcher.fetch(key, searchRequest.getPage(),
+                pageNumber -> readSearchPage(searchRequest, pageNumber, sort));
+    }
+
+    private Page<EmployeeDto> readSearchPage(EmployeeSearchRequest searchRequest, int page, Sort sort) {
+        if (ShardContext.isScatterGather()) {
+            return scatterGatherPager.page(page, searchRequest.getSize(), EmployeeRepository.SEARCH_ORDER, sort,
+                    window -> employeeRepository.searchEmployees(
+                            searchRequest.getSearchTerm(),
+                            searchRequest.getDepartment(),
+                            searchRequest.getPosition(),
+                            window
+                    ).map(this::convertToDto));
+        }
+        
+        Pageable pageable = PageRequest.of(page, searchRequest.getSize(), sort);
         
         Page<Employee> employees = employeeRepository.searchEmployees(
                 searchRequest.getSearchTerm(),
@@ -174,6 +428,7 @@ public class EmployeeServiceImpl implements EmployeeService {
 
     @Override
     @Transactional(readOnly = true)
+    @ConcurrencyLimited
     public List<EmployeeDto> getEmployeesByDepartment(String department) {
         log.debug("Fetching employees by department: {}", department);
         List<Employee> employees = employeeRepository.findByDepartmentIgnoreCaseAndIsActiveTrue(department);
@@ -182,6 +437,37 @@ public class EmployeeServiceImpl implements EmployeeService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    @ConcurrencyLimited
+    public Page<Map<String, Object>> searchEmployees(EmployeeSearchRequest searchRequest, Set<EmployeeField> fields) {
+        log.debug("Searching employees with criteria: {}, fields: {}", searchRequest, fields);
+        rejectScatterGather();
+        
+        Sort sort = searchRequest.getSortDirection().equalsIgnoreCase("DESC") 
+                   ? Sort.by(searchRequest.getSortBy()).descending() 
+                   : Sort.by(searchRequest.getSortBy()).ascending();
+        
+        Pageable pageable = PageRequest.of(searchRequest.getPage(), searchRequest.getSize(), sort);
+        
+        return employeeRepository.searchProjected(
+                fields,
+                searchRequest.getSearchTerm(),
+                searchRequest.getDepartment(),
+                searchRequest.getPosition(),
+                pageable
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @ConcurrencyLimited
+    public List<Map<String, Object>> getEmployeesByDepartment(String department, Set<EmployeeField> fields) {
+        log.debug("Fetching employees by department: {}, fields: {}", department, fields);
+        return employeeRepository.searchProjected(fields, null, department, null, Pageable.unpaged())
+                .getContent();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<EmployeeDto> getEmployeesByPosition(String position) {
@@ -208,6 +494,32 @@ public class EmployeeServiceImpl implements EmployeeService {
 
     @Override
     @Transactional(readOnly = true)
+    public List<EmployeeDto> getEmployeesByManagers(Collection<Integer> managerIds) {
+        log.debug("Fetching direct reports for {} managers", managerIds.size());
+        
+        List<Integer> ids = new ArrayList<>(managerIds);
+        List<EmployeeDto> reports = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += batchChunkSize) {
+            List<Integer> chunk = ids.subList(from, Math.min(from + batchChunkSize, ids.size()));
+            employeeRepository.findActiveByManagerIdIn(chunk).stream()
+                    .map(this::convertToDto)
+                    .forEach(reports::add);
+        }
+        return reports;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmployeeDto> getTopLevelEmployees() {
+        log.debug("Fetching top-level employees");
+        return employeeRepository.findByManagerIdIsNullAndIsActiveTrue().stream()
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.DEPARTMENTS_CACHE, key = CacheConfig.TENANT_KEY)
     public List<String> getAllDepartments() {
         log.debug("Fetching all departments");
         return employeeRepository.findAllDistinctDepartments();
@@ -215,6 +527,7 @@ public class EmployeeServiceImpl implements EmployeeService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.POSITIONS_CACHE, key = CacheConfig.TENANT_KEY)
     public List<String> getAllPositions() {
         log.debug("Fetching all positions");
         return employeeRepository.findAllDistinctPositions();
@@ -223,13 +536,13 @@ public class EmployeeServiceImpl implements EmployeeService {
     @Override
     @Transactional(readOnly = true)
     public boolean existsByEmail(String email) {
-        return employeeRepository.existsByEmailIgnoreCase(email);
+        return emailExistenceFilter.exists(email, () -> employeeRepository.existsByEmailIgnoreCase(email));
     }
 
     @Override
     @Transactional(readOnly = true)
     public boolean existsByEmailAndIdNot(String email, Integer id) {
-        return employeeRepository.existsByEmailIgnoreCaseAndIdNot(email, id);
+        return emailExistenceFilter.exists(email, () -> employeeRepository.existsByEmailIgnoreCaseAndIdNot(email, id));
     }
 
     /**
@@ -250,6 +563,7 @@ public class EmployeeServiceImpl implements EmployeeService {
         dto.setSalary(employee.getSalary());
         dto.setHireDate(employee.getHireDate());
         dto.setIsActive(employee.getIsActive());
+        dto.setTenantId(employee.getTenantId());
         dto.setCreatedAt(employee.getCreatedAt());
         dto.setUpdatedAt(employee.getUpdatedAt());
         
@@ -262,6 +576,24 @@ public class EmployeeServiceImpl implements EmployeeService {
         return dto;
     }
 
+    /**
+     * Find an employee by ID within the current tenant
+     * Primary-key lookups are not covered by the tenant query filter, so the tenant is checked here
+     */
+    private Optional<Employee> findVisibleEmployee(Integer id) {
+        return employeeRepository.findById(id)
+                .filter(employee -> shardTemplate.isVisible(employee.getTenantId()));
+    }
+
+    /**
+     * Sparse fieldsets are not merged across shards
+     */
+    private void rejectScatterGather() {
+        if (ShardContext.isScatterGather()) {
+            throw new IllegalArgumentException("Field selection is not supported for all-tenant requests");
+        }
+    }
+
     /**
      * Convert EmployeeRequest to Employee entity
      */
@@ -295,7 +627,7 @@ public class EmployeeServiceImpl implements EmployeeService {
      * Validate that manager exists and is active
      */
     private void validateManagerExists(Integer managerId) {
-        Employee manager = employeeRepository.findById(managerId)
+        Employee manager = findVisibleEmployee(managerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Manager not found with id: " + managerId));
         
         if (!manager.getIsActive()) {
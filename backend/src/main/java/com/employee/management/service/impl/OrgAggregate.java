@@ -0,0 +1,115 @@
+package com.employee.management.service.impl;
+
+import com.employee.management.dto.OrgStatsDto;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Incrementally maintained statistics for one department or manager
+ * Salaries are kept as long cents and hire dates as a per-year histogram, so add/remove
+ * never allocate BigDecimals; those are only built when a snapshot is read.
+ * Not thread-safe: AnalyticsServiceImpl guards all access with its lock.
+ */
+class OrgAggregate {
+
+    private static final int BASE_YEAR = 1950;
+    private static final int YEAR_SPAN = 151;
+    private static final int[] TENURE_BOUNDS = {1, 3, 5, 10};
+    private static final String[] TENURE_LABELS = {"<1y", "1-3y", "3-5y", "5-10y", "10y+"};
+
+    private final String group;
+    private int headcount;
+    private int salaryCount;
+    private long salarySumCents;
+    // salary cents -> number of employees, for min/max that survive removals
+    private final TreeMap<Long, Integer> salaryCounts = new TreeMap<>();
+    private final int[] hireYearCounts = new int[YEAR_SPAN];
+
+    OrgAggregate(String group) {
+        this.group = group;
+    }
+
+    void add(Long salaryCents, int hireYear) {
+        headcount++;
+        hireYearCounts[yearIndex(hireYear)]++;
+        if (salaryCents != null) {
+            salaryCount++;
+            salarySumCents += salaryCents;
+            salaryCounts.merge(salaryCents, 1, Integer::sum);
+        }
+    }
+
+    void remove(Long salaryCents, int hireYear) {
+        headcount--;
+        hireYearCounts[yearIndex(hireYear)]--;
+        if (salaryCents != null) {
+            salaryCount--;
+            salarySumCents -= salaryCents;
+            salaryCounts.computeIfPresent(salaryCents, (cents, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    /**
+     * Fold another aggregate's counts into this one, e.g. partial results from parallel report partitions
+     */
+    void merge(OrgAggregate other) {
+        headcount += other.headcount;
+        salaryCount += other.salaryCount;
+        salarySumCents += other.salarySumCents;
+        other.salaryCounts.forEach((cents, count) -> salaryCounts.merge(cents, count, Integer::sum));
+        for (int i = 0; i < YEAR_SPAN; i++) {
+            hireYearCounts[i] += other.hireYearCounts[i];
+        }
+    }
+
+    String group() {
+        return group;
+    }
+
+    boolean isEmpty() {
+        return headcount <= 0;
+    }
+
+    OrgStatsDto snapshot(int currentYear) {
+        Map<String, Integer> tenure = new LinkedHashMap<>();
+        int[] buckets = new int[TENURE_LABELS.length];
+        for (int i = 0; i < YEAR_SPAN; i++) {
+            if (hireYearCounts[i] != 0) {
+                buckets[tenureBucket(currentYear - (BASE_YEAR + i))] += hireYearCounts[i];
+            }
+        }
+        for (int i = 0; i < TENURE_LABELS.length; i++) {
+            tenure.put(TENURE_LABELS[i], buckets[i]);
+        }
+
+        OrgStatsDto stats = new OrgStatsDto();
+        stats.setGroup(group);
+        stats.setHeadcount(headcount);
+        stats.setTenureDistribution(tenure);
+        if (salaryCount > 0) {
+            stats.setSalaryTotal(BigDecimal.valueOf(salarySumCents, 2));
+            stats.setSalaryAverage(BigDecimal.valueOf(salarySumCents, 2)
+                    .divide(BigDecimal.valueOf(salaryCount), 2, RoundingMode.HALF_UP));
+            stats.setSalaryMin(BigDecimal.valueOf(salaryCounts.firstKey(), 2));
+            stats.setSalaryMax(BigDecimal.valueOf(salaryCounts.lastKey(), 2));
+        }
+        return stats;
+    }
+
+    private static int yearIndex(int year) {
+        return Math.max(0, Math.min(YEAR_SPAN - 1, year - BASE_YEAR));
+    }
+
+    private static int tenureBucket(int years) {
+        for (int i = 0; i < TENURE_BOUNDS.length; i++) {
+            if (years < TENURE_BOUNDS[i]) {
+                return i;
+            }
+        }
+        return TENURE_BOUNDS.length;
+    }
+}
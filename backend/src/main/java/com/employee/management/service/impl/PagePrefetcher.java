@@ -0,0 +1,262 @@
+package com.employee.management.service.impl;
+
+import com.employee.management.dto.EmployeeDto;
+import com.employee.management.event.EmployeeCachesStaleEvent;
+import com.employee.management.event.EmployeeChangedEvent;
+import com.employee.management.sharding.ShardContext;
+import com.employee.management.web.ClientContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+/**
+ * Speculatively loads page N+1 of a paginated or search query after page N is served
+ * Prefetched pages live in a small cache keyed by the normalized query, bounded in queries and in
+ * pages per query, and expire after a short TTL. Every committed employee write (local or remote)
+ * bumps a generation counter; a page loaded under an older generation is never served, so a
+ * prefetch racing a write is simply discarded. Clients that must read their own writes bypass it.
+ */
+@Component
+@Slf4j
+public class PagePrefetcher {
+
+    private final TransactionTemplate readOnlyTransaction;
+    private final ThreadPoolExecutor workers;
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final int maxQueries;
+    private final int maxPagesPerQuery;
+
+    private final AtomicLong generation = new AtomicLong();
+    // Access-ordered, so the least recently browsed query is evicted first
+    private final LinkedHashMap<Key, Map<Integer, Entry>> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final Counter hits;
+    private final Counter inFlightHits;
+    private final Counter misses;
+    private final Counter staleDiscards;
+    private final Counter prefetchesDropped;
+    private final Counter prefetchesFailed;
+
+    public PagePrefetcher(PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.employee.prefetch.enabled:false}") boolean enabled,
+                          @Value("${app.employee.prefetch.ttl-ms:15000}") long ttlMillis,
+                          @Value("${app.employee.prefetch.max-queries:500}") int maxQueries,
+                          @Value("${app.employee.prefetch.max-pages-per-query:2}") int maxPagesPerQuery,
+                          @Value("${app.employee.prefetch.threads:2}") int threads,
+                          @Value("${app.employee.prefetch.queue-capacity:100}") int queueCapacity) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.maxQueries = maxQueries;
+        this.maxPagesPerQuery = maxPagesPerQuery;
+        AtomicInteger threadCount = new AtomicInteger();
+        // A full queue drops the prefetch rather than delaying or failing the request that triggered it
+        this.workers = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "page-prefetch-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+
+        this.hits = meterRegistry.counter("page_prefetch.requests", "result", "hit");
+        this.inFlightHits = meterRegistry.counter("page_prefetch.requests", "result", "in_flight");
+        this.misses = meterRegistry.counter("page_prefetch.requests", "result", "miss");
+        this.staleDiscards = meterRegistry.counter("page_prefetch.requests", "result", "stale");
+        this.prefetchesDropped = meterRegistry.counter("page_prefetch.loads", "outcome", "dropped");
+        this.prefetchesFailed = meterRegistry.counter("page_prefetch.loads", "outcome", "failed");
+        Gauge.builder("page_prefetch.hit_ratio", this, PagePrefetcher::hitRatio)
+                .description("Requests served from a prefetched page / all prefetch-eligible requests")
+                .register(meterRegistry);
+        Gauge.builder("page_prefetch.cached_queries", this, PagePrefetcher::cachedQueries)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Cache key for a query, with filters normalized the way the repository compares them (case-insensitively)
+     */
+    public record Key(ShardContext.Binding binding, String kind, String searchTerm, String department, String position,
+                      String sortBy, String sortDirection, int size) {
+
+        public static Key of(String kind, String searchTerm, String department, String position,
+                             String sortBy, String sortDirection, int size) {
+            return new Key(ShardContext.current(), kind, lower(searchTerm), lower(department), lower(position),
+                    sortBy, "DESC".equalsIgnoreCase(sortDirection) ? "DESC" : "ASC", size);
+        }
+
+        private static String lower(String value) {
+            return value == null ? null : value.toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private record Entry(CompletableFuture<Page<EmployeeDto>> page, long generation, long loadedAtNanos) {
+    }
+
+    /**
+     * Serve a page, from a prefetch when one is ready, and start loading the next page
+     * The loader runs in a read-only transaction on the calling thread or a prefetch worker.
+     */
+    public Page<EmployeeDto> fetch(Key key, int page, IntFunction<Page<EmployeeDto>> loader) {
+        if (!enabled || ClientContext.isPrimaryReadRequired()) {
+            return load(loader, page);
+        }
+
+        long currentGeneration = generation.get();
+        Page<EmployeeDto> result = take(key, page, currentGeneration);
+        if (result == null) {
+            result = load(loader, page);
+        }
+        if (result.hasNext()) {
+            prefetch(key, page + 1, loader, currentGeneration);
+        }
+        return result;
+    }
+
+    /**
+     * Any committed write may change page contents or boundaries, so every cached page becomes stale
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        invalidate();
+    }
+
+    @EventListener(EmployeeCachesStaleEvent.class)
+    public void invalidate() {
+        generation.incrementAndGet();
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * A usable prefetched page, or null; counts each request as exactly one of hit, in_flight, stale or miss
+     */
+    private Page<EmployeeDto> take(Key key, int page, long currentGeneration) {
+        Entry entry;
+        synchronized (cache) {
+            Map<Integer, Entry> pages = cache.get(key);
+            entry = pages == null ? null : pages.get(page);
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.generation() != currentGeneration || System.nanoTime() - entry.loadedAtNanos() > ttlNanos) {
+            staleDiscards.increment();
+            return null;
+        }
+
+        boolean ready = entry.page().isDone();
+        try {
+            Page<EmployeeDto> result = entry.page().join();
+            (ready ? hits : inFlightHits).increment();
+            return result;
+        } catch (CompletionException ex) {
+            // The prefetch was counted as failed; the caller falls back to a normal load
+            misses.increment();
+            return null;
+        }
+    }
+
+    private void prefetch(Key key, int page, IntFunction<Page<EmployeeDto>> loader, long loadGeneration) {
+        CompletableFuture<Page<EmployeeDto>> future = new CompletableFuture<>();
+        synchronized (cache) {
+            Map<Integer, Entry> pages = cache.computeIfAbsent(key, k -> new HashMap<>());
+            Entry existing = pages.get(page);
+            if (existing != null && existing.generation() == loadGeneration
+                    && System.nanoTime() - existing.loadedAtNanos() <= ttlNanos) {
+                return;
+            }
+            pages.put(page, new Entry(future, loadGeneration, System.nanoTime()));
+            trim(pages, page);
+        }
+
+        ShardContext.Binding binding = key.binding();
+        try {
+            workers.execute(() -> {
+                try {
+                    future.complete(ShardContext.callWith(binding, () -> load(loader, page)));
+                } catch (RuntimeException ex) {
+                    prefetchesFailed.increment();
+                    log.debug("Prefetch of page {} failed", page, ex);
+                    future.completeExceptionally(ex);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            prefetchesDropped.increment();
+            future.completeExceptionally(ex);
+            synchronized (cache) {
+                Map<Integer, Entry> pages = cache.get(key);
+                if (pages != null) {
+                    pages.remove(page);
+                }
+            }
+        }
+    }
+
+    /**
+     * Keep the newest pages of one query and the most recently browsed queries
+     */
+    private void trim(Map<Integer, Entry> pages, int newestPage) {
+        while (pages.size() > maxPagesPerQuery) {
+            // Browsing moves forward, so the page furthest from the newest one is least likely to be asked for
+            Integer furthest = pages.keySet().stream()
+                    .max(Comparator.comparingInt(cachedPage -> Math.abs(cachedPage - newestPage)))
+                    .orElseThrow();
+            pages.remove(furthest);
+        }
+        Iterator<Map<Integer, Entry>> eldest = cache.values().iterator();
+        while (cache.size() > maxQueries && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    private Page<EmployeeDto> load(IntFunction<Page<EmployeeDto>> loader, int page) {
+        return readOnlyTransaction.execute(status -> loader.apply(page));
+    }
+
+    private double hitRatio() {
+        double served = hits.count() + inFlightHits.count();
+        double total = served + misses.count() + staleDiscards.count();
+        return total == 0 ? 0 : served / total;
+    }
+
+    private int cachedQueries() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package com.employee.management.service.impl;
+
+import com.employee.management.dto.OrgStatsDto;
+import com.employee.management.dto.ReportPartitioning;
+import com.employee.management.repository.EmployeeRepository;
+import com.employee.management.service.ReportService;
+import com.employee.management.sharding.ShardContext;
+import com.employee.management.sharding.ShardTemplate;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Implementation of ReportService
+ * Each partition is read on a worker (holding one of a bounded number of connection permits),
+ * formatted to CSV after its connection is released, and appended to the zip in partition order.
+ * A partition's lane is only freed once its bytes are written, so at most {@code parallelism}
+ * formatted partitions are held in memory. When sharded, every shard is partitioned separately and
+ * its rosters are written under rosters/<shard>/. Partitions are read under the caller's binding,
+ * so a tenant-scoped request only reports its own tenant's rows, from its own shard.
+ */
+@Service
+@Slf4j
+public class ReportServiceImpl implements ReportService {
+
+    private static final String ROSTER_HEADER = "id,first_name,last_name,email,department,position,salary,hire_date,manager_id\n";
+
+    private final EmployeeRepository employeeRepository;
+    private final ShardTemplate shardTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService workers;
+    private final Semaphore connectionPermits;
+    private final int maxParallelism;
+    private final int idRangeSize;
+
+    public ReportServiceImpl(EmployeeRepository employeeRepository,
+                             ShardTemplate shardTemplate,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${app.report.max-parallelism:16}") int maxParallelism,
+                             @Value("${app.report.max-connections:8}") int maxConnections,
+                             @Value("${app.report.id-range-size:50000}") int idRangeSize) {
+        this.employeeRepository = employeeRepository;
+        this.shardTemplate = shardTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.maxParallelism = maxParallelism;
+        this.idRangeSize = idRangeSize;
+        this.connectionPermits = new Semaphore(maxConnections);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(maxParallelism, runnable -> {
+            Thread thread = new Thread(runnable, "report-worker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void writeMonthlyArchive(ReportPartitioning partitioning, int parallelism, OutputStream out) throws IOException {
+        if (parallelism < 1 || parallelism > maxParallelism) {
+            throw new IllegalArgumentException("parallelism must be between 1 and " + maxParallelism);
+        }
+        long start = System.nanoTime();
+        List<Partition> partitions = planPartitions(partitioning);
+        log.info("Generating monthly report: {} {} partitions, parallelism {}", partitions.size(), partitioning, parallelism);
+
+        Semaphore lanes = new Semaphore(parallelism);
+        Deque<CompletableFuture<PartitionResult>> inFlight = new ArrayDeque<>();
+        Map<String, OrgAggregate> salaryByDepartment = new TreeMap<>();
+        int rows = 0;
+
+        ZipOutputStream zip = new ZipOutputStream(out);
+        for (Partition partition : partitions) {
+            // Writing the oldest result is what frees a lane, so drain in order until one is available
+            while (!lanes.tryAcquire()) {
+                rows += writeRoster(zip, join(inFlight.removeFirst()), salaryByDepartment);
+                lanes.release();
+            }
+            inFlight.addLast(CompletableFuture.supplyAsync(() -> render(partition), workers));
+        }
+        while (!inFlight.isEmpty()) {
+            rows += writeRoster(zip, join(inFlight.removeFirst()), salaryByDepartment);
+        }
+
+        writeSalaryReport(zip, salaryByDepartment);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        writeManifest(zip, partitioning, parallelism, partitions.size(), rows, elapsedMillis);
+        zip.finish();
+        log.info("Monthly report generated: {} rows in {} partitions, {} ms", rows, partitions.size(), elapsedMillis);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    private List<Partition> planPartitions(ReportPartitioning partitioning) {
+        String tenantId = shardTemplate.visibleTenant();
+        List<ShardContext.Binding> bindings = tenantId != null
+                ? List.of(new ShardContext.Binding(tenantId, shardTemplate.currentShard()))
+                : shardTemplate.shards().stream().map(shard -> new ShardContext.Binding(null, shard)).toList();
+
+        List<Partition> partitions = new ArrayList<>();
+        for (ShardContext.Binding binding : bindings) {
+            String directory = shardTemplate.isSharded() ? "rosters/" + binding.shard() + "/" : "rosters/";
+            // In a transaction so the tenant filter applies to the planning queries too
+            partitions.addAll(ShardContext.callWith(binding, () -> readOnlyTransaction.execute(
+                    status -> planShardPartitions(partitioning, binding, directory))));
+        }
+        return partitions;
+    }
+
+    private List<Partition> planShardPartitions(ReportPartitioning partitioning, ShardContext.Binding binding,
+                                                String directory) {
+        List<Partition> partitions = new ArrayList<>();
+        if (partitioning == ReportPartitioning.DEPARTMENT) {
+            // Departments differing only in case are covered by one case-insensitive read
+            Map<String, String> byKey = new LinkedHashMap<>();
+            employeeRepository.findAllDistinctDepartments()
+                    .forEach(department -> byKey.putIfAbsent(department.toLowerCase(Locale.ROOT), department));
+            for (String department : byKey.values()) {
+                partitions.add(Partition.department(binding, directory, department, partitions.size() + 1));
+            }
+            return partitions;
+        }
+
+        Integer minId = employeeRepository.findMinId();
+        Integer maxId = employeeRepository.findMaxId();
+        if (minId == null) {
+            return partitions;
+        }
+        for (long from = minId; from <= maxId; from += idRangeSize) {
+            partitions.add(Partition.idRange(binding, directory, (int) from, (int) Math.min(maxId, from + idRangeSize - 1)));
+        }
+        return partitions;
+    }
+
+    /**
+     * Read one partition and format it as a CSV roster plus per-department salary aggregates
+     */
+    private PartitionResult render(Partition partition) {
+        List<Object[]> rows;
+        connectionPermits.acquireUninterruptibly();
+        try {
+            rows = ShardContext.callWith(partition.binding(), () -> readOnlyTransaction.execute(status -> {
+                try (Stream<Object[]> stream = partition.department() != null
+                        ? employeeRepository.streamActiveReportRowsByDepartment(partition.department())
+                        : employeeRepository.streamActiveReportRowsByIdRange(partition.fromId(), partition.toId())) {
+                    return stream.toList();
+                }
+            }));
+        } finally {
+            connectionPermits.release();
+        }
+
+        Map<String, OrgAggregate> salaryByDepartment = new HashMap<>();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(rows.size() * 96 + ROSTER_HEADER.length());
+        try (Writer writer = new OutputStreamWriter(bytes, StandardCharsets.UTF_8)) {
+            writer.write(ROSTER_HEADER);
+            StringBuilder line = new StringBuilder(128);
+            for (Object[] row : rows) {
+                String department = (String) row[4];
+                BigDecimal salary = (BigDecimal) row[6];
+                LocalDate hireDate = (LocalDate) row[7];
+
+                line.setLength(0);
+                line.append(row[0]).append(',');
+                appendCsv(line, (String) row[1]).append(',');
+                appendCsv(line, (String) row[2]).append(',');
+                appendCsv(line, (String) row[3]).append(',');
+                appendCsv(line, department).append(',');
+                appendCsv(line, (String) row[5]).append(',');
+                line.append(salary == null ? "" : salary.toPlainString()).append(',');
+                line.append(hireDate).append(',');
+                line.append(row[8] == null ? "" : row[8]).append('\n');
+                writer.append(line);
+
+                salaryByDepartment.computeIfAbsent(department.toLowerCase(Locale.ROOT), key -> new OrgAggregate(department))
+                        .add(salary == null ? null : salary.movePointRight(2).longValue(), hireDate.getYear());
+            }
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to format report partition " + partition.entryName(), ex);
+        }
+        return new PartitionResult(partition.entryName(), bytes.toByteArray(), rows.size(), salaryByDepartment);
+    }
+
+    private int writeRoster(ZipOutputStream zip, PartitionResult result, Map<String, OrgAggregate> salaryByDepartment)
+            throws IOException {
+        zip.putNextEntry(new ZipEntry(result.entryName()));
+        zip.write(result.csv());
+        zip.closeEntry();
+        result.salaryByDepartment().forEach((key, aggregate) ->
+                salaryByDepartment.merge(key, aggregate, (merged, partial) -> {
+                    merged.merge(partial);
+                    return merged;
+                }));
+        return result.rowCount();
+    }
+
+    private void writeSalaryReport(ZipOutputStream zip, Map<String, OrgAggregate> salaryByDepartment) throws IOException {
+        int currentYear = LocalDate.now().getYear();
+        StringBuilder csv = new StringBuilder(
+                "department,headcount,salary_total,salary_average,salary_min,salary_max,tenure_lt_1y,tenure_1_3y,tenure_3_5y,tenure_5_10y,tenure_10y_plus\n");
+        for (OrgAggregate aggregate : salaryByDepartment.values()) {
+            OrgStatsDto stats = aggregate.snapshot(currentYear);
+            appendCsv(csv, stats.getGroup()).append(',')
+                    .append(stats.getHeadcount()).append(',')
+                    .append(plain(stats.getSalaryTotal())).append(',')
+                    .append(plain(stats.getSalaryAverage())).append(',')
+                    .append(plain(stats.getSalaryMin())).append(',')
+                    .append(plain(stats.getSalaryMax()));
+            stats.getTenureDistribution().values().forEach(count -> csv.append(',').append(count));
+            csv.append('\n');
+        }
+        writeEntry(zip, "salary-report.csv", csv.toString());
+    }
+
+    private void writeManifest(ZipOutputStream zip, ReportPartitioning partitioning, int parallelism,
+                               int partitions, int rows, long elapsedMillis) throws IOException {
+        String manifest = "generated_at=" + LocalDateTime.now() + "\n"
+                + "partitioning=" + partitioning + "\n"
+                + "parallelism=" + parallelism + "\n"
+                + "partitions=" + partitions + "\n"
+                + "rows=" + rows + "\n"
+                + "elapsed_ms=" + elapsedMillis + "\n";
+        writeEntry(zip, "manifest.txt", manifest);
+    }
+
+    private static void writeEntry(ZipOutputStream zip, String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(content.getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+
+    private static PartitionResult join(CompletableFuture<PartitionResult> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private static StringBuilder appendCsv(StringBuilder line, String value) {
+        if (value == null) {
+            return line;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return line.append(value);
+        }
+        return line.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+
+    private static String plain(BigDecimal amount) {
+        return amount == null ? "" : amount.toPlainString();
+    }
+
+    private record Partition(ShardContext.Binding binding, String directory, String department, int index,
+                             Integer fromId, Integer toId) {
+
+        static Partition department(ShardContext.Binding binding, String directory, String department, int index) {
+            return new Partition(binding, directory, department, index, null, null);
+        }
+
+        static Partition idRange(ShardContext.Binding binding, String directory, int fromId, int toId) {
+            return new Partition(binding, directory, null, 0, fromId, toId);
+        }
+
+        /**
+         * Department names are sanitised, so distinct names can map to the same text ("R&D", "R+D");
+         * the partition's index within its directory keeps the zip entries unique
+         */
+        String entryName() {
+            if (department != null) {
+                return directory + String.format("%03d-", index) + department.replaceAll("[^A-Za-z0-9._-]", "_") + ".csv";
+            }
+            return directory + "ids-" + fromId + "-" + toId + ".csv";
+        }
+    }
+
+    private record PartitionResult(String entryName, byte[] csv, int rowCount, Map<String, OrgAggregate> salaryByDepartment) {
+    }
+}
@@ -0,0 +1,142 @@
+package com.employee.management.service.impl;
+
+import com.employee.management.dto.EmployeeDto;
+import com.employee.management.sharding.ShardTemplate;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Runs employee list and search queries on every shard and merges the results
+ * For page p of size s each shard returns its first (p + 1) * s rows in the requested order, and
+ * a k-way merge of those prefixes yields the page; totals are summed. The sort always ends in id
+ * so equal keys merge in a stable order. Strings compare in code-point order, which matches the
+ * shards' ordering when they use the C collation.
+ */
+@Component
+public class ScatterGatherPager {
+
+    private final ShardTemplate shardTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int maxWindow;
+
+    public ScatterGatherPager(ShardTemplate shardTemplate,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.sharding.max-scatter-window:10000}") int maxWindow) {
+        this.shardTemplate = shardTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.maxWindow = maxWindow;
+    }
+
+    /**
+     * One page of the merged, sorted result of a paged query run on every shard
+     */
+    public Page<EmployeeDto> page(int page, int size, Sort sort, Function<Pageable, Page<EmployeeDto>> shardQuery) {
+        return page(page, size, Sort.unsorted(), sort, shardQuery);
+    }
+
+    /**
+     * As page(page, size, sort, shardQuery), for a query whose own ORDER BY (declaredOrder) comes
+     * before the Pageable's sort; the merge must follow the order the shards actually return
+     */
+    public Page<EmployeeDto> page(int page, int size, Sort declaredOrder, Sort sort,
+                                  Function<Pageable, Page<EmployeeDto>> shardQuery) {
+        if (page < 0 || size < 1 || (long) (page + 1) * size > maxWindow) {
+            throw new IllegalArgumentException("Cross-shard pages must end within the first " + maxWindow + " rows");
+        }
+        Sort stableSort = sort.getOrderFor("id") != null ? sort : sort.and(Sort.by("id"));
+        Comparator<EmployeeDto> order = comparator(declaredOrder.and(stableSort));
+        Pageable window = PageRequest.of(0, (page + 1) * size, stableSort);
+
+        List<Page<EmployeeDto>> partials = shardTemplate.scatter(
+                shard -> readOnlyTransaction.execute(status -> shardQuery.apply(window)));
+
+        long total = 0;
+        PriorityQueue<Head> heads = new PriorityQueue<>(Comparator.comparing(Head::value, order));
+        for (Page<EmployeeDto> partial : partials) {
+            total += partial.getTotalElements();
+            Iterator<EmployeeDto> rows = partial.getContent().iterator();
+            if (rows.hasNext()) {
+                heads.add(new Head(rows.next(), rows));
+            }
+        }
+
+        int skip = page * size;
+        List<EmployeeDto> content = new ArrayList<>(size);
+        while (!heads.isEmpty() && content.size() < size) {
+            Head head = heads.poll();
+            if (skip > 0) {
+                skip--;
+            } else {
+                content.add(head.value());
+            }
+            if (head.rest().hasNext()) {
+                heads.add(new Head(head.rest().next(), head.rest()));
+            }
+        }
+        return new PageImpl<>(content, PageRequest.of(page, size, sort), total);
+    }
+
+    /**
+     * The results of an unpaged query run on every shard, in shard order
+     */
+    public List<EmployeeDto> concat(Supplier<List<EmployeeDto>> shardQuery) {
+        List<EmployeeDto> employees = new ArrayList<>();
+        shardTemplate.scatter(shard -> readOnlyTransaction.execute(status -> shardQuery.get()))
+                .forEach(employees::addAll);
+        return employees;
+    }
+
+    private static Comparator<EmployeeDto> comparator(Sort sort) {
+        Comparator<EmployeeDto> comparator = null;
+        for (Sort.Order order : sort) {
+            Function<EmployeeDto, Comparable<Object>> key = sortKey(order.getProperty());
+            // PostgreSQL places nulls last in ascending order and first in descending order
+            Comparator<EmployeeDto> byProperty = order.isAscending()
+                    ? Comparator.comparing(key, Comparator.nullsLast(Comparator.naturalOrder()))
+                    : Comparator.comparing(key, Comparator.nullsFirst(Comparator.reverseOrder()));
+            comparator = comparator == null ? byProperty : comparator.thenComparing(byProperty);
+        }
+        return comparator;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<EmployeeDto, Comparable<Object>> sortKey(String property) {
+        PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(EmployeeDto.class, property);
+        if (descriptor == null || descriptor.getReadMethod() == null
+                || !Comparable.class.isAssignableFrom(ClassUtils.resolvePrimitiveIfNecessary(descriptor.getPropertyType()))) {
+            throw new IllegalArgumentException("Cannot sort across shards by " + property);
+        }
+        Method getter = descriptor.getReadMethod();
+        return dto -> {
+            try {
+                return (Comparable<Object>) getter.invoke(dto);
+            } catch (IllegalAccessException | InvocationTargetException ex) {
+                throw new IllegalStateException("Cannot read " + property, ex);
+            }
+        };
+    }
+
+    private record Head(EmployeeDto value, Iterator<EmployeeDto> rest) {
+    }
+}
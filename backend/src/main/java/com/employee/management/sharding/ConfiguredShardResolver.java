@@ -0,0 +1,32 @@
+package com.employee.management.sharding;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Places tenants on the shard that lists them in app.sharding.shards[].tenants
+ * Tenants that no shard lists live on the default shard.
+ */
+public class ConfiguredShardResolver implements ShardResolver {
+
+    private final Map<String, String> shardByTenant = new HashMap<>();
+    private final String defaultShard;
+
+    public ConfiguredShardResolver(ShardingProperties properties) {
+        this.defaultShard = properties.getDefaultShard();
+        for (ShardingProperties.Shard shard : properties.getShards()) {
+            for (String tenantId : shard.getTenants()) {
+                String previous = shardByTenant.put(tenantId, shard.getName());
+                if (previous != null) {
+                    throw new IllegalStateException("Tenant " + tenantId + " is listed on shards " + previous
+                            + " and " + shard.getName());
+                }
+            }
+        }
+    }
+
+    @Override
+    public String resolveShard(String tenantId) {
+        return shardByTenant.getOrDefault(tenantId, defaultShard);
+    }
+}
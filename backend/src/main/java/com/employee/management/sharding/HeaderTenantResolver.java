@@ -0,0 +1,22 @@
+package com.employee.management.sharding;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.util.StringUtils;
+
+/**
+ * Reads the tenant from a request header (app.sharding.tenant-header)
+ */
+public class HeaderTenantResolver implements TenantResolver {
+
+    private final String headerName;
+
+    public HeaderTenantResolver(String headerName) {
+        this.headerName = headerName;
+    }
+
+    @Override
+    public String resolveTenant(HttpServletRequest request) {
+        String tenantId = request.getHeader(headerName);
+        return StringUtils.hasText(tenantId) ? tenantId.trim() : null;
+    }
+}
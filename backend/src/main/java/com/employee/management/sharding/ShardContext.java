@@ -0,0 +1,88 @@
+package com.employee.management.sharding;
+
+import java.util.function.Supplier;
+
+/**
+ * Tenant and shard of the current unit of work, bound to the handling thread
+ * Requests are bound by TenantContextFilter; background work binds a shard (and no tenant)
+ * through ShardTemplate. With no binding, queries go to the default shard.
+ */
+public final class ShardContext {
+
+    /**
+     * Tenant value selecting every tenant on every shard
+     */
+    public static final String ALL_TENANTS = "*";
+
+    private static final ThreadLocal<Binding> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    /**
+     * A tenant (null for shard-wide work) and the shard its rows live on (null while scattering)
+     */
+    public record Binding(String tenantId, String shard) {
+    }
+
+    public static Binding current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Tenant of the current request, or null for shard-wide work and outside a request
+     */
+    public static String currentTenantId() {
+        Binding binding = CURRENT.get();
+        return binding == null ? null : binding.tenantId();
+    }
+
+    /**
+     * Shard the current thread's queries go to, or null for the default shard
+     */
+    public static String currentShard() {
+        Binding binding = CURRENT.get();
+        return binding == null ? null : binding.shard();
+    }
+
+    /**
+     * Whether the current request spans every shard and must scatter its queries
+     */
+    public static boolean isScatterGather() {
+        Binding binding = CURRENT.get();
+        return binding != null && ALL_TENANTS.equals(binding.tenantId()) && binding.shard() == null;
+    }
+
+    /**
+     * Run an action with the given binding, restoring the previous one afterwards
+     */
+    public static <T> T callWith(Binding binding, Supplier<T> action) {
+        Binding previous = bind(binding);
+        try {
+            return action.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    public static void runWith(Binding binding, Runnable action) {
+        callWith(binding, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    static Binding bind(Binding binding) {
+        Binding previous = CURRENT.get();
+        if (binding == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(binding);
+        }
+        return previous;
+    }
+
+    static void restore(Binding previous) {
+        bind(previous);
+    }
+}
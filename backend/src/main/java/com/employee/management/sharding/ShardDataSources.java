@@ -0,0 +1,44 @@
+package com.employee.management.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Connection pools of every shard, default shard first, in configuration order
+ * Closes the pools of the additional shards; the default shard's pool is a bean of its own.
+ */
+public class ShardDataSources implements AutoCloseable {
+
+    private final Map<String, DataSource> dataSources = new LinkedHashMap<>();
+
+    public ShardDataSources(String defaultShard, DataSource defaultDataSource, ShardingProperties properties) {
+        dataSources.put(defaultShard, defaultDataSource);
+        for (ShardingProperties.Shard shard : properties.getShards()) {
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("shard-" + shard.getName());
+            pool.setJdbcUrl(shard.getUrl());
+            pool.setUsername(shard.getUsername());
+            pool.setPassword(shard.getPassword());
+            pool.setMaximumPoolSize(shard.getMaximumPoolSize());
+            if (dataSources.putIfAbsent(shard.getName(), pool) != null) {
+                pool.close();
+                throw new IllegalStateException("Duplicate shard name: " + shard.getName());
+            }
+        }
+    }
+
+    public Map<String, DataSource> getDataSources() {
+        return Collections.unmodifiableMap(dataSources);
+    }
+
+    @Override
+    public void close() {
+        dataSources.values().stream()
+                .skip(1)
+                .forEach(dataSource -> ((HikariDataSource) dataSource).close());
+    }
+}
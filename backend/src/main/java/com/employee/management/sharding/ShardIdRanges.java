@@ -0,0 +1,88 @@
+package com.employee.management.sharding;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Confines each shard's employee ID generator to its range before traffic arrives
+ * Shard n (default shard = 0, then configuration order) allocates from n * id-range-size + 1 up to
+ * (n + 1) * id-range-size, so new shards must be appended to the list. The range end is the
+ * generator's maximum: a full shard fails its inserts instead of handing out the next shard's IDs.
+ * Runs after Flyway/Hibernate have created the schema.
+ */
+@Slf4j
+public class ShardIdRanges implements SmartInitializingSingleton {
+
+    private final ShardDataSources shardDataSources;
+    private final long rangeSize;
+
+    public ShardIdRanges(ShardDataSources shardDataSources, ShardingProperties properties) {
+        this.shardDataSources = shardDataSources;
+        this.rangeSize = properties.getIdRangeSize();
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<Map.Entry<String, DataSource>> shards = List.copyOf(shardDataSources.getDataSources().entrySet());
+        for (int index = 0; index < shards.size(); index++) {
+            long rangeStart = index * rangeSize + 1;
+            long rangeEnd = rangeStart + rangeSize - 1;
+            if (rangeEnd > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Shard " + shards.get(index).getKey()
+                        + " has no room for its ID range; lower app.sharding.id-range-size");
+            }
+            alignIdGenerator(shards.get(index).getKey(), shards.get(index).getValue(), rangeStart, rangeEnd);
+        }
+    }
+
+    private void alignIdGenerator(String shard, DataSource dataSource, long rangeStart, long rangeEnd) {
+        String product;
+        try (Connection connection = dataSource.getConnection()) {
+            product = connection.getMetaData().getDatabaseProductName();
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Cannot reach shard " + shard, ex);
+        }
+
+        // In a transaction of its own: pools may run with auto-commit off (perf profile), where
+        // statements outside one are rolled back when the connection returns to the pool
+        new TransactionTemplate(new DataSourceTransactionManager(dataSource)).executeWithoutResult(status ->
+                applyRange(shard, new JdbcTemplate(dataSource), product, rangeStart, rangeEnd));
+        log.info("Shard {} allocates employee IDs from {} to {}", shard, rangeStart, rangeEnd);
+    }
+
+    private void applyRange(String shard, JdbcTemplate jdbcTemplate, String product, long rangeStart, long rangeEnd) {
+        if ("PostgreSQL".equals(product)) {
+            String sequence = jdbcTemplate.queryForObject("SELECT pg_get_serial_sequence('employees', 'id')", String.class);
+            Long lastValue = jdbcTemplate.queryForObject("SELECT last_value FROM " + sequence, Long.class);
+            requireWithinRange(shard, lastValue, rangeEnd);
+            jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " MAXVALUE " + rangeEnd);
+            if (lastValue != null && lastValue < rangeStart) {
+                jdbcTemplate.queryForObject("SELECT setval(CAST(? AS regclass), ?, false)", Long.class, sequence, rangeStart);
+            }
+        } else {
+            // H2 (local testing): identity columns have no readable position, so go by the stored rows
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM employees", Long.class);
+            requireWithinRange(shard, maxId, rangeEnd);
+            jdbcTemplate.execute("ALTER TABLE employees ALTER COLUMN id SET MAXVALUE " + rangeEnd);
+            if (maxId != null && maxId < rangeStart) {
+                jdbcTemplate.execute("ALTER TABLE employees ALTER COLUMN id RESTART WITH " + rangeStart);
+            }
+        }
+    }
+
+    private static void requireWithinRange(String shard, Long highestId, long rangeEnd) {
+        if (highestId != null && highestId > rangeEnd) {
+            throw new IllegalStateException("Shard " + shard + " already holds employee ID " + highestId
+                    + ", beyond its range end " + rangeEnd + "; raise app.sharding.id-range-size");
+        }
+    }
+}
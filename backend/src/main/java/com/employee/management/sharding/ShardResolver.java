@@ -0,0 +1,13 @@
+package com.employee.management.sharding;
+
+/**
+ * Maps a tenant to the shard holding its rows
+ * Declare a bean of this type to replace the configured tenant lists (e.g. a directory lookup).
+ */
+public interface ShardResolver {
+
+    /**
+     * Shard name for the tenant; must be one of the configured shards
+     */
+    String resolveShard(String tenantId);
+}
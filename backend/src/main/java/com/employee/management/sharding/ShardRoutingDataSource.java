@@ -0,0 +1,19 @@
+package com.employee.management.sharding;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Routes each connection to the shard bound in ShardContext, or the default shard when none is bound
+ * Must sit behind a LazyConnectionDataSourceProxy so the shard is resolved at the first statement
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (ShardContext.isScatterGather()) {
+            // A cross-shard request reaching the database from its own thread would silently read one shard
+            throw new IllegalStateException("Cross-shard request issued a single-shard query");
+        }
+        return ShardContext.currentShard();
+    }
+}
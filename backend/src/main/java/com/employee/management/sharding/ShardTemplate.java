@@ -0,0 +1,157 @@
+package com.employee.management.sharding;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Runs work on a specific shard, on every shard, or scattered across shards in parallel
+ * With sharding disabled there is a single (default) shard, so callers need no special case.
+ * Work bound to a shard sees every tenant on it; tenant filtering only applies to requests.
+ */
+@Component
+public class ShardTemplate {
+
+    private final ShardingProperties properties;
+    private final DataSourceProperties dataSourceProperties;
+    private final List<String> shards = new ArrayList<>();
+    private final ExecutorService workers;
+
+    public ShardTemplate(ShardingProperties properties, DataSourceProperties dataSourceProperties) {
+        this.properties = properties;
+        this.dataSourceProperties = dataSourceProperties;
+        shards.add(properties.getDefaultShard());
+        if (properties.isEnabled()) {
+            properties.getShards().forEach(shard -> shards.add(shard.getName()));
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(Math.max(1, properties.getScatterThreads()), runnable -> {
+            Thread thread = new Thread(runnable, "shard-worker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public boolean isSharded() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Every shard name, default shard first
+     */
+    public List<String> shards() {
+        return List.copyOf(shards);
+    }
+
+    /**
+     * Shard the current thread's queries go to
+     */
+    public String currentShard() {
+        String shard = ShardContext.currentShard();
+        return shard != null ? shard : properties.getDefaultShard();
+    }
+
+    /**
+     * Tenant that new rows of the current request belong to
+     */
+    public String currentTenant() {
+        String tenantId = ShardContext.currentTenantId();
+        if (ShardContext.ALL_TENANTS.equals(tenantId)) {
+            throw new IllegalArgumentException("Writes need a single tenant");
+        }
+        return tenantId != null ? tenantId : properties.getDefaultTenant();
+    }
+
+    /**
+     * Tenant the current unit of work is restricted to, or null when it sees every tenant
+     * In-memory views built from every shard filter their rows by this.
+     */
+    public String visibleTenant() {
+        String current = ShardContext.currentTenantId();
+        return current == null || ShardContext.ALL_TENANTS.equals(current) ? null : current;
+    }
+
+    /**
+     * Whether a row of the given tenant is visible to the current unit of work
+     */
+    public boolean isVisible(String tenantId) {
+        String current = visibleTenant();
+        return current == null || current.equals(tenantId);
+    }
+
+    public <T> T callOn(String shard, Supplier<T> action) {
+        return ShardContext.callWith(new ShardContext.Binding(null, shard), action);
+    }
+
+    public void runOn(String shard, Runnable action) {
+        ShardContext.runWith(new ShardContext.Binding(null, shard), action);
+    }
+
+    /**
+     * Run an action on each shard in turn, on the calling thread
+     */
+    public void forEachShard(Consumer<String> action) {
+        for (String shard : shards) {
+            runOn(shard, () -> action.accept(shard));
+        }
+    }
+
+    /**
+     * Run a query on every shard in parallel; results are in shard order
+     */
+    public <T> List<T> scatter(Function<String, T> query) {
+        if (shards.size() == 1) {
+            String shard = shards.get(0);
+            return List.of(callOn(shard, () -> query.apply(shard)));
+        }
+        List<CompletableFuture<T>> futures = shards.stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> callOn(shard, () -> query.apply(shard)), workers))
+                .toList();
+        List<T> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<T> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException ex) {
+                if (ex.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw ex;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * JDBC settings for opening a dedicated connection to a shard (e.g. for LISTEN)
+     */
+    public ConnectionDetails connectionDetails(String shard) {
+        if (shard.equals(properties.getDefaultShard())) {
+            return new ConnectionDetails(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+        }
+        return properties.getShards().stream()
+                .filter(candidate -> candidate.getName().equals(shard))
+                .findFirst()
+                .map(candidate -> new ConnectionDetails(candidate.getUrl(), candidate.getUsername(), candidate.getPassword()))
+                .orElseThrow(() -> new IllegalArgumentException("Unknown shard: " + shard));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    public record ConnectionDetails(String url, String username, String password) {
+    }
+}
@@ -0,0 +1,64 @@
+package com.employee.management.sharding;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tenant sharding configuration (app.sharding.*)
+ * The default shard is the regular spring.datasource; shards lists the additional databases
+ */
+@Data
+@ConfigurationProperties(prefix = "app.sharding")
+public class ShardingProperties {
+
+    /**
+     * Route employee operations to the shard of the request's tenant
+     */
+    private boolean enabled = false;
+
+    /**
+     * Request header carrying the tenant; "*" selects every tenant on every shard (list and search only)
+     */
+    private String tenantHeader = "X-Tenant-Id";
+
+    /**
+     * Tenant of requests without the header, and of every row when sharding is disabled
+     */
+    private String defaultTenant = "default";
+
+    /**
+     * Name of the shard served by spring.datasource; tenants not listed under a shard live here
+     */
+    private String defaultShard = "default";
+
+    /**
+     * Employee IDs are allocated in disjoint ranges of this size, one per shard in list order,
+     * so IDs stay unique across shards
+     */
+    private int idRangeSize = 100_000_000;
+
+    /**
+     * Deepest row a cross-shard page may reach; each shard returns up to (page + 1) * size rows
+     */
+    private int maxScatterWindow = 10_000;
+
+    /**
+     * Worker threads for cross-shard queries and per-shard maintenance
+     */
+    private int scatterThreads = 8;
+
+    private List<Shard> shards = new ArrayList<>();
+
+    @Data
+    public static class Shard {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+        private List<String> tenants = new ArrayList<>();
+    }
+}
@@ -0,0 +1,79 @@
+package com.employee.management.sharding;
+
+import com.employee.management.dto.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Resolves the request's tenant and shard and binds them to ShardContext
+ * The all-tenants value is only accepted on the list and search endpoints, which scatter-gather.
+ */
+@Component
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+@RequiredArgsConstructor
+public class TenantContextFilter extends OncePerRequestFilter {
+
+    private static final List<String> SCATTER_GATHER_ENDPOINTS = List.of(
+            "GET /v1/employees",
+            "GET /v1/employees/paginated",
+            "POST /v1/employees/search");
+
+    private final TenantResolver tenantResolver;
+    private final ShardResolver shardResolver;
+    private final ShardingProperties properties;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String tenantId = tenantResolver.resolveTenant(request);
+        if (tenantId == null) {
+            tenantId = properties.getDefaultTenant();
+        }
+
+        ShardContext.Binding binding;
+        if (ShardContext.ALL_TENANTS.equals(tenantId)) {
+            String path = request.getRequestURI().substring(request.getContextPath().length());
+            if (!SCATTER_GATHER_ENDPOINTS.contains(request.getMethod() + " " + path)) {
+                reject(response, "All-tenant requests are only supported for employee list and search");
+                return;
+            }
+            binding = new ShardContext.Binding(ShardContext.ALL_TENANTS, null);
+        } else {
+            binding = new ShardContext.Binding(tenantId, shardResolver.resolveShard(tenantId));
+        }
+
+        ShardContext.Binding previous = ShardContext.bind(binding);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ShardContext.restore(previous);
+        }
+    }
+
+    private void reject(HttpServletResponse response, String message) throws IOException {
+        ApiResponse<Void> body = ApiResponse.<Void>builder()
+                .success(false)
+                .message(message)
+                .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
+                .build();
+        response.setStatus(HttpStatus.BAD_REQUEST.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
@@ -0,0 +1,65 @@
+package com.employee.management.sharding;
+
+import com.employee.management.entity.Employee;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.hibernate.Session;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * Restricts employee repository queries to the request's tenant
+ * A shard can hold several tenants, so the Hibernate tenant filter is enabled on the bound session
+ * before each repository call of a tenant-scoped request. Shard-wide work (no tenant bound) and
+ * scatter-gather workers are unfiltered. Lookups by primary key bypass Hibernate filters; services
+ * check the loaded row with ShardTemplate.isVisible.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class TenantFilterAspect {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Around("execution(* com.employee.management.repository.EmployeeRepository+.*(..))"
+            + " || execution(* com.employee.management.repository.EmployeeProjectionRepository+.*(..))"
+            + " || execution(* com.employee.management.repository.ArchivedEmployeeRepository+.*(..))")
+    public Object filterByTenant(ProceedingJoinPoint joinPoint) throws Throwable {
+        String tenantId = ShardContext.currentTenantId();
+        if (tenantId == null || ShardContext.ALL_TENANTS.equals(tenantId)) {
+            return joinPoint.proceed();
+        }
+
+        EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+        if (entityManager == null) {
+            // The repository would open an unfiltered session of its own
+            throw new IllegalStateException("Tenant-scoped repository call outside a transaction: "
+                    + joinPoint.getSignature().toShortString());
+        }
+        Session session = entityManager.unwrap(Session.class);
+
+        if (((MethodSignature) joinPoint.getSignature()).getMethod().isAnnotationPresent(ShardWide.class)) {
+            boolean wasEnabled = session.getEnabledFilter(Employee.TENANT_FILTER) != null;
+            session.disableFilter(Employee.TENANT_FILTER);
+            try {
+                return joinPoint.proceed();
+            } finally {
+                if (wasEnabled) {
+                    session.enableFilter(Employee.TENANT_FILTER).setParameter("tenantId", tenantId);
+                }
+            }
+        }
+
+        if (session.getEnabledFilter(Employee.TENANT_FILTER) == null) {
+            session.enableFilter(Employee.TENANT_FILTER).setParameter("tenantId", tenantId);
+        }
+        return joinPoint.proceed();
+    }
+}
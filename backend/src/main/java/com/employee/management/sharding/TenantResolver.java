@@ -0,0 +1,15 @@
+package com.employee.management.sharding;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Determines the tenant of an incoming request
+ * Declare a bean of this type to replace the header-based default (e.g. to read a JWT claim).
+ */
+public interface TenantResolver {
+
+    /**
+     * Tenant of the request, ShardContext.ALL_TENANTS for a cross-shard read, or null for the default tenant
+     */
+    String resolveTenant(HttpServletRequest request);
+}
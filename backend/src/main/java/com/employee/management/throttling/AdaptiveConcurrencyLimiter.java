@@ -0,0 +1,116 @@
+package com.employee.management.throttling;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit for heavy service calls that adapts to the latency gradient
+ * A slow-moving average of latency approximates the unloaded RTT; when recent latency rises above
+ * it the limit shrinks proportionally, and when they match the limit probes upward by sqrt(limit).
+ * The same approach as the Gradient2 limiter in Netflix concurrency-limits.
+ */
+@Component
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double LONG_RTT_WEIGHT = 1.0 / 600;
+    private static final double SHORT_RTT_WEIGHT = 1.0 / 10;
+    private static final double TOLERANCE = 1.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private double longRttNanos;
+    private double shortRttNanos;
+
+    public AdaptiveConcurrencyLimiter(MeterRegistry meterRegistry,
+                                      @Value("${app.throttling.concurrency.initial-limit:20}") int initialLimit,
+                                      @Value("${app.throttling.concurrency.min-limit:4}") int minLimit,
+                                      @Value("${app.throttling.concurrency.max-limit:64}") int maxLimit,
+                                      @Value("${app.throttling.concurrency.smoothing:0.2}") double smoothing) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+
+        Gauge.builder("throttling.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit for heavy service calls")
+                .register(meterRegistry);
+        Gauge.builder("throttling.concurrency.in_flight", inFlight, AtomicInteger::get)
+                .description("Heavy service calls currently executing")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Claim a slot if the number of calls in flight is below the current limit
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Release a slot; successful calls feed their latency into the limit
+     */
+    public void release(long rttNanos, boolean success) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        if (success) {
+            onSample(rttNanos, inFlightAtCompletion);
+        }
+    }
+
+    /**
+     * Whether the limiter is at capacity; used to shed low-priority requests before they start work
+     */
+    public boolean isSaturated() {
+        return inFlight.get() >= (int) limit;
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtCompletion) {
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+            shortRttNanos = rttNanos;
+            return;
+        }
+        shortRttNanos += (rttNanos - shortRttNanos) * SHORT_RTT_WEIGHT;
+        longRttNanos += (rttNanos - longRttNanos) * LONG_RTT_WEIGHT;
+        // Let the baseline recover quickly after a sustained slowdown ends
+        if (longRttNanos / shortRttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+
+        // Do not grow while the application is not using the capacity it already has
+        if (inFlightAtCompletion < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRttNanos / shortRttNanos));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        newLimit = limit * (1 - smoothing) + newLimit * smoothing;
+        newLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        if ((int) newLimit != (int) limit) {
+            log.debug("Concurrency limit {} -> {} (short rtt {} us, long rtt {} us)",
+                    (int) limit, (int) newLimit, (long) shortRttNanos / 1_000, (long) longRttNanos / 1_000);
+        }
+        limit = newLimit;
+    }
+}
@@ -0,0 +1,43 @@
+package com.employee.management.throttling;
+
+import com.employee.management.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies the AdaptiveConcurrencyLimiter to @ConcurrencyLimited methods
+ * Ordered ahead of the transaction interceptor so rejected calls never open a transaction
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ConcurrencyLimitAspect {
+
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final MeterRegistry meterRegistry;
+
+    @Around("@annotation(com.employee.management.throttling.ConcurrencyLimited)")
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!concurrencyLimiter.tryAcquire()) {
+            meterRegistry.counter("throttling.concurrency.rejected", "method", joinPoint.getSignature().getName()).increment();
+            throw new ServiceOverloadedException("Too many concurrent requests, please retry shortly");
+        }
+
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            Object result = joinPoint.proceed();
+            success = true;
+            return result;
+        } finally {
+            concurrencyLimiter.release(System.nanoTime() - start, success);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.employee.management.throttling;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a service method as heavy: calls go through the AdaptiveConcurrencyLimiter and are
+ * rejected with ServiceOverloadedException when it is at capacity
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConcurrencyLimited {
+}
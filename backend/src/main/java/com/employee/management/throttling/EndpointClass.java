@@ -0,0 +1,59 @@
+package com.employee.management.throttling;
+
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+
+/**
+ * Cost/priority class of an HTTP endpoint, used by ThrottlingFilter
+ * CHEAP requests are never limited or shed; EXPENSIVE requests are shed first under load.
+ */
+public enum EndpointClass {
+    CHEAP,
+    STANDARD,
+    EXPENSIVE;
+
+    private static final AntPathMatcher MATCHER = new AntPathMatcher();
+
+    private static final List<String> CHEAP_PATTERNS = List.of(
+            "GET /v1/employees/{id:\\d+}",
+            "GET /v1/employees/health",
+            "GET /actuator/health/**");
+
+    private static final List<String> EXPENSIVE_PATTERNS = List.of(
+            "GET /v1/employees",
+            "GET /v1/employees/paginated",
+            "GET /v1/employees/department/*",
+            "GET /v1/employees/batch",
+            "POST /v1/employees/batch",
+            "POST /v1/employees/search",
+            "POST /v1/employees/query",
+            "POST /v1/employees/import",
+            "GET /v1/employees/duplicates/report",
+            "GET /v1/reports/**",
+            "POST /v1/archive/run",
+            "POST /graphql");
+
+    /**
+     * Classify a request by method and path (relative to the context path)
+     */
+    public static EndpointClass of(String method, String path) {
+        String key = method + " " + path;
+        if (matchesAny(CHEAP_PATTERNS, key)) {
+            return CHEAP;
+        }
+        if (matchesAny(EXPENSIVE_PATTERNS, key)) {
+            return EXPENSIVE;
+        }
+        return STANDARD;
+    }
+
+    private static boolean matchesAny(List<String> patterns, String key) {
+        for (String pattern : patterns) {
+            if (MATCHER.match(pattern, key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,91 @@
+package com.employee.management.throttling;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-client and per-endpoint-class token buckets
+ * Every client has one bucket that STANDARD requests draw 1 token from and EXPENSIVE requests draw
+ * {@code expensive-cost} from; EXPENSIVE requests additionally share one global bucket.
+ */
+@Component
+@Lazy(false)
+@Slf4j
+public class RateLimiter {
+
+    private static final long IDLE_EVICTION_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    /**
+     * Outcome of a rate-limit check; {@code retryAfterNanos} is 0 when the request is allowed
+     */
+    public record Decision(boolean allowed, String reason, long retryAfterNanos) {
+        static final Decision ALLOWED = new Decision(true, null, 0);
+    }
+
+    private final Map<String, TokenBucket> clientBuckets = new ConcurrentHashMap<>();
+    private final TokenBucket expensiveBucket;
+    private final double clientCapacity;
+    private final double clientRefillPerSecond;
+    private final int expensiveCost;
+
+    public RateLimiter(MeterRegistry meterRegistry,
+                       @Value("${app.throttling.client.capacity:60}") double clientCapacity,
+                       @Value("${app.throttling.client.refill-per-second:20}") double clientRefillPerSecond,
+                       @Value("${app.throttling.expensive.capacity:100}") double expensiveCapacity,
+                       @Value("${app.throttling.expensive.refill-per-second:50}") double expensiveRefillPerSecond,
+                       @Value("${app.throttling.expensive.cost:5}") int expensiveCost) {
+        this.clientCapacity = clientCapacity;
+        this.clientRefillPerSecond = clientRefillPerSecond;
+        this.expensiveCost = expensiveCost;
+        this.expensiveBucket = new TokenBucket(expensiveCapacity, expensiveRefillPerSecond, System.nanoTime());
+
+        Gauge.builder("throttling.rate_limiter.clients", clientBuckets, Map::size)
+                .description("Clients with a live token bucket")
+                .register(meterRegistry);
+    }
+
+    public Decision check(String clientId, EndpointClass endpointClass) {
+        if (endpointClass == EndpointClass.CHEAP) {
+            return Decision.ALLOWED;
+        }
+        String key = clientId == null ? "anonymous" : clientId;
+        long now = System.nanoTime();
+        int cost = endpointClass == EndpointClass.EXPENSIVE ? expensiveCost : 1;
+
+        long clientWait = clientBuckets
+                .computeIfAbsent(key, id -> new TokenBucket(clientCapacity, clientRefillPerSecond, now))
+                .tryConsume(cost, now);
+        if (clientWait > 0) {
+            return new Decision(false, "client_rate", clientWait);
+        }
+        if (endpointClass == EndpointClass.EXPENSIVE) {
+            long endpointWait = expensiveBucket.tryConsume(1, now);
+            if (endpointWait > 0) {
+                return new Decision(false, "endpoint_rate", endpointWait);
+            }
+        }
+        return Decision.ALLOWED;
+    }
+
+    /**
+     * Drop buckets of clients that have been idle long enough to be full again
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdleClients() {
+        long now = System.nanoTime();
+        int before = clientBuckets.size();
+        clientBuckets.values().removeIf(bucket -> bucket.isIdle(now, IDLE_EVICTION_NANOS));
+        if (before != clientBuckets.size()) {
+            log.debug("Evicted {} idle rate-limit buckets", before - clientBuckets.size());
+        }
+    }
+}
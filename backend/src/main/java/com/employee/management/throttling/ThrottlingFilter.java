@@ -0,0 +1,99 @@
+package com.employee.management.throttling;
+
+import com.employee.management.dto.ApiResponse;
+import com.employee.management.web.ClientContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limits and sheds requests by endpoint class before they reach a controller
+ * Runs after ClientContextFilter so the client is bound. Rate limits are keyed on the remote address,
+ * not the self-declared X-Client-Id, so a client cannot mint fresh buckets by rotating the header;
+ * behind a reverse proxy set server.forward-headers-strategy so it is the caller's address.
+ * Over-limit requests get 429; EXPENSIVE requests arriving while the concurrency limiter is
+ * saturated are shed with 503 so CHEAP ones (single-employee lookups, health) keep their latency.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@Slf4j
+public class ThrottlingFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+
+    public ThrottlingFilter(RateLimiter rateLimiter,
+                            AdaptiveConcurrencyLimiter concurrencyLimiter,
+                            MeterRegistry meterRegistry,
+                            ObjectMapper objectMapper,
+                            @Value("${app.throttling.enabled:true}") boolean enabled) {
+        this.rateLimiter = rateLimiter;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        EndpointClass endpointClass = EndpointClass.of(request.getMethod(), path);
+
+        if (endpointClass == EndpointClass.EXPENSIVE && concurrencyLimiter.isSaturated()) {
+            reject(response, endpointClass, "shed", HttpStatus.SERVICE_UNAVAILABLE, 1,
+                    "Service is busy, please retry shortly");
+            return;
+        }
+
+        RateLimiter.Decision decision = rateLimiter.check(ClientContext.currentRemoteAddress(), endpointClass);
+        if (!decision.allowed()) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(decision.retryAfterNanos() + 999_999_999));
+            reject(response, endpointClass, decision.reason(), HttpStatus.TOO_MANY_REQUESTS, retryAfterSeconds,
+                    "Rate limit exceeded, please retry later");
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private void reject(HttpServletResponse response, EndpointClass endpointClass, String reason, HttpStatus status,
+                        long retryAfterSeconds, String message) throws IOException {
+        meterRegistry.counter("throttling.requests.rejected",
+                "reason", reason, "endpoint_class", endpointClass.name().toLowerCase()).increment();
+        log.debug("Rejected {} request from {}: {}", endpointClass, ClientContext.currentRemoteAddress(), reason);
+
+        ApiResponse<Void> body = ApiResponse.<Void>builder()
+                .success(false)
+                .message(message)
+                .error(status.getReasonPhrase())
+                .build();
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
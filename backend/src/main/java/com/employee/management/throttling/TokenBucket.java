@@ -0,0 +1,44 @@
+package com.employee.management.throttling;
+
+/**
+ * Token bucket refilled continuously from elapsed time
+ */
+class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+
+    TokenBucket(double capacity, double tokensPerSecond, long nowNanos) {
+        this.capacity = capacity;
+        this.tokensPerNano = tokensPerSecond / 1_000_000_000d;
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    /**
+     * Take {@code cost} tokens if available
+     * @return 0 when granted, otherwise the nanoseconds until enough tokens will have accrued
+     */
+    synchronized long tryConsume(int cost, long nowNanos) {
+        refill(nowNanos);
+        if (tokens >= cost) {
+            tokens -= cost;
+            return 0;
+        }
+        return (long) Math.ceil((cost - tokens) / tokensPerNano);
+    }
+
+    /**
+     * Whether the bucket is full and has not been touched for {@code idleNanos}, i.e. safe to drop
+     */
+    synchronized boolean isIdle(long nowNanos, long idleNanos) {
+        return nowNanos - lastRefillNanos >= idleNanos && tokens + (nowNanos - lastRefillNanos) * tokensPerNano >= capacity;
+    }
+
+    private void refill(long nowNanos) {
+        tokens = Math.min(capacity, tokens + (nowNanos - lastRefillNanos) * tokensPerNano);
+        lastRefillNanos = nowNanos;
+    }
+}
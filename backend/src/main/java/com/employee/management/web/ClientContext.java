@@ -0,0 +1,62 @@
+package com.employee.management.web;
+
+/**
+ * Per-request client information, bound to the handling thread by ClientContextFilter
+ */
+public final class ClientContext {
+
+    private static final ThreadLocal<ClientContext> CURRENT = new ThreadLocal<>();
+
+    private final String clientId;
+    private final String remoteAddress;
+    private volatile boolean primaryReads;
+
+    private ClientContext(String clientId, String remoteAddress, boolean primaryReads) {
+        this.clientId = clientId;
+        this.remoteAddress = remoteAddress;
+        this.primaryReads = primaryReads;
+    }
+
+    static void bind(String clientId, String remoteAddress, boolean primaryReads) {
+        CURRENT.set(new ClientContext(clientId, remoteAddress, primaryReads));
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Client identifier of the current request, or null outside a request
+     */
+    public static String currentClientId() {
+        ClientContext context = CURRENT.get();
+        return context == null ? null : context.clientId;
+    }
+
+    /**
+     * Network address the current request came from, or null outside a request
+     * Unlike the client ID it is not chosen by the caller, so rate limits are keyed on it
+     */
+    public static String currentRemoteAddress() {
+        ClientContext context = CURRENT.get();
+        return context == null ? null : context.remoteAddress;
+    }
+
+    /**
+     * Whether reads in the current request must see this client's own recent writes
+     */
+    public static boolean isPrimaryReadRequired() {
+        ClientContext context = CURRENT.get();
+        return context != null && context.primaryReads;
+    }
+
+    /**
+     * Route the remaining reads of the current request to the primary
+     */
+    public static void requirePrimaryReads() {
+        ClientContext context = CURRENT.get();
+        if (context != null) {
+            context.primaryReads = true;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.employee.management.web;
+
+import com.employee.management.datasource.ReadYourWritesTracker;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Identifies the calling client and binds a ClientContext for the request
+ * Clients are identified by the X-Client-Id header, falling back to the remote address
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ClientContextFilter extends OncePerRequestFilter {
+
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String remoteAddress = request.getRemoteAddr();
+        String clientId = request.getHeader(CLIENT_ID_HEADER);
+        if (!StringUtils.hasText(clientId)) {
+            clientId = remoteAddress;
+        }
+
+        ClientContext.bind(clientId, remoteAddress, readYourWritesTracker.hasRecentWrite(clientId));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ClientContext.clear();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * V4: Backfill the BIGINT shadow id columns added in V3
+ * Runs outside a transaction and commits every batch, so row locks are held only briefly
+ * and concurrent writes (kept in sync by the V3 trigger) are never blocked for long
+ */
+public class V4__BackfillBigintIds extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 10_000;
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+
+        long maxId;
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM employees")) {
+            resultSet.next();
+            maxId = resultSet.getLong(1);
+        }
+
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(true);
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE employees SET id_bigint = id, manager_id_bigint = manager_id " +
+                "WHERE id > ? AND id <= ? AND id_bigint IS NULL")) {
+            for (long from = 0; from < maxId; from += BATCH_SIZE) {
+                update.setLong(1, from);
+                update.setLong(2, from + BATCH_SIZE);
+                update.executeUpdate();
+            }
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+-- H2 schema for the sharded-h2 profile
+-- Every shard is a separate in-memory database and Hibernate's create-drop only reaches the
+-- default one, so schema generation is off and every shard runs this script on first connect.
+
+CREATE TABLE IF NOT EXISTS employees (
+    id INTEGER AUTO_INCREMENT PRIMARY KEY,
+    first_name VARCHAR(50) NOT NULL,
+    last_name VARCHAR(50) NOT NULL,
+    email VARCHAR(100) NOT NULL UNIQUE,
+    phone VARCHAR(20),
+    department VARCHAR(50) NOT NULL,
+    position VARCHAR(100) NOT NULL,
+    salary DECIMAL(10, 2),
+    hire_date DATE NOT NULL,
+    manager_id INTEGER,
+    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+    tenant_id VARCHAR(50) NOT NULL DEFAULT 'default',
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_employees_tenant_active ON employees (tenant_id, is_active);
+
+CREATE TABLE IF NOT EXISTS employee_audit (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    employee_id INTEGER NOT NULL,
+    change_type VARCHAR(10) NOT NULL,
+    field_name VARCHAR(30) NOT NULL,
+    old_value VARCHAR(255),
+    new_value VARCHAR(255),
+    changed_at TIMESTAMP NOT NULL,
+    changed_by VARCHAR(100)
+);
+
+CREATE TABLE IF NOT EXISTS employees_archive (
+    id INTEGER PRIMARY KEY,
+    first_name VARCHAR(50) NOT NULL,
+    last_name VARCHAR(50) NOT NULL,
+    email VARCHAR(100) NOT NULL,
+    phone VARCHAR(20),
+    department VARCHAR(50) NOT NULL,
+    position VARCHAR(100) NOT NULL,
+    salary DECIMAL(10, 2),
+    hire_date DATE NOT NULL,
+    manager_id INTEGER,
+    is_active BOOLEAN NOT NULL DEFAULT FALSE,
+    tenant_id VARCHAR(50) NOT NULL DEFAULT 'default',
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Versions come from the V10 trigger on PostgreSQL only; the table exists so the mapping
+-- matches, and as-of reads (tsrange) are not available on this profile.
+CREATE TABLE IF NOT EXISTS employees_history (
+    history_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    employee_id INTEGER NOT NULL,
+    first_name VARCHAR(50) NOT NULL,
+    last_name VARCHAR(50) NOT NULL,
+    email VARCHAR(100) NOT NULL,
+    phone VARCHAR(20),
+    department VARCHAR(50) NOT NULL,
+    position VARCHAR(100) NOT NULL,
+    salary DECIMAL(10, 2),
+    hire_date DATE NOT NULL,
+    manager_id INTEGER,
+    is_active BOOLEAN NOT NULL,
+    tenant_id VARCHAR(50) NOT NULL,
+    valid_from TIMESTAMP NOT NULL,
+    valid_to TIMESTAMP NOT NULL
+);
@@ -0,0 +1,104 @@
+-- V10: System-versioned history of employees for as-of queries
+-- Every version of a row lives in employees_history with its validity [valid_from, valid_to);
+-- the current version has valid_to = 'infinity'. A trigger maintains it on every INSERT, UPDATE
+-- and DELETE of employees, so JPA writes, bulk imports and archival are all captured. Versions
+-- are stamped with the transaction start time (LOCALTIMESTAMP), matching updated_at's type.
+-- As-of reads use range containment (tsrange(valid_from, valid_to) @> :asOf) served by GiST
+-- indexes; btree_gist lets department and manager share an index with the range.
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+CREATE TABLE IF NOT EXISTS employees_history (
+    history_id BIGSERIAL PRIMARY KEY,
+    employee_id INTEGER NOT NULL,
+    first_name VARCHAR(50) NOT NULL,
+    last_name VARCHAR(50) NOT NULL,
+    email VARCHAR(100) NOT NULL,
+    phone VARCHAR(20),
+    department VARCHAR(50) NOT NULL,
+    position VARCHAR(100) NOT NULL,
+    salary DECIMAL(10, 2),
+    hire_date DATE NOT NULL,
+    manager_id INTEGER,
+    is_active BOOLEAN NOT NULL,
+    tenant_id VARCHAR(50) NOT NULL,
+    valid_from TIMESTAMP NOT NULL,
+    valid_to TIMESTAMP NOT NULL DEFAULT 'infinity',
+    CHECK (valid_from < valid_to)
+);
+
+CREATE OR REPLACE FUNCTION employees_history_version() RETURNS trigger AS $$
+DECLARE
+    version_time TIMESTAMP := LOCALTIMESTAMP;
+    open_from TIMESTAMP;
+BEGIN
+    IF TG_OP = 'UPDATE'
+       AND (OLD.first_name, OLD.last_name, OLD.email, OLD.phone, OLD.department, OLD.position, OLD.salary,
+            OLD.hire_date, OLD.manager_id, OLD.is_active, OLD.tenant_id)
+           IS NOT DISTINCT FROM
+           (NEW.first_name, NEW.last_name, NEW.email, NEW.phone, NEW.department, NEW.position, NEW.salary,
+            NEW.hire_date, NEW.manager_id, NEW.is_active, NEW.tenant_id) THEN
+        -- Only updated_at or shadow columns changed
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        SELECT valid_from INTO open_from
+        FROM employees_history WHERE employee_id = OLD.id AND valid_to = 'infinity';
+        IF open_from >= version_time THEN
+            -- Opened by this transaction, or by one that started later but wrote first:
+            -- replace that version rather than close it with an empty range
+            version_time := open_from;
+            DELETE FROM employees_history WHERE employee_id = OLD.id AND valid_to = 'infinity';
+        ELSE
+            UPDATE employees_history SET valid_to = version_time
+            WHERE employee_id = OLD.id AND valid_to = 'infinity';
+        END IF;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        INSERT INTO employees_history (employee_id, first_name, last_name, email, phone, department, position,
+                                       salary, hire_date, manager_id, is_active, tenant_id, valid_from)
+        VALUES (NEW.id, NEW.first_name, NEW.last_name, NEW.email, NEW.phone, NEW.department, NEW.position,
+                NEW.salary, NEW.hire_date, NEW.manager_id, NEW.is_active, NEW.tenant_id, version_time);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Backfill: one open version per existing row. Soft-deleted rows get an active version from
+-- created_at until their last update (the best available deactivation time) and an inactive one after.
+INSERT INTO employees_history (employee_id, first_name, last_name, email, phone, department, position,
+                               salary, hire_date, manager_id, is_active, tenant_id, valid_from, valid_to)
+SELECT id, first_name, last_name, email, phone, department, position, salary, hire_date, manager_id,
+       true, tenant_id, COALESCE(created_at, hire_date::timestamp),
+       CASE WHEN is_active THEN 'infinity'::timestamp ELSE updated_at END
+FROM employees
+WHERE is_active OR updated_at > COALESCE(created_at, hire_date::timestamp);
+
+INSERT INTO employees_history (employee_id, first_name, last_name, email, phone, department, position,
+                               salary, hire_date, manager_id, is_active, tenant_id, valid_from)
+SELECT id, first_name, last_name, email, phone, department, position, salary, hire_date, manager_id,
+       false, tenant_id, COALESCE(updated_at, created_at, hire_date::timestamp)
+FROM employees
+WHERE NOT is_active;
+
+DROP TRIGGER IF EXISTS employees_history_version ON employees;
+CREATE TRIGGER employees_history_version
+    AFTER INSERT OR DELETE OR UPDATE ON employees
+    FOR EACH ROW EXECUTE FUNCTION employees_history_version();
+
+-- One open version per employee; also the trigger's lookup when closing it
+CREATE UNIQUE INDEX IF NOT EXISTS idx_employees_history_current
+    ON employees_history (employee_id) WHERE valid_to = 'infinity';
+-- Versions of one employee in time order
+CREATE INDEX IF NOT EXISTS idx_employees_history_employee
+    ON employees_history (employee_id, valid_from);
+-- EmployeeVersionRepository.findActiveAsOf / findActiveByEmployeeIdInAsOf
+CREATE INDEX IF NOT EXISTS idx_employees_history_active_validity
+    ON employees_history USING gist (tsrange(valid_from, valid_to)) WHERE is_active;
+-- EmployeeVersionRepository.findActiveByDepartmentAsOf
+CREATE INDEX IF NOT EXISTS idx_employees_history_department_validity
+    ON employees_history USING gist (LOWER(department), tsrange(valid_from, valid_to)) WHERE is_active;
+-- EmployeeVersionRepository.findActiveByManagerIdInAsOf / findActiveTopLevelAsOf
+CREATE INDEX IF NOT EXISTS idx_employees_history_manager_validity
+    ON employees_history USING gist (manager_id, tsrange(valid_from, valid_to)) WHERE is_active;
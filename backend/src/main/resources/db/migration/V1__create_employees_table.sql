@@ -0,0 +1,56 @@
+-- V1: Baseline employee schema (database/schema/employee.sql as first released)
+-- Existing databases created from that file are baselined at this version and skip it
+
+-- Create the employees table
+CREATE TABLE IF NOT EXISTS employees (
+    id SERIAL PRIMARY KEY,
+    first_name VARCHAR(50) NOT NULL,
+    last_name VARCHAR(50) NOT NULL,
+    email VARCHAR(100) UNIQUE NOT NULL,
+    phone VARCHAR(20),
+    department VARCHAR(50) NOT NULL,
+    position VARCHAR(100) NOT NULL,
+    salary DECIMAL(10, 2) CHECK (salary > 0),
+    hire_date DATE NOT NULL DEFAULT CURRENT_DATE,
+    manager_id INTEGER REFERENCES employees(id),
+    is_active BOOLEAN DEFAULT true,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Create indexes for better query performance
+CREATE INDEX IF NOT EXISTS idx_employees_email ON employees(email);
+CREATE INDEX IF NOT EXISTS idx_employees_department ON employees(department);
+CREATE INDEX IF NOT EXISTS idx_employees_manager_id ON employees(manager_id);
+CREATE INDEX IF NOT EXISTS idx_employees_is_active ON employees(is_active);
+
+-- Create a function to update the updated_at timestamp
+CREATE OR REPLACE FUNCTION update_updated_at_column()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.updated_at = CURRENT_TIMESTAMP;
+    RETURN NEW;
+END;
+$$ language 'plpgsql';
+
+-- Create a trigger to automatically update the updated_at column
+CREATE TRIGGER update_employees_updated_at
+    BEFORE UPDATE ON employees
+    FOR EACH ROW
+    EXECUTE FUNCTION update_updated_at_column();
+
+-- Add comments to the table and columns for documentation
+COMMENT ON TABLE employees IS 'Employee information and organizational structure';
+COMMENT ON COLUMN employees.id IS 'Unique identifier for each employee';
+COMMENT ON COLUMN employees.first_name IS 'Employee first name';
+COMMENT ON COLUMN employees.last_name IS 'Employee last name';
+COMMENT ON COLUMN employees.email IS 'Employee email address (unique)';
+COMMENT ON COLUMN employees.phone IS 'Employee phone number';
+COMMENT ON COLUMN employees.department IS 'Department where employee works';
+COMMENT ON COLUMN employees.position IS 'Employee job title/position';
+COMMENT ON COLUMN employees.salary IS 'Employee annual salary';
+COMMENT ON COLUMN employees.hire_date IS 'Date when employee was hired';
+COMMENT ON COLUMN employees.manager_id IS 'Reference to manager employee ID';
+COMMENT ON COLUMN employees.is_active IS 'Whether employee is currently active';
+COMMENT ON COLUMN employees.created_at IS 'Timestamp when record was created';
+COMMENT ON COLUMN employees.updated_at IS 'Timestamp when record was last updated';
@@ -0,0 +1,42 @@
+-- V2: Query-aligned index suite (see database/sql-scripts/employee-index-suite.sql)
+-- Built CONCURRENTLY, so Flyway runs this migration outside a transaction and the
+-- employees table stays readable and writable during the build. Requires
+-- spring.flyway.postgresql.transactional-lock=false: with the default transaction-scoped
+-- advisory lock the build waits on Flyway's own open transaction and startup hangs
+
+-- Case-insensitive email checks (existsByEmailIgnoreCase, findByEmailIgnoreCase)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employees_email_lower ON employees (LOWER(email));
+
+-- Active listing and search order; covering for id/fullName/department/position projections
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employees_active_name
+    ON employees (last_name, first_name) INCLUDE (id, department, position) WHERE is_active;
+
+-- findByDepartmentIgnoreCaseAndIsActiveTrue, searchEmployees(department = ...)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employees_active_department
+    ON employees (LOWER(department), last_name, first_name) WHERE is_active;
+
+-- findByPositionIgnoreCaseAndIsActiveTrue, searchEmployees(position = ...)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employees_active_position
+    ON employees (LOWER(position), last_name, first_name) WHERE is_active;
+
+-- findByManagerIdAndIsActiveTrue, findActiveByManagerIdIn
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employees_active_manager
+    ON employees (manager_id, last_name, first_name) WHERE is_active;
+
+-- findByManagerIdIsNullAndIsActiveTrue
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employees_active_top_level
+    ON employees (last_name, first_name) WHERE is_active AND manager_id IS NULL;
+
+-- findByHireDateBetweenAndIsActiveTrue
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employees_active_hire_date
+    ON employees (hire_date) WHERE is_active;
+
+-- findBySalaryBetweenAndIsActiveTrue
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employees_active_salary
+    ON employees (salary) WHERE is_active;
+
+-- Superseded: is_active alone is too unselective, department is covered by the LOWER() index,
+-- and email is already indexed by the UNIQUE constraint
+DROP INDEX CONCURRENTLY IF EXISTS idx_employees_is_active;
+DROP INDEX CONCURRENTLY IF EXISTS idx_employees_department;
+DROP INDEX CONCURRENTLY IF EXISTS idx_employees_email;
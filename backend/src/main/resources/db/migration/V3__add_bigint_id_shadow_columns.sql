@@ -0,0 +1,28 @@
+-- V3: Expand phase of the INTEGER -> BIGINT id migration
+-- Replaces the blocking approach of database/sql-scripts/migrate-id-to-bigint.sql with
+-- expand / backfill / cut over:
+--   V3  add nullable BIGINT shadow columns (metadata-only) and keep them in sync via trigger
+--   V4  backfill existing rows in small batches (Java migration, no long-held locks)
+--   V5  build the unique index the new primary key will use, concurrently
+-- The cut over (swap columns, ADD PRIMARY KEY USING INDEX, switch the entity id to Long)
+-- is a short follow-up migration shipped together with the Java type change.
+
+ALTER TABLE employees ADD COLUMN IF NOT EXISTS id_bigint BIGINT;
+ALTER TABLE employees ADD COLUMN IF NOT EXISTS manager_id_bigint BIGINT;
+
+-- The sequence can outgrow INTEGER once the cut over is done
+ALTER SEQUENCE employees_id_seq AS BIGINT;
+
+CREATE OR REPLACE FUNCTION sync_employee_bigint_ids()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.id_bigint = NEW.id;
+    NEW.manager_id_bigint = NEW.manager_id;
+    RETURN NEW;
+END;
+$$ language 'plpgsql';
+
+CREATE TRIGGER sync_employees_bigint_ids
+    BEFORE INSERT OR UPDATE ON employees
+    FOR EACH ROW
+    EXECUTE FUNCTION sync_employee_bigint_ids();
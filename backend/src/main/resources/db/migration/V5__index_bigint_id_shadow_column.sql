@@ -0,0 +1,4 @@
+-- V5: Unique index for the future BIGINT primary key, built without blocking writes
+-- CONCURRENTLY like V2, so it needs spring.flyway.postgresql.transactional-lock=false as well
+-- At cut over: ALTER TABLE employees ADD CONSTRAINT employees_pkey PRIMARY KEY USING INDEX idx_employees_id_bigint
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS idx_employees_id_bigint ON employees (id_bigint);
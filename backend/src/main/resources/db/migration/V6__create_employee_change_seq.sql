@@ -0,0 +1,6 @@
+-- V6: Version counter for cross-node cache invalidation
+-- Every committed employee write draws a value and broadcasts it with NOTIFY on the
+-- employee_changes channel; a node that reconnects compares last_value with the highest
+-- version it received to detect notifications it missed.
+
+CREATE SEQUENCE IF NOT EXISTS employee_change_seq;
@@ -0,0 +1,20 @@
+-- V7: Change history of employee compliance fields
+-- One row per changed field; written asynchronously in JDBC batches by AuditWriter.
+-- No foreign key to employees so history outlives archival or purges of the employee row.
+
+CREATE TABLE IF NOT EXISTS employee_audit (
+    id BIGSERIAL PRIMARY KEY,
+    employee_id INTEGER NOT NULL,
+    change_type VARCHAR(10) NOT NULL,
+    field_name VARCHAR(30) NOT NULL,
+    old_value VARCHAR(255),
+    new_value VARCHAR(255),
+    changed_at TIMESTAMP NOT NULL,
+    changed_by VARCHAR(100)
+);
+
+-- Serves the per-employee history endpoint (newest first, optionally one field)
+CREATE INDEX IF NOT EXISTS idx_employee_audit_employee_changed
+    ON employee_audit (employee_id, changed_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_employee_audit_employee_field_changed
+    ON employee_audit (employee_id, field_name, changed_at DESC, id DESC);
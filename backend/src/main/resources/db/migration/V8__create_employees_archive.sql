@@ -0,0 +1,28 @@
+-- V8: Cold storage for long-inactive employees
+-- ArchiveServiceImpl moves soft-deleted rows here in chunks, keeping the hot employees table
+-- (and its indexes) sized to the live workforce. Same columns as employees plus archived_at.
+-- No UNIQUE(email): an archived email may be reused by a new hire and archived again later.
+-- No foreign key on manager_id: the manager may be in either table.
+
+CREATE TABLE IF NOT EXISTS employees_archive (
+    id INTEGER PRIMARY KEY,
+    first_name VARCHAR(50) NOT NULL,
+    last_name VARCHAR(50) NOT NULL,
+    email VARCHAR(100) NOT NULL,
+    phone VARCHAR(20),
+    department VARCHAR(50) NOT NULL,
+    position VARCHAR(100) NOT NULL,
+    salary DECIMAL(10, 2),
+    hire_date DATE NOT NULL,
+    manager_id INTEGER,
+    is_active BOOLEAN NOT NULL DEFAULT false,
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_employees_archive_email_lower ON employees_archive (LOWER(email));
+CREATE INDEX IF NOT EXISTS idx_employees_archive_archived_at ON employees_archive (archived_at DESC, id DESC);
+
+-- Finds archival candidates without scanning active rows
+CREATE INDEX IF NOT EXISTS idx_employees_inactive_updated_at ON employees (updated_at, id) WHERE NOT is_active;
@@ -0,0 +1,9 @@
+-- V9: Tenant (subsidiary) of each employee, the key that places rows on a shard
+-- Existing rows belong to the default tenant (app.sharding.default-tenant). A constant default
+-- makes ADD COLUMN a catalog-only change, so large tables are not rewritten.
+
+ALTER TABLE employees ADD COLUMN IF NOT EXISTS tenant_id VARCHAR(50) NOT NULL DEFAULT 'default';
+ALTER TABLE employees_archive ADD COLUMN IF NOT EXISTS tenant_id VARCHAR(50) NOT NULL DEFAULT 'default';
+
+-- Several tenants can share a shard; tenant-scoped list and search filter on tenant_id first
+CREATE INDEX IF NOT EXISTS idx_employees_tenant_active ON employees (tenant_id, is_active);
@@ -0,0 +1,54 @@
+#!/bin/bash
+
+# Measure time-to-ready and resident memory for each startup variant
+# Usage: ./startup-benchmark.sh [runs]
+# Prerequisites (skip any variant you have not built):
+#   mvn -B package -DskipTests            -> plain jar
+#   mvn -B package -DskipTests -Paot      -> AOT jar (build into a copy, see README)
+#   ./build-cds.sh                        -> CDS archive
+#   mvn -Pnative native:compile           -> target/employee-backend native binary
+
+RUNS=${1:-5}
+HEALTH_URL="http://localhost:8081/api/v1/employees/health"
+MAIN_CLASS=com.employee.management.EmployeeManagementApplication
+JAR=$(ls target/employee-backend-*.jar 2>/dev/null | grep -v original | head -1)
+
+measure() {
+    local label=$1
+    shift
+    local total_ms=0
+    local total_rss=0
+
+    for ((i = 1; i <= RUNS; i++)); do
+        local start end pid rss
+        start=$(date +%s%N)
+        "$@" --spring.profiles.active=prod > /dev/null 2>&1 &
+        pid=$!
+        until curl -s -o /dev/null "$HEALTH_URL"; do
+            sleep 0.05
+            if ! kill -0 $pid 2>/dev/null; then
+                echo "$label: process exited before becoming ready"
+                return
+            fi
+        done
+        end=$(date +%s%N)
+        rss=$(ps -o rss= -p $pid)
+        kill $pid
+        wait $pid 2>/dev/null
+        total_ms=$((total_ms + (end - start) / 1000000))
+        total_rss=$((total_rss + rss))
+    done
+
+    printf "%-14s ready=%6d ms  rss=%6d MB\n" "$label" $((total_ms / RUNS)) $((total_rss / RUNS / 1024))
+}
+
+echo "Averages over $RUNS runs"
+
+[ -n "$JAR" ] && measure "jar" java -jar "$JAR"
+[ -n "$JAR" ] && measure "jar+lazy" java -jar "$JAR" --spring.main.lazy-initialization=true
+if [ -f target/cds/app.jsa ]; then
+    measure "cds" java -XX:SharedArchiveFile=target/cds/app.jsa -cp "target/cds/classes:target/cds/lib/*" "$MAIN_CLASS"
+    measure "cds+aot" java -XX:SharedArchiveFile=target/cds/app.jsa -Dspring.aot.enabled=true \
+        -cp "target/cds/classes:target/cds/lib/*" "$MAIN_CLASS"
+fi
+[ -x target/employee-backend ] && measure "native" target/employee-backend
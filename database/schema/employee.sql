@@ -19,10 +19,22 @@ CREATE TABLE IF NOT EXISTS employees (
 );
 
 -- Create indexes for better query performance
-CREATE INDEX IF NOT EXISTS idx_employees_email ON employees(email);
-CREATE INDEX IF NOT EXISTS idx_employees_department ON employees(department);
-CREATE INDEX IF NOT EXISTS idx_employees_manager_id ON employees(manager_id);
-CREATE INDEX IF NOT EXISTS idx_employees_is_active ON employees(is_active);
+-- Shaped after EmployeeRepository queries: LOWER() for case-insensitive matches, partial
+-- "WHERE is_active" indexes for active-only lookups, (last_name, first_name) as the sort suffix
+CREATE INDEX IF NOT EXISTS idx_employees_email_lower ON employees (LOWER(email));
+CREATE INDEX IF NOT EXISTS idx_employees_manager_id ON employees (manager_id);
+CREATE INDEX IF NOT EXISTS idx_employees_active_name
+    ON employees (last_name, first_name) INCLUDE (id, department, position) WHERE is_active;
+CREATE INDEX IF NOT EXISTS idx_employees_active_department
+    ON employees (LOWER(department), last_name, first_name) WHERE is_active;
+CREATE INDEX IF NOT EXISTS idx_employees_active_position
+    ON employees (LOWER(position), last_name, first_name) WHERE is_active;
+CREATE INDEX IF NOT EXISTS idx_employees_active_manager
+    ON employees (manager_id, last_name, first_name) WHERE is_active;
+CREATE INDEX IF NOT EXISTS idx_employees_active_top_level
+    ON employees (last_name, first_name) WHERE is_active AND manager_id IS NULL;
+CREATE INDEX IF NOT EXISTS idx_employees_active_hire_date ON employees (hire_date) WHERE is_active;
+CREATE INDEX IF NOT EXISTS idx_employees_active_salary ON employees (salary) WHERE is_active;
 
 -- Create a function to update the updated_at timestamp
 CREATE OR REPLACE FUNCTION update_updated_at_column()
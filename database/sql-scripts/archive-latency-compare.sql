@@ -0,0 +1,56 @@
+-- Hot-table size and query latency, for comparing before and after an archival run
+-- Run once, trigger archival (POST /api/v1/archive/run), run again and compare:
+--   psql -h localhost -U admin -d employee_db -f archive-latency-compare.sql
+-- seed-synthetic-employees.sql stamps every row with the current time; to make its inactive rows
+-- eligible, age them past the retention period first:
+--   UPDATE employees SET updated_at = now() - INTERVAL '400 days'
+--   WHERE NOT is_active AND email LIKE '%@synthetic.local';
+
+-- Table and index size, live and dead tuples
+SELECT relname,
+       pg_size_pretty(pg_relation_size(relid))       AS table_size,
+       pg_size_pretty(pg_indexes_size(relid))        AS index_size,
+       n_live_tup,
+       n_dead_tup,
+       last_autovacuum,
+       last_analyze
+FROM pg_stat_user_tables
+WHERE relname IN ('employees', 'employees_active', 'employees_inactive', 'employees_archive')
+ORDER BY relname;
+
+-- Rows still eligible for archival (kept because a live row names them as manager)
+SELECT COUNT(*) AS inactive_beyond_retention
+FROM employees
+WHERE NOT is_active AND updated_at < now() - INTERVAL '365 days';
+
+-- EmployeeRepository.findByIsActiveTrue(Pageable)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM employees e WHERE e.is_active = true
+ORDER BY e.first_name ASC
+LIMIT 20 OFFSET 0;
+
+-- EmployeeRepository.searchEmployees(...)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM employees e
+WHERE (LOWER(e.first_name) LIKE '%smith%'
+       OR LOWER(e.last_name) LIKE '%smith%'
+       OR LOWER(e.email) LIKE '%smith%'
+       OR LOWER(e.department) LIKE '%smith%'
+       OR LOWER(e.position) LIKE '%smith%')
+  AND e.is_active = true
+ORDER BY e.last_name, e.first_name
+LIMIT 10 OFFSET 0;
+
+-- EmployeeRepository.findByDepartmentIgnoreCaseAndIsActiveTrue(...)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM employees e WHERE UPPER(e.department) = UPPER('Engineering') AND e.is_active;
+
+-- EmployeeRepository.existsByEmail(...)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT 1 FROM employees e WHERE e.email = 'synthetic.42@synthetic.local' LIMIT 1;
+
+-- ArchivedEmployeeRepository.findByEmailIgnoreCase(...)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM employees_archive a
+WHERE LOWER(a.email) = LOWER('synthetic.10@synthetic.local')
+ORDER BY a.archived_at DESC;
@@ -0,0 +1,71 @@
+-- EXPLAIN and timing of the as-of queries over employees_history
+--   psql -h localhost -U admin -d employee_db -v asof=2023-06-30T23:59:59 -f employee-history-asof-explain.sql
+-- Seed history first with seed-employee-history.sql. Each plan should be a scan of one of the
+-- V10 GiST indexes (idx_employees_history_*_validity) rather than a sequential scan of all versions.
+
+\if :{?asof}
+\else
+\set asof 2023-06-30T23:59:59
+\endif
+
+-- History size per open/closed version and index sizes
+SELECT count(*) FILTER (WHERE valid_to = 'infinity') AS open_versions,
+       count(*) FILTER (WHERE valid_to <> 'infinity') AS closed_versions,
+       pg_size_pretty(pg_total_relation_size('employees_history')) AS total_size
+FROM employees_history;
+
+SELECT indexrelname, pg_size_pretty(pg_relation_size(indexrelid)) AS size, idx_scan
+FROM pg_stat_user_indexes
+WHERE relname = 'employees_history'
+ORDER BY indexrelname;
+
+-- EmployeeVersionRepository.findActiveAsOf(...)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT h.* FROM employees_history h
+WHERE h.is_active AND tsrange(h.valid_from, h.valid_to) @> CAST(:'asof' AS timestamp)
+ORDER BY h.last_name, h.first_name;
+
+-- EmployeeVersionRepository.findActiveByDepartmentAsOf(...)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT h.* FROM employees_history h
+WHERE h.is_active AND tsrange(h.valid_from, h.valid_to) @> CAST(:'asof' AS timestamp)
+  AND LOWER(h.department) = LOWER('Engineering')
+ORDER BY h.last_name, h.first_name;
+
+-- EmployeeVersionRepository.findActiveByEmployeeIdInAsOf(...)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT h.* FROM employees_history h
+WHERE h.is_active AND tsrange(h.valid_from, h.valid_to) @> CAST(:'asof' AS timestamp)
+  AND h.employee_id IN (SELECT id FROM employees ORDER BY id LIMIT 500);
+
+-- EmployeeVersionRepository.findActiveByManagerIdInAsOf(...)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT h.* FROM employees_history h
+WHERE h.is_active AND tsrange(h.valid_from, h.valid_to) @> CAST(:'asof' AS timestamp)
+  AND h.manager_id IN (SELECT id FROM employees ORDER BY id LIMIT 500)
+ORDER BY h.last_name, h.first_name;
+
+-- EmployeeVersionRepository.findActiveTopLevelAsOf(...)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT h.* FROM employees_history h
+WHERE h.is_active AND tsrange(h.valid_from, h.valid_to) @> CAST(:'asof' AS timestamp)
+  AND h.manager_id IS NULL
+ORDER BY h.last_name, h.first_name;
+
+-- Department roster latency at the end of each of the last five years, to check that an as-of
+-- read costs the same however far back it goes
+DO $$
+DECLARE
+    instant TIMESTAMP;
+    started TIMESTAMP;
+    matched BIGINT;
+BEGIN
+    FOR years_back IN 0..5 LOOP
+        instant := date_trunc('year', LOCALTIMESTAMP) - make_interval(years => years_back) - INTERVAL '1 microsecond';
+        started := clock_timestamp();
+        SELECT count(*) INTO matched FROM employees_history h
+        WHERE h.is_active AND tsrange(h.valid_from, h.valid_to) @> instant
+          AND LOWER(h.department) = LOWER('Engineering');
+        RAISE NOTICE 'as of %: % employees in %', instant, matched, clock_timestamp() - started;
+    END LOOP;
+END $$;
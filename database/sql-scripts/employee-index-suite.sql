@@ -0,0 +1,45 @@
+-- Migration script to replace the single-column indexes with the query-aligned index suite
+-- Indexes are built CONCURRENTLY so reads and writes continue during the build; run this
+-- file with psql outside a transaction (no BEGIN/COMMIT):
+--   psql -h localhost -U admin -d employee_db -f employee-index-suite.sql
+-- If the table has been partitioned (partition-employees-by-active.sql), CONCURRENTLY is not
+-- allowed on the parent: build each index on employees_active concurrently instead.
+
+-- Case-insensitive email checks (existsByEmailIgnoreCase, findByEmailIgnoreCase)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employees_email_lower ON employees (LOWER(email));
+
+-- Active listing and search order; covering for id/fullName/department/position projections
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employees_active_name
+    ON employees (last_name, first_name) INCLUDE (id, department, position) WHERE is_active;
+
+-- findByDepartmentIgnoreCaseAndIsActiveTrue, searchEmployees(department = ...)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employees_active_department
+    ON employees (LOWER(department), last_name, first_name) WHERE is_active;
+
+-- findByPositionIgnoreCaseAndIsActiveTrue, searchEmployees(position = ...)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employees_active_position
+    ON employees (LOWER(position), last_name, first_name) WHERE is_active;
+
+-- findByManagerIdAndIsActiveTrue, findActiveByManagerIdIn
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employees_active_manager
+    ON employees (manager_id, last_name, first_name) WHERE is_active;
+
+-- findByManagerIdIsNullAndIsActiveTrue
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employees_active_top_level
+    ON employees (last_name, first_name) WHERE is_active AND manager_id IS NULL;
+
+-- findByHireDateBetweenAndIsActiveTrue
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employees_active_hire_date
+    ON employees (hire_date) WHERE is_active;
+
+-- findBySalaryBetweenAndIsActiveTrue
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employees_active_salary
+    ON employees (salary) WHERE is_active;
+
+-- Superseded: is_active alone is too unselective, department is covered by the LOWER() index,
+-- and email is already indexed by the UNIQUE constraint
+DROP INDEX CONCURRENTLY IF EXISTS idx_employees_is_active;
+DROP INDEX CONCURRENTLY IF EXISTS idx_employees_department;
+DROP INDEX CONCURRENTLY IF EXISTS idx_employees_email;
+
+ANALYZE employees;
@@ -1,5 +1,8 @@
 -- Migration script to change employee ID from SERIAL (INTEGER) to BIGSERIAL (BIGINT)
 -- This ensures compatibility with JPA Long type
+-- NOTE: superseded by the Flyway migrations V3-V5 in backend/src/main/resources/db/migration,
+-- which do the same change online (shadow columns, batched backfill, concurrent index).
+-- This script rewrites the table under an exclusive lock; use it only on small, offline databases.
 
 -- Step 1: Create a temporary column with BIGINT type
 ALTER TABLE employees ADD COLUMN temp_id BIGSERIAL;
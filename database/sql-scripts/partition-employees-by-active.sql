@@ -0,0 +1,216 @@
+-- Migration script to list-partition the employees table on is_active
+-- Active rows live in employees_active, soft-deleted rows in employees_inactive, so every
+-- query that filters on is_active = true is pruned to the (small, hot) active partition.
+-- Requires PostgreSQL 13+ (row triggers on partitioned tables). Run inside a maintenance window
+-- with the application stopped: the copy takes an ACCESS EXCLUSIVE lock on employees.
+--   psql -h localhost -U admin -d employee_db -v ON_ERROR_STOP=1 -f partition-employees-by-active.sql
+--
+-- Written against the schema as of Flyway V10 (tenant_id, the id_bigint shadow columns, the
+-- history trigger). Step 0 aborts before anything changes if employees has a column, trigger or
+-- index this script does not know, so a newer migration is never silently dropped by the copy.
+-- Once partitioned, later migrations on employees must not use CREATE INDEX CONCURRENTLY on the
+-- parent (see employee-index-suite.sql).
+--
+-- Constraints that change with partitioning:
+--   * The primary key must contain the partition key, so it becomes (id, is_active).
+--     id values stay unique because they all come from employees_id_seq.
+--   * UNIQUE(email) cannot be enforced across partitions; a trigger-maintained
+--     employee_email_registry enforces case-insensitive uniqueness instead.
+--   * manager_id can no longer be a foreign key (it would need a unique index on id alone);
+--     EmployeeServiceImpl already validates managers on every write.
+--   * The V5 unique index on id_bigint becomes (id_bigint, is_active); at the BIGINT cut over the
+--     primary key is (id_bigint, is_active) instead of PRIMARY KEY USING INDEX.
+--
+-- The original table is kept as employees_unpartitioned (its indexes renamed with an
+-- _unpartitioned suffix) until the copy has been checked; drop it by hand afterwards.
+
+BEGIN;
+
+-- Step 0: Fail fast if the table has drifted from the schema this script copies
+DO $$
+DECLARE
+    unknown TEXT;
+BEGIN
+    SELECT string_agg(column_name, ', ') INTO unknown
+    FROM information_schema.columns
+    WHERE table_schema = current_schema() AND table_name = 'employees'
+      AND column_name NOT IN ('id', 'first_name', 'last_name', 'email', 'phone', 'department', 'position',
+                              'salary', 'hire_date', 'manager_id', 'is_active', 'created_at', 'updated_at',
+                              'id_bigint', 'manager_id_bigint', 'tenant_id');
+    IF unknown IS NOT NULL THEN
+        RAISE EXCEPTION 'employees has columns this script does not copy: %', unknown;
+    END IF;
+
+    SELECT string_agg(column_name, ', ') INTO unknown
+    FROM unnest(ARRAY['id_bigint', 'manager_id_bigint', 'tenant_id']) AS expected(column_name)
+    WHERE NOT EXISTS (SELECT 1 FROM information_schema.columns c
+                      WHERE c.table_schema = current_schema() AND c.table_name = 'employees'
+                        AND c.column_name = expected.column_name);
+    IF unknown IS NOT NULL THEN
+        RAISE EXCEPTION 'employees is missing columns (apply Flyway migrations up to V10 first): %', unknown;
+    END IF;
+
+    SELECT string_agg(tgname, ', ') INTO unknown
+    FROM pg_trigger
+    WHERE tgrelid = 'employees'::regclass AND NOT tgisinternal
+      AND tgname NOT IN ('update_employees_updated_at', 'sync_employees_bigint_ids', 'employees_history_version');
+    IF unknown IS NOT NULL THEN
+        RAISE EXCEPTION 'employees has triggers this script does not recreate: %', unknown;
+    END IF;
+
+    SELECT string_agg(indexname, ', ') INTO unknown
+    FROM pg_indexes
+    WHERE schemaname = current_schema() AND tablename = 'employees'
+      AND indexname NOT IN ('employees_pkey', 'employees_email_key', 'idx_employees_manager_id',
+                            'idx_employees_email', 'idx_employees_department', 'idx_employees_is_active',
+                            'idx_employees_email_lower', 'idx_employees_active_name',
+                            'idx_employees_active_department', 'idx_employees_active_position',
+                            'idx_employees_active_manager', 'idx_employees_active_top_level',
+                            'idx_employees_active_hire_date', 'idx_employees_active_salary',
+                            'idx_employees_id_bigint', 'idx_employees_inactive_updated_at',
+                            'idx_employees_tenant_active');
+    IF unknown IS NOT NULL THEN
+        RAISE EXCEPTION 'employees has indexes this script does not recreate: %', unknown;
+    END IF;
+END $$;
+
+-- Step 1: Move the existing table aside, keeping its id sequence
+-- Triggers are dropped so nothing writes history or shadow ids for the old copy; indexes are
+-- renamed so their names are free for the partitioned table
+ALTER SEQUENCE employees_id_seq OWNED BY NONE;
+ALTER TABLE employees RENAME TO employees_unpartitioned;
+DROP TRIGGER IF EXISTS update_employees_updated_at ON employees_unpartitioned;
+DROP TRIGGER IF EXISTS sync_employees_bigint_ids ON employees_unpartitioned;
+DROP TRIGGER IF EXISTS employees_history_version ON employees_unpartitioned;
+
+DO $$
+DECLARE
+    idx RECORD;
+BEGIN
+    FOR idx IN SELECT indexname FROM pg_indexes
+               WHERE schemaname = current_schema() AND tablename = 'employees_unpartitioned' LOOP
+        EXECUTE format('ALTER INDEX %I RENAME TO %I', idx.indexname, idx.indexname || '_unpartitioned');
+    END LOOP;
+END $$;
+
+-- Step 2: Create the partitioned table with the same columns
+CREATE TABLE employees (
+    id INTEGER NOT NULL DEFAULT nextval('employees_id_seq'),
+    first_name VARCHAR(50) NOT NULL,
+    last_name VARCHAR(50) NOT NULL,
+    email VARCHAR(100) NOT NULL,
+    phone VARCHAR(20),
+    department VARCHAR(50) NOT NULL,
+    position VARCHAR(100) NOT NULL,
+    salary DECIMAL(10, 2) CHECK (salary > 0),
+    hire_date DATE NOT NULL DEFAULT CURRENT_DATE,
+    manager_id INTEGER,
+    is_active BOOLEAN NOT NULL DEFAULT true,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    id_bigint BIGINT,
+    manager_id_bigint BIGINT,
+    tenant_id VARCHAR(50) NOT NULL DEFAULT 'default',
+    PRIMARY KEY (id, is_active)
+) PARTITION BY LIST (is_active);
+
+CREATE TABLE employees_active PARTITION OF employees FOR VALUES IN (true);
+CREATE TABLE employees_inactive PARTITION OF employees FOR VALUES IN (false);
+
+ALTER SEQUENCE employees_id_seq OWNED BY employees.id;
+
+-- Step 3: Case-insensitive email registry replacing UNIQUE(email)
+CREATE TABLE IF NOT EXISTS employee_email_registry (
+    email_lower VARCHAR(100) PRIMARY KEY,
+    employee_id INTEGER NOT NULL UNIQUE
+);
+
+CREATE OR REPLACE FUNCTION sync_employee_email_registry()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        DELETE FROM employee_email_registry WHERE employee_id = OLD.id;
+        RETURN OLD;
+    END IF;
+
+    -- A row moving between partitions fires DELETE then INSERT, which nets out here
+    DELETE FROM employee_email_registry
+    WHERE employee_id = NEW.id AND email_lower <> LOWER(NEW.email);
+    INSERT INTO employee_email_registry (email_lower, employee_id)
+    VALUES (LOWER(NEW.email), NEW.id)
+    ON CONFLICT (employee_id) DO NOTHING;
+    RETURN NEW;
+END;
+$$ language 'plpgsql';
+
+CREATE TRIGGER sync_employees_email_registry
+    AFTER INSERT OR UPDATE OF email OR DELETE ON employees
+    FOR EACH ROW
+    EXECUTE FUNCTION sync_employee_email_registry();
+
+-- V3: keep the BIGINT shadow columns in sync
+CREATE TRIGGER sync_employees_bigint_ids
+    BEFORE INSERT OR UPDATE ON employees
+    FOR EACH ROW
+    EXECUTE FUNCTION sync_employee_bigint_ids();
+
+-- Step 4: Copy the data (rows are routed to their partition automatically)
+-- The id sequence is left alone: every copied row keeps its id, and with sharding the sequence
+-- position belongs to the shard's id range
+INSERT INTO employees (id, first_name, last_name, email, phone, department, position, salary,
+                       hire_date, manager_id, is_active, created_at, updated_at,
+                       id_bigint, manager_id_bigint, tenant_id)
+SELECT id, first_name, last_name, email, phone, department, position, salary,
+       hire_date, manager_id, COALESCE(is_active, true), created_at, updated_at,
+       id_bigint, manager_id_bigint, tenant_id
+FROM employees_unpartitioned;
+
+DO $$
+BEGIN
+    IF (SELECT COUNT(*) FROM employees) <> (SELECT COUNT(*) FROM employees_unpartitioned) THEN
+        RAISE EXCEPTION 'Row count mismatch after copying employees';
+    END IF;
+END $$;
+
+-- Step 5: Triggers added after the copy
+-- V10 history: created after the copy, because every copied row already has its open version
+CREATE TRIGGER employees_history_version
+    AFTER INSERT OR DELETE OR UPDATE ON employees
+    FOR EACH ROW EXECUTE FUNCTION employees_history_version();
+
+CREATE TRIGGER update_employees_updated_at
+    BEFORE UPDATE ON employees
+    FOR EACH ROW
+    EXECUTE FUNCTION update_updated_at_column();
+
+-- Step 6: Indexes
+-- Both partitions: lookups by id/email/manager, tenant scoping, the BIGINT key (V3/V5, V9)
+CREATE INDEX IF NOT EXISTS idx_employees_email_lower ON employees (LOWER(email));
+CREATE INDEX IF NOT EXISTS idx_employees_manager_id ON employees (manager_id);
+CREATE INDEX IF NOT EXISTS idx_employees_tenant_active ON employees (tenant_id, is_active);
+CREATE UNIQUE INDEX IF NOT EXISTS idx_employees_id_bigint ON employees (id_bigint, is_active);
+
+-- Active partition: every row is active, so these match the V2 "WHERE is_active" indexes
+CREATE INDEX IF NOT EXISTS idx_employees_active_name
+    ON employees_active (last_name, first_name) INCLUDE (id, department, position);
+CREATE INDEX IF NOT EXISTS idx_employees_active_department
+    ON employees_active (LOWER(department), last_name, first_name);
+CREATE INDEX IF NOT EXISTS idx_employees_active_position
+    ON employees_active (LOWER(position), last_name, first_name);
+CREATE INDEX IF NOT EXISTS idx_employees_active_manager
+    ON employees_active (manager_id, last_name, first_name);
+CREATE INDEX IF NOT EXISTS idx_employees_active_top_level
+    ON employees_active (last_name, first_name) WHERE manager_id IS NULL;
+CREATE INDEX IF NOT EXISTS idx_employees_active_hire_date ON employees_active (hire_date);
+CREATE INDEX IF NOT EXISTS idx_employees_active_salary ON employees_active (salary);
+
+-- Inactive partition: archival candidates (V8)
+CREATE INDEX IF NOT EXISTS idx_employees_inactive_updated_at ON employees_inactive (updated_at, id);
+
+COMMIT;
+
+ANALYZE employees;
+
+-- Verify the change, then drop the old copy by hand:
+--   DROP TABLE employees_unpartitioned;
+\d+ employees;
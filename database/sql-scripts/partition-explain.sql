@@ -0,0 +1,34 @@
+-- EXPLAIN checks for partition pruning on the hot repository paths
+-- Run before and after partition-employees-by-active.sql and compare the plans:
+--   psql -h localhost -U admin -d employee_db -f partition-explain.sql
+-- After partitioning, active-only plans should scan employees_active only.
+
+-- EmployeeRepository.findByIsActiveTrue()
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM employees e WHERE e.is_active = true;
+
+-- EmployeeRepository.findByIsActiveTrue(Pageable)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM employees e WHERE e.is_active = true
+ORDER BY e.first_name ASC
+LIMIT 20 OFFSET 0;
+
+-- EmployeeRepository.searchEmployees(...)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM employees e
+WHERE (LOWER(e.first_name) LIKE '%smith%'
+       OR LOWER(e.last_name) LIKE '%smith%'
+       OR LOWER(e.email) LIKE '%smith%'
+       OR LOWER(e.department) LIKE '%smith%'
+       OR LOWER(e.position) LIKE '%smith%')
+  AND e.is_active = true
+ORDER BY e.last_name, e.first_name
+LIMIT 10 OFFSET 0;
+
+-- EmployeeRepository.findByDepartmentIgnoreCaseAndIsActiveTrue(...)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM employees e WHERE UPPER(e.department) = UPPER('Engineering') AND e.is_active;
+
+-- EmployeeRepository.countEmployeesByDepartment()
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT e.department, COUNT(*) FROM employees e WHERE e.is_active = true GROUP BY e.department;
@@ -0,0 +1,51 @@
+-- Seed multi-year version history for the synthetic employees, for as-of benchmarks
+-- Usage: psql -d employee_db -v years=5 -v versions=8 -f seed-employee-history.sql
+-- Run after seed-synthetic-employees.sql and the V10 migration. Each synthetic employee gets
+-- `versions` consecutive versions spread over the last `years` years, moving between departments,
+-- positions and managers; the last one is open and matches the current row, so the trigger keeps
+-- versioning later writes. Every 50th employee is top-level in the older versions.
+
+\if :{?years}
+\else
+\set years 5
+\endif
+\if :{?versions}
+\else
+\set versions 8
+\endif
+
+BEGIN;
+
+DELETE FROM employees_history h
+USING employees e
+WHERE h.employee_id = e.id AND e.email LIKE '%@synthetic.local';
+
+INSERT INTO employees_history (employee_id, first_name, last_name, email, phone, department, position,
+                               salary, hire_date, manager_id, is_active, tenant_id, valid_from, valid_to)
+SELECT
+    e.id, e.first_name, e.last_name, e.email, e.phone,
+    CASE WHEN v = :versions - 1 THEN e.department
+         ELSE (ARRAY['Engineering','Sales','Marketing','Finance','Human Resources','Operations','Support','Legal'])[1 + (e.id + v) % 8] END,
+    CASE WHEN v = :versions - 1 THEN e.position
+         ELSE (ARRAY['Associate','Analyst','Senior Analyst','Engineer','Senior Engineer','Lead','Manager','Director'])[1 + (e.id / 8 + v) % 8] END,
+    CASE WHEN v = :versions - 1 THEN e.salary ELSE round(e.salary * (0.6 + 0.4 * v / :versions), 2) END,
+    e.hire_date,
+    CASE WHEN v = :versions - 1 THEN e.manager_id ELSE NULLIF(e.id - (e.id + v) % 50, e.id) END,
+    CASE WHEN v = :versions - 1 THEN e.is_active ELSE true END,
+    e.tenant_id,
+    s.start + v * s.step + (e.id % 1000) * INTERVAL '1 minute',
+    CASE WHEN v = :versions - 1 THEN 'infinity'::timestamp
+         ELSE s.start + (v + 1) * s.step + (e.id % 1000) * INTERVAL '1 minute' END
+FROM employees e
+CROSS JOIN generate_series(0, :versions - 1) AS v
+CROSS JOIN (SELECT LOCALTIMESTAMP - make_interval(years => :years) AS start,
+                   make_interval(years => :years) / :versions AS step) AS s
+WHERE e.email LIKE '%@synthetic.local';
+
+COMMIT;
+
+ANALYZE employees_history;
+
+-- Remove the seeded history again (the current versions follow the rows when they are deleted):
+-- DELETE FROM employees_history h USING employees e
+-- WHERE h.employee_id = e.id AND e.email LIKE '%@synthetic.local' AND h.valid_to <> 'infinity';
@@ -0,0 +1,28 @@
+-- Seed synthetic employees for load and latency testing
+-- Usage: psql -d employee_db -v rows=1000000 -f seed-synthetic-employees.sql
+-- Rows use the synthetic.local email domain so they can be removed with the DELETE at the bottom.
+
+\if :{?rows}
+\else
+\set rows 1000000
+\endif
+
+INSERT INTO employees (first_name, last_name, email, phone, department, position, salary, hire_date, manager_id, is_active)
+SELECT
+    (ARRAY['James','Mary','Robert','Patricia','John','Jennifer','Michael','Linda','David','Elizabeth'])[1 + n % 10],
+    (ARRAY['Smith','Johnson','Williams','Brown','Jones','Garcia','Miller','Davis','Rodriguez','Martinez',
+           'Hernandez','Lopez','Gonzalez','Wilson','Anderson','Thomas','Taylor','Moore','Jackson','Martin'])[1 + (n / 10) % 20],
+    'synthetic.' || n || '@synthetic.local',
+    NULL,
+    (ARRAY['Engineering','Sales','Marketing','Finance','Human Resources','Operations','Support','Legal'])[1 + n % 8],
+    (ARRAY['Associate','Analyst','Senior Analyst','Engineer','Senior Engineer','Lead','Manager','Director'])[1 + (n / 8) % 8],
+    round((40000 + random() * 160000)::numeric, 2),
+    DATE '2005-01-01' + (random() * 7000)::int,
+    NULL,
+    n % 10 <> 0
+FROM generate_series(1, :rows) AS n;
+
+ANALYZE employees;
+
+-- Remove the synthetic rows again:
+-- DELETE FROM employees WHERE email LIKE '%@synthetic.local';